@@ -0,0 +1,56 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.BacktestParams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 코인 3년치 분봉 백테스트 1회 재생 시간 (단일 스레드)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BacktestEngineBenchmark {
+
+    private static final Coin[] COINS = Coin.values();
+
+    private CandleSeries.View[] candles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int minutes = 3 * 365 * 24 * 60;
+        SplittableRandom random = new SplittableRandom(42);
+        candles = new CandleSeries.View[COINS.length];
+        for (Coin coin : COINS) {
+            CandleSeries series = new CandleSeries(minutes);
+            double price = 100;
+            for (int i = 0; i < minutes; i++) {
+                double next = price * (1 + (random.nextDouble() - 0.5) * 0.003);
+                series.append(i * 60L, price, Math.max(price, next) * 1.0005, Math.min(price, next) * 0.9995, next, 1);
+                price = next;
+            }
+            candles[coin.ordinal()] = series.view();
+        }
+    }
+
+    @Benchmark
+    public int allCoins() {
+        int trades = 0;
+        for (Coin coin : COINS) {
+            trades += BacktestEngine.run(coin, CandleInterval.MINUTE_1, candles[coin.ordinal()], BacktestParams.LIVE).trades().size();
+        }
+        return trades;
+    }
+}
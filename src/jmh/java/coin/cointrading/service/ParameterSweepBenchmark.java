@@ -0,0 +1,72 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.BacktestParams;
+import coin.cointrading.dto.BacktestResult;
+import coin.cointrading.dto.SweepRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파라미터 탐색 처리량의 코어 수 대비 확장성
+ * 코인별 1년치 분봉 x 기본 격자(90개 조합)를 병렬 수준별로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParameterSweepBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private ForkJoinPool pool;
+    private Map<Coin, CandleSeries.View> candles;
+    private List<BacktestParams> grid;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism);
+        grid = SweepService.grid(new SweepRequest());
+        candles = new EnumMap<>(Coin.class);
+
+        int minutes = 365 * 24 * 60;
+        SplittableRandom random = new SplittableRandom(42);
+        for (Coin coin : Coin.values()) {
+            CandleSeries series = new CandleSeries(minutes);
+            double price = 100;
+            for (int i = 0; i < minutes; i++) {
+                double next = price * (1 + (random.nextDouble() - 0.5) * 0.003);
+                series.append(i * 60L, price, Math.max(price, next) * 1.0005, Math.min(price, next) * 0.9995, next, 1);
+                price = next;
+            }
+            candles.put(coin, series.view());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public List<BacktestResult> sweep() {
+        return ParameterSweep.run(pool, CandleInterval.MINUTE_1, candles, grid);
+    }
+}
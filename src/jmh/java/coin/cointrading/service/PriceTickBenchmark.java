@@ -0,0 +1,66 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.Coin;
+import coin.cointrading.domain.MarketStateStore;
+import coin.cointrading.dto.PriceTickEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시세 1건 평가(목표가 / 손절가 비교) 비용, 주문이 나가지 않는 평상시 경로를 전체 코인에 번갈아 적용
+ * WAITING: 매수 전 목표가 미만, HOLDING: 매수 후 손절가 위
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PriceTickBenchmark {
+
+    private static final Coin[] COINS = Coin.values();
+
+    @Param({"WAITING", "HOLDING"})
+    public String phase;
+
+    private TradingService tradingService;
+    private PriceTickEvent[] ticks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MarketStateStore marketStateStore = new MarketStateStore();
+        ticks = new PriceTickEvent[COINS.length];
+        for (Coin coin : COINS) {
+            marketStateStore.resetDay(coin, 110);
+            if (phase.equals("HOLDING")) marketStateStore.setTradedToday(coin, true);
+            ticks[coin.ordinal()] = new PriceTickEvent(coin, phase.equals("HOLDING") ? 112 : 108);
+        }
+
+        // 평가 경로에서 쓰지 않는 의존성은 비워 둠
+        tradingService = new TradingService(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>(),
+                Set.of(), new SchedulerControlService(), null, marketStateStore, null, new Semaphore(1),
+                null, null, null, null, null, new TradingMetrics(new SimpleMeterRegistry(), new Semaphore(1)),
+                new OrderTraceRecorder(16));
+    }
+
+    private int next;
+
+    /**
+     * 코인을 번갈아 가며 1건씩 평가
+     */
+    @Benchmark
+    public void evaluate() {
+        tradingService.onPriceTick(ticks[next]);
+        next = next + 1 == ticks.length ? 0 : next + 1;
+    }
+}
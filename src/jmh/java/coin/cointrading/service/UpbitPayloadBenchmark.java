@@ -0,0 +1,154 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.Role;
+import coin.cointrading.domain.TradeInfo;
+import coin.cointrading.domain.User;
+import coin.cointrading.dto.UpbitCandlePage;
+import coin.cointrading.util.UpbitJsonReader;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캔들 응답(1회 최대 200개) 역직렬화와 매도 후 주문 내역에서 거래 기록을 만드는 비용
+ * legacyParseDayCandles는 캔들 DTO(LegacyCandle)로 바인딩하던 이전 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UpbitPayloadBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private String candles;
+    private List<Map<String, Object>> orders;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SplittableRandom random = new SplittableRandom(42);
+        List<Map<String, Object>> page = new ArrayList<>();
+        LocalDate day = LocalDate.of(2025, 1, 2);
+        double price = 145_000_000;
+        for (int i = 0; i < 200; i++, day = day.minusDays(1)) {
+            double open = price * (1 + (random.nextDouble() - 0.5) * 0.04);
+            Map<String, Object> candle = new LinkedHashMap<>();
+            candle.put("market", "KRW-BTC");
+            candle.put("candle_date_time_utc", day + "T00:00:00");
+            candle.put("candle_date_time_kst", day + "T09:00:00");
+            candle.put("opening_price", open);
+            candle.put("high_price", Math.max(open, price) * 1.01);
+            candle.put("low_price", Math.min(open, price) * 0.99);
+            candle.put("trade_price", price);
+            candle.put("timestamp", 1735776000000L - i * 86_400_000L);
+            candle.put("candle_acc_trade_price", 261234567890.5432);
+            candle.put("candle_acc_trade_volume", 1799.87654321);
+            candle.put("prev_closing_price", open);
+            candle.put("change_price", price - open);
+            candle.put("change_rate", (price - open) / open);
+            page.add(candle);
+            price = open;
+        }
+        candles = objectMapper.writeValueAsString(page);
+
+        // 최근 주문 2건 (매도, 매수) - 업비트 /v1/orders/closed 응답을 Map으로 읽은 형태
+        orders = objectMapper.readValue("""
+                [{"uuid":"9ca023a5-851b-4fec-9f0a-48cd83c2eaae","side":"ask","ord_type":"market","price":null,\
+                "state":"done","market":"KRW-BTC","created_at":"2025-01-03T08:59:50+09:00","volume":"0.00685871",\
+                "remaining_volume":"0","reserved_fee":"0","remaining_fee":"0","paid_fee":"500.5","locked":"0",\
+                "executed_volume":"0.00685871","executed_funds":"1001000","trades_count":1},\
+                {"uuid":"1ab34f6b-6c9c-4a4b-8e0e-2b7f3d1c5e21","side":"bid","ord_type":"price","price":"999500",\
+                "state":"cancel","market":"KRW-BTC","created_at":"2025-01-02T14:12:34+09:00","volume":null,\
+                "remaining_volume":null,"reserved_fee":"499.75","remaining_fee":"0.0001","paid_fee":"499.7499",\
+                "locked":"0.0002","executed_volume":"0.00685871","executed_funds":"999499.9998","trades_count":2}]""",
+                new TypeReference<>() {
+                });
+        user = new User("user", "password", "nickName", "secretKey", "accessKey", Role.USER);
+    }
+
+    @Benchmark
+    public UpbitCandlePage parseDayCandles() throws IOException {
+        UpbitCandlePage page = new UpbitCandlePage();
+        UpbitJsonReader.readCandles(candles, page);
+        return page;
+    }
+
+    @Benchmark
+    public LegacyCandle[] legacyParseDayCandles() throws IOException {
+        return OBJECT_MAPPER.readValue(candles, LegacyCandle[].class);
+    }
+
+    @Benchmark
+    public TradeInfo tradeFromClosedOrders() {
+        return TradingService.toTradeInfo(user, orders, 146_000_000);
+    }
+
+    /**
+     * 이전 캔들 응답 DTO (dto.UpbitCandle), 비교용으로만 유지
+     */
+    public static class LegacyCandle {
+        public String market;
+
+        @JsonProperty("candle_date_time_utc")
+        public String candleDateTimeUtc;
+
+        @JsonProperty("candle_date_time_kst")
+        public String candleDateTimeKst;
+
+        @JsonProperty("opening_price")
+        public double openingPrice;
+
+        @JsonProperty("high_price")
+        public double highPrice;
+
+        @JsonProperty("low_price")
+        public double lowPrice;
+
+        @JsonProperty("trade_price")
+        public double tradePrice;
+
+        @JsonProperty("prev_closing_price")
+        public double prevClosingPrice;
+
+        @JsonProperty("change_price")
+        public double changePrice;
+
+        @JsonProperty("change_rate")
+        public double changeRate;
+
+        @JsonProperty("converted_trade_price")
+        public double convertedTradePrice;
+
+        public long timestamp;
+
+        @JsonProperty("candle_acc_trade_price")
+        public double candleAccTradePrice;
+
+        @JsonProperty("candle_acc_trade_volume")
+        public double candleAccTradeVolume;
+
+        @JsonProperty("first_day_of_period")
+        public String firstDayOfPeriod;
+    }
+}
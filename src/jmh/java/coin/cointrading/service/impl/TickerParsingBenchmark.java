@@ -0,0 +1,79 @@
+package coin.cointrading.service.impl;
+
+import coin.cointrading.domain.Coin;
+import coin.cointrading.util.UpbitJsonReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * ticker 응답 파싱 비용 (단일 코인 / 전체 코인 한 번에 조회)
+ * 응답은 업비트 ticker 필드를 모두 채운 형태, legacy*는 호출마다 ObjectMapper를 만들어 트리로 읽던 이전 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TickerParsingBenchmark {
+
+    private String single;
+    private String all;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        single = "[" + ticker(Coin.BTC) + "]";
+        all = Arrays.stream(Coin.values()).map(TickerParsingBenchmark::ticker).collect(Collectors.joining(",", "[", "]"));
+    }
+
+    @Benchmark
+    public double parseSingle() throws IOException {
+        return UpbitJsonReader.tradePrice(single);
+    }
+
+    @Benchmark
+    public Map<Coin, Double> parseAll() throws IOException {
+        return UpbitJsonReader.tradePrices(all);
+    }
+
+    @Benchmark
+    public double legacyParseSingle() throws IOException {
+        return new ObjectMapper().readTree(single).get(0).get("trade_price").asDouble();
+    }
+
+    @Benchmark
+    public Map<Coin, Double> legacyParseAll() throws IOException {
+        Map<Coin, Double> prices = new EnumMap<>(Coin.class);
+        for (JsonNode ticker : new ObjectMapper().readTree(all)) {
+            Coin coin = Coin.ofMarketCode(ticker.get("market").asText());
+            if (coin != null) prices.put(coin, ticker.get("trade_price").asDouble());
+        }
+        return prices;
+    }
+
+    private static String ticker(Coin coin) {
+        return """
+                {"market":"%s","trade_date":"20250102","trade_time":"051234","trade_date_kst":"20250102",\
+                "trade_time_kst":"141234","trade_timestamp":1735794754000,"opening_price":143000000.0,\
+                "high_price":146500000.0,"low_price":142100000.0,"trade_price":145800000.0,\
+                "prev_closing_price":143000000.0,"change":"RISE","change_price":2800000.0,"change_rate":0.0195804196,\
+                "signed_change_price":2800000.0,"signed_change_rate":0.0195804196,"trade_volume":0.00412,\
+                "acc_trade_price":182341234567.12345,"acc_trade_price_24h":261234567890.5432,\
+                "acc_trade_volume":1254.12345678,"acc_trade_volume_24h":1799.87654321,\
+                "highest_52_week_price":163325000.0,"highest_52_week_date":"2024-12-17",\
+                "lowest_52_week_price":55000000.0,"lowest_52_week_date":"2024-01-23","timestamp":1735794754123}"""
+                .formatted(coin.getMarketCode());
+    }
+}
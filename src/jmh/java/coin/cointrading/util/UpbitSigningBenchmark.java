@@ -0,0 +1,100 @@
+package coin.cointrading.util;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 직전 인증 단계 비용
+ * 주문 토큰 서명(query_hash SHA-512 + HMAC)과 API 키 AES 복호화
+ * 할당량은 ./gradlew jmh -PjmhIncludes=Signing -PjmhProfilers=gc 의 gc.alloc.rate.norm으로 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UpbitSigningBenchmark {
+
+    private static final String ACCESS_KEY = "xLq1BtlXVnVLl7k1hQbuIXE9m0bR0ZHcQ8fJr5qs";
+    private static final String SECRET_KEY = "pPoxLZxBqy0dPJ2TV4e6rXkGtNjN2Hq7l2sUb8Fw";
+
+    private final UpbitRequestSigner signer = new UpbitRequestSigner();
+    private final Map<String, String> orderParams = new HashMap<>();
+    private UpbitCredential credential;
+    private Algorithm legacySigner;
+    private AES256Util aes256Util;
+    private String encryptedSecretKey;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // 시장가 매수 주문 파라미터
+        orderParams.put("market", "KRW-BTC");
+        orderParams.put("side", "bid");
+        orderParams.put("ord_type", "price");
+        orderParams.put("price", "999500.0");
+        credential = UpbitCredential.of(ACCESS_KEY, SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        legacySigner = Algorithm.HMAC256(SECRET_KEY);
+
+        // 스프링 없이 @Value / @PostConstruct 초기화를 대신함
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        aes256Util = new AES256Util();
+        Field secretKey = AES256Util.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        secretKey.set(aes256Util, Base64.getEncoder().encodeToString(key));
+        Method init = AES256Util.class.getDeclaredMethod("init");
+        init.setAccessible(true);
+        init.invoke(aes256Util);
+        encryptedSecretKey = aes256Util.encrypt(SECRET_KEY);
+    }
+
+    @Benchmark
+    public String signOrder() {
+        return signer.sign(credential, orderParams);
+    }
+
+    /**
+     * 비교 기준: 이전 방식 (요청마다 MessageDigest 생성, BigInteger + String.format hex, UUID nonce, auth0 JWT 빌더)
+     */
+    @Benchmark
+    public String legacySignOrder() throws Exception {
+        StringBuilder query = new StringBuilder();
+        for (Map.Entry<String, String> entry : orderParams.entrySet()) {
+            if (!query.isEmpty()) query.append('&');
+            query.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        MessageDigest md = MessageDigest.getInstance("SHA-512");
+        md.update(query.toString().getBytes(StandardCharsets.UTF_8));
+        String queryHash = String.format("%0128x", new BigInteger(1, md.digest()));
+
+        return "Bearer " + JWT.create()
+                .withClaim("access_key", ACCESS_KEY)
+                .withClaim("nonce", UUID.randomUUID().toString())
+                .withClaim("query_hash", queryHash)
+                .withClaim("query_hash_alg", "SHA512")
+                .sign(legacySigner);
+    }
+
+    @Benchmark
+    public String decryptApiKey() throws Exception {
+        return aes256Util.decrypt(encryptedSecretKey);
+    }
+}
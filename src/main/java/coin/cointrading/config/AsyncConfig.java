@@ -3,7 +3,9 @@ package coin.cointrading.config;
 import coin.cointrading.domain.AuthUser;
 import coin.cointrading.domain.BackData;
 import coin.cointrading.domain.Coin;
+import coin.cointrading.domain.User;
 import coin.cointrading.dto.TradingStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -13,6 +15,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 @Configuration
 @EnableAsync
@@ -28,6 +31,14 @@ public class AsyncConfig {
         return new ConcurrentHashMap<>();
     }
 
+    /**
+     * 프로그램 실행 시 조회한 유저 정보, 주문 시점에 DB를 다시 조회하지 않도록 보관
+     */
+    @Bean
+    ConcurrentHashMap<String, User> userSessionMap() {
+        return new ConcurrentHashMap<>();
+    }
+
     @Bean
     ConcurrentHashMap<Coin, List<BackData>> backDataMap() {
         return new ConcurrentHashMap<>();
@@ -38,9 +49,22 @@ public class AsyncConfig {
         return ConcurrentHashMap.newKeySet();
     }
 
+    /**
+     * 유저별 주문 파이프라인(계좌 조회 + 주문)을 각자 가상 스레드에서 실행
+     * 동시 요청 수는 upbitPermits로 제한
+     */
     @Bean
     ExecutorService executor() {
-        return Executors.newFixedThreadPool(10);
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * 업비트로 동시에 나가는 요청 수 상한
+     * 유저별 파이프라인은 요청을 순차로 보내므로 키당 1건, 서버 IP 기준 전체 동시 요청은 이 값으로 제한된다
+     */
+    @Bean
+    Semaphore upbitPermits(@Value("${upbit.max-concurrent-requests:30}") int maxConcurrentRequests) {
+        return new Semaphore(maxConcurrentRequests, true);
     }
 }
 
@@ -1,6 +1,6 @@
 package coin.cointrading.config;
 
-import coin.cointrading.domain.Coin;
+import coin.cointrading.domain.MarketStateStore;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,32 +10,15 @@ import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSeriali
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
-import java.util.HashMap;
-import java.util.Map;
-
 @Configuration
 @EnableCaching
 @EnableScheduling
 public class RedisConfig {
 
+    // 시세 수신 스레드와 매수/손절 평가, 목표가 갱신 스케쥴러가 함께 사용
     @Bean
-    public Map<Coin, Double> currentPriceMap(){
-        return new HashMap<>();
-    }
-
-    @Bean
-    public Map<Coin, Double> targetPriceMap(){
-        return new HashMap<>();
-    }
-
-    @Bean
-    public Map<Coin, Boolean> todayTradeCheckMap() {
-        return new HashMap<>();
-    }
-
-    @Bean
-    public Map<Coin, Boolean> todayExecutedCheckMap() {
-        return new HashMap<>();
+    public MarketStateStore marketStateStore() {
+        return new MarketStateStore();
     }
 
     @Bean
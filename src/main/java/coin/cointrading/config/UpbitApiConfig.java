@@ -1,27 +1,36 @@
 package coin.cointrading.config;
 
 import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import okhttp3.Protocol;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class UpbitApiConfig {
-    @Bean
-    public RestTemplate getRestTemplate() {
-        RestTemplateBuilder restTemplateBuilder = new RestTemplateBuilder();
-        return restTemplateBuilder.build();
-    }
-
+    /**
+     * 업비트 REST / 웹소켓이 함께 쓰는 클라이언트
+     * 호출 대상이 업비트 단일 호스트이므로 호스트당 동시 요청 수를 전체 상한과 같은 수준으로 올리고 연결을 오래 유지한다
+     */
     @Bean
     public OkHttpClient okHttpClient() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(128);
+        dispatcher.setMaxRequestsPerHost(64); // 기본값 5는 유저 수만큼 몰리는 주문에 비해 작음
+
         return new OkHttpClient.Builder()
-                .connectionPool(new ConnectionPool(5, 5, TimeUnit.MINUTES)) // 최대 5개 연결 유지
-                .dispatcher(new okhttp3.Dispatcher())
+                .connectionPool(new ConnectionPool(64, 5, TimeUnit.MINUTES)) // 유휴 연결 최대 64개 유지
+                .dispatcher(dispatcher)
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1)) // ALPN으로 HTTP/2 협상, 미지원 시 1.1
+                .connectTimeout(Duration.ofSeconds(3))
+                .readTimeout(Duration.ofSeconds(5))
+                .writeTimeout(Duration.ofSeconds(5))
+                .callTimeout(Duration.ofSeconds(10))
                 .build();
     }
 }
@@ -1,16 +1,22 @@
 package coin.cointrading.controller;
 
-import coin.cointrading.domain.BackData;
 import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.ReturnRateResponse;
 import coin.cointrading.service.BackDataService;
+import coin.cointrading.service.ReturnRateAggregates;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RestController
@@ -18,16 +24,38 @@ import java.util.List;
 @RequestMapping("/auth/backdatas")
 public class BackDataController {
 
+    private static final int MAX_DAYS = 200;
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(1, TimeUnit.MINUTES).cachePublic();
+
     private final BackDataService backDataService;
+    private final ReturnRateAggregates returnRateAggregates;
 
+    /**
+     * 최근 days 거래일 수익률과 미리 계산된 집계
+     * 백데이터가 바뀌지 않았으면 If-None-Match에 304로 응답
+     */
     @GetMapping
-    public List<BackData> getBackData(@RequestParam(defaultValue = "BTC") Coin coin,
-                                      @RequestParam(defaultValue = "7") int days) {
-
-        List<BackData> backData = backDataService.getBackDataMap().get(coin);
-        // 해당 코인 불러오기
-        return backData.stream()
-                .limit(days)
-                .toList();
+    public ResponseEntity<ReturnRateResponse> getBackData(@RequestParam(defaultValue = "BTC") Coin coin,
+                                                          @RequestParam(defaultValue = "7") int days,
+                                                          WebRequest request) {
+        if (!backDataService.isReady(coin)) { // 기동 직후 백데이터 준비 중
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "3")
+                    .build();
+        }
+
+        int limit = Math.clamp(days, 1, MAX_DAYS);
+        String etag = returnRateAggregates.etag(coin, limit);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CACHE_CONTROL)
+                .body(returnRateAggregates.get(coin, limit));
     }
 }
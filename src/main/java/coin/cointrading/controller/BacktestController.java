@@ -0,0 +1,42 @@
+package coin.cointrading.controller;
+
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.BacktestParams;
+import coin.cointrading.dto.BacktestResult;
+import coin.cointrading.service.BacktestService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/backtests")
+public class BacktestController {
+
+    private final BacktestService backtestService;
+
+    /**
+     * 실거래 규칙 백테스트, coin이 없으면 전체 코인
+     */
+    @GetMapping
+    public ResponseEntity<List<BacktestResult>> backtest(@RequestParam(required = false) Coin coin,
+                                                         @RequestParam(defaultValue = "DAY") CandleInterval interval,
+                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+
+        if (coin == null) {
+            return ResponseEntity.ok(backtestService.runAll(interval, start, end, BacktestParams.LIVE));
+        }
+        return ResponseEntity.ok(List.of(backtestService.run(coin, interval, start, end, BacktestParams.LIVE)));
+    }
+}
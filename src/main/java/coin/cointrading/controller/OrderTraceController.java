@@ -0,0 +1,24 @@
+package coin.cointrading.controller;
+
+import coin.cointrading.dto.OrderTraceReport;
+import coin.cointrading.service.OrderTraceRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class OrderTraceController {
+
+    private final OrderTraceRecorder orderTraceRecorder;
+
+    /**
+     * 최근 주문 단계별 소요 시간과 분포 (관리자)
+     */
+    @GetMapping("/admin/traces")
+    public ResponseEntity<OrderTraceReport> getTraces(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(orderTraceRecorder.report(Math.clamp(limit, 0, 1000)));
+    }
+}
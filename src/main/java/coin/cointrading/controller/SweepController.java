@@ -0,0 +1,41 @@
+package coin.cointrading.controller;
+
+import coin.cointrading.domain.Coin;
+import coin.cointrading.domain.SweepResult;
+import coin.cointrading.dto.SweepRequest;
+import coin.cointrading.service.SweepService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class SweepController {
+
+    private static final int MAX_LIMIT = 100; // 공개 API, 조회 개수 상한
+
+    private final SweepService sweepService;
+
+    /**
+     * 파라미터 탐색 실행 (관리자)
+     */
+    @PostMapping("/admin/sweeps")
+    public ResponseEntity<List<SweepResult>> sweep(@RequestBody(required = false) SweepRequest request) {
+        return ResponseEntity.ok(sweepService.sweep(request != null ? request : new SweepRequest()));
+    }
+
+    /**
+     * 저장된 최근 탐색 결과 (수익률 페이지)
+     */
+    @GetMapping("/auth/sweeps")
+    public ResponseEntity<List<SweepResult>> getLatest(@RequestParam(defaultValue = "BTC") Coin coin,
+                                                       @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(sweepService.getLatest(coin, Math.clamp(limit, 1, MAX_LIMIT)));
+    }
+}
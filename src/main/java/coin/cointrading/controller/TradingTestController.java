@@ -57,6 +57,6 @@ public class TradingTestController {
     public ResponseEntity<Object> getAccount(@AuthenticationPrincipal AuthUser authUser) throws Exception {
         User requestUser = userRepository.findByUserId(authUser.getUserId())
                 .orElseThrow(() -> new CustomException(ErrorCode.AUTH_USER_NOT_FOUND));
-        return ResponseEntity.ok(upbitService.getAccount(requestUser));
+        return ResponseEntity.ok(upbitService.getAccount(requestUser).get());
     }
 }
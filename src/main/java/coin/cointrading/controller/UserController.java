@@ -4,11 +4,13 @@ import coin.cointrading.domain.AuthUser;
 import coin.cointrading.domain.TradeInfo;
 import coin.cointrading.domain.User;
 import coin.cointrading.dto.LoginRequest;
-import coin.cointrading.dto.TradeInfoResponse;
+import coin.cointrading.dto.TradeHistoryResponse;
+import coin.cointrading.dto.TradeSummaryResponse;
 import coin.cointrading.dto.UserSignupRequest;
 import coin.cointrading.exception.CustomException;
 import coin.cointrading.exception.ErrorCode;
 import coin.cointrading.service.RedisService;
+import coin.cointrading.service.TradeHistoryService;
 import coin.cointrading.service.TradingService;
 import coin.cointrading.service.UserService;
 import jakarta.servlet.http.Cookie;
@@ -22,8 +24,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Controller
 @RequestMapping("/auth")
 @RequiredArgsConstructor
@@ -120,7 +120,16 @@ public class UserController {
     // 마이 페이지로 데이터 가져오기
     @GetMapping("/myPageData")
     @ResponseBody
-    public List<TradeInfoResponse> getMyPageData(@AuthenticationPrincipal AuthUser authUser) {
-        return userService.getMyPageData(authUser);
+    public TradeHistoryResponse getMyPageData(@AuthenticationPrincipal AuthUser authUser,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "" + TradeHistoryService.DEFAULT_PAGE_SIZE) int size) {
+        return userService.getMyPageData(authUser, cursor, size);
+    }
+
+    // 마이 페이지 거래 집계
+    @GetMapping("/myPageData/summary")
+    @ResponseBody
+    public TradeSummaryResponse getMyPageSummary(@AuthenticationPrincipal AuthUser authUser) {
+        return userService.getMyPageSummary(authUser);
     }
 }
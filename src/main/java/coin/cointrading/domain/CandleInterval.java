@@ -0,0 +1,20 @@
+package coin.cointrading.domain;
+
+import lombok.Getter;
+
+/**
+ * 캔들 단위와 업비트 캔들 조회 경로
+ */
+@Getter
+public enum CandleInterval {
+    DAY("/v1/candles/days", 86_400),
+    MINUTE_1("/v1/candles/minutes/1", 60);
+
+    private final String path;
+    private final long seconds;
+
+    CandleInterval(String path, long seconds) {
+        this.path = path;
+        this.seconds = seconds;
+    }
+}
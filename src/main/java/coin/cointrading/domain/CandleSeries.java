@@ -0,0 +1,231 @@
+package coin.cointrading.domain;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 코인 1개 / 캔들 단위 1개의 시계열 저장소
+ * 시각(캔들 시작 epoch seconds, UTC)과 시가/고가/저가/종가/거래량을 컬럼별 원시 타입 배열로 두고 시간순으로 뒤에만 추가한다.
+ * 범위 조회는 이진 탐색으로 구간을 찾아 배열을 복사하지 않는 {@link View}로 돌려준다.
+ */
+public class CandleSeries {
+
+    private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+    private static final int INITIAL_CAPACITY = 256;
+
+    private long[] times;
+    private double[] opens;
+    private double[] highs;
+    private double[] lows;
+    private double[] closes;
+    private double[] volumes;
+    private volatile int size; // 배열 쓰기 후 마지막에 갱신, 읽는 쪽은 size를 먼저 읽는다
+
+    public CandleSeries() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public CandleSeries(int capacity) {
+        times = new long[capacity];
+        opens = new double[capacity];
+        highs = new double[capacity];
+        lows = new double[capacity];
+        closes = new double[capacity];
+        volumes = new double[capacity];
+    }
+
+    /**
+     * 이미 시간순으로 채워진 배열을 복사 없이 감싼다 (배열 소유권은 시계열로 넘어감)
+     */
+    public static CandleSeries wrap(long[] times, double[] opens, double[] highs, double[] lows, double[] closes,
+                                    double[] volumes, int size) {
+        CandleSeries series = new CandleSeries(0);
+        series.times = times;
+        series.opens = opens;
+        series.highs = highs;
+        series.lows = lows;
+        series.closes = closes;
+        series.volumes = volumes;
+        series.size = size;
+        return series;
+    }
+
+    /**
+     * 캔들 추가, 마지막 캔들과 시각이 같으면 진행 중인 캔들로 보고 값을 갱신
+     *
+     * @throws IllegalArgumentException 마지막 캔들보다 이전 시각인 경우
+     */
+    public synchronized void append(long time, double open, double high, double low, double close, double volume) {
+        int n = size;
+        int index = n;
+        if (n > 0 && time <= times[n - 1]) {
+            if (time < times[n - 1]) {
+                throw new IllegalArgumentException("캔들은 시간순으로만 추가할 수 있습니다: " + time + " < " + times[n - 1]);
+            }
+            index = n - 1;
+        }
+        if (index == times.length) grow();
+
+        times[index] = time;
+        opens[index] = open;
+        highs[index] = high;
+        lows[index] = low;
+        closes[index] = close;
+        volumes[index] = volume;
+        size = Math.max(n, index + 1);
+    }
+
+    // 기존 배열은 이미 만들어진 뷰가 계속 참조하므로 새 배열로 교체만 한다
+    private void grow() {
+        int capacity = Math.max(INITIAL_CAPACITY, times.length * 2);
+        times = Arrays.copyOf(times, capacity);
+        opens = Arrays.copyOf(opens, capacity);
+        highs = Arrays.copyOf(highs, capacity);
+        lows = Arrays.copyOf(lows, capacity);
+        closes = Arrays.copyOf(closes, capacity);
+        volumes = Arrays.copyOf(volumes, capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 전체 구간 뷰
+     */
+    public View view() {
+        int n = size;
+        return new View(times, opens, highs, lows, closes, volumes, 0, n);
+    }
+
+    /**
+     * 최근 count개 구간 뷰
+     */
+    public View last(int count) {
+        return view().last(count);
+    }
+
+    /**
+     * [from, to) 시각 구간 뷰
+     */
+    public View range(long fromInclusive, long toExclusive) {
+        return view().range(fromInclusive, toExclusive);
+    }
+
+    /**
+     * 시계열의 읽기 전용 구간, 원본 배열을 공유하고 offset/length만 가진다
+     * 마지막 캔들이 진행 중 캔들로 갱신되면 그 값은 뷰에서도 최신 값으로 보일 수 있다
+     */
+    public static final class View {
+        private final long[] times;
+        private final double[] opens;
+        private final double[] highs;
+        private final double[] lows;
+        private final double[] closes;
+        private final double[] volumes;
+        private final int offset;
+        private final int length;
+
+        private View(long[] times, double[] opens, double[] highs, double[] lows, double[] closes, double[] volumes,
+                     int offset, int length) {
+            this.times = times;
+            this.opens = opens;
+            this.highs = highs;
+            this.lows = lows;
+            this.closes = closes;
+            this.volumes = volumes;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        public int size() {
+            return length;
+        }
+
+        public boolean isEmpty() {
+            return length == 0;
+        }
+
+        public long time(int i) {
+            return times[index(i)];
+        }
+
+        public double open(int i) {
+            return opens[index(i)];
+        }
+
+        public double high(int i) {
+            return highs[index(i)];
+        }
+
+        public double low(int i) {
+            return lows[index(i)];
+        }
+
+        public double close(int i) {
+            return closes[index(i)];
+        }
+
+        public double volume(int i) {
+            return volumes[index(i)];
+        }
+
+        /**
+         * 캔들 시작 시각 (KST)
+         */
+        public LocalDateTime kstDateTime(int i) {
+            return LocalDateTime.ofEpochSecond(time(i), 0, KST);
+        }
+
+        /**
+         * 캔들 시작 날짜 (KST, yyyy-MM-dd)
+         */
+        public String kstDay(int i) {
+            return kstDateTime(i).toLocalDate().toString();
+        }
+
+        public View last(int count) {
+            int n = Math.min(Math.max(count, 0), length);
+            return slice(length - n, length);
+        }
+
+        /**
+         * [from, to) 시각 구간, 이진 탐색으로 경계를 찾는다
+         */
+        public View range(long fromInclusive, long toExclusive) {
+            int from = lowerBound(fromInclusive);
+            int to = Math.max(from, lowerBound(toExclusive));
+            return slice(from, to);
+        }
+
+        /**
+         * [from, to) 인덱스 구간
+         */
+        public View slice(int from, int to) {
+            if (from < 0 || to > length || from > to) {
+                throw new IndexOutOfBoundsException("slice [" + from + ", " + to + ") of " + length);
+            }
+            return new View(times, opens, highs, lows, closes, volumes, offset + from, to - from);
+        }
+
+        // time 이상인 첫 인덱스 (뷰 기준)
+        private int lowerBound(long time) {
+            int low = offset;
+            int high = offset + length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (times[mid] < time) low = mid + 1;
+                else high = mid;
+            }
+            return low - offset;
+        }
+
+        private int index(int i) {
+            if (i < 0 || i >= length) {
+                throw new IndexOutOfBoundsException("index " + i + " of " + length);
+            }
+            return offset + i;
+        }
+    }
+}
@@ -2,12 +2,20 @@ package coin.cointrading.domain;
 
 import lombok.Getter;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Getter
 public enum Coin {
     BTC("비트코인", "KRW-BTC"),
     ETH("이더리움", "KRW-ETH"),
     XRP("리플", "KRW-XRP");
 
+    private static final Map<String, Coin> BY_MARKET_CODE = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(Coin::getMarketCode, Function.identity()));
+
     private final String koreanName;
     private final String marketCode;
 
@@ -15,4 +23,20 @@ public enum Coin {
         this.koreanName = koreanName;
         this.marketCode = marketCode;
     }
+
+    /**
+     * 마켓 코드(KRW-BTC)로 코인 조회, 거래 대상이 아니면 null
+     */
+    public static Coin ofMarketCode(String marketCode) {
+        return BY_MARKET_CODE.get(marketCode);
+    }
+
+    /**
+     * 전체 마켓 코드를 콤마로 연결 (KRW-BTC,KRW-ETH,...)
+     */
+    public static String joinedMarketCodes() {
+        return Arrays.stream(values())
+                .map(Coin::getMarketCode)
+                .collect(Collectors.joining(","));
+    }
 }
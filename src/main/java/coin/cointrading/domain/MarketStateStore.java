@@ -0,0 +1,165 @@
+package coin.cointrading.domain;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 코인별 시세/목표가/금일 매수·손절 여부 저장소
+ * Coin.ordinal()을 인덱스로 쓰는 원시 타입 배열에 저장해 시세 갱신 시 박싱이 발생하지 않는다.
+ * 목표가와 플래그는 버전(seqlock)으로 묶어 읽는 쪽이 서로 다른 시점의 조합을 보지 않도록 한다.
+ */
+public class MarketStateStore {
+
+    private static final int TRADED = 1;       // 금일 매수 여부
+    private static final int STOPPED = 1 << 1; // 금일 손절 여부
+    private static final long NO_VALUE = Double.doubleToRawLongBits(Double.NaN);
+
+    private final AtomicLongArray prices;
+    private final AtomicLongArray priceUpdatedAt;
+    private final AtomicLongArray targets;
+    private final AtomicIntegerArray flags;
+    private final AtomicLongArray versions; // 홀수면 쓰는 중
+
+    public MarketStateStore() {
+        int size = Coin.values().length;
+        prices = new AtomicLongArray(size);
+        priceUpdatedAt = new AtomicLongArray(size);
+        targets = new AtomicLongArray(size);
+        flags = new AtomicIntegerArray(size);
+        versions = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            prices.set(i, NO_VALUE);
+            targets.set(i, NO_VALUE);
+        }
+    }
+
+    // ===== 시세 =====
+
+    public void updatePrice(Coin coin, double price) {
+        int i = coin.ordinal();
+        prices.set(i, Double.doubleToRawLongBits(price));
+        priceUpdatedAt.set(i, System.currentTimeMillis());
+    }
+
+    /**
+     * @return 현재가, 수신 전이면 NaN
+     */
+    public double price(Coin coin) {
+        return Double.longBitsToDouble(prices.get(coin.ordinal()));
+    }
+
+    public boolean hasPrice(Coin coin) {
+        return prices.get(coin.ordinal()) != NO_VALUE;
+    }
+
+    /**
+     * @return 마지막 시세 수신 시각(epoch millis), 수신 전이면 0
+     */
+    public long priceUpdatedAt(Coin coin) {
+        return priceUpdatedAt.get(coin.ordinal());
+    }
+
+    // ===== 목표가 및 금일 플래그 =====
+
+    /**
+     * 목표가 갱신과 함께 금일 매수·손절 여부 초기화
+     */
+    public void resetDay(Coin coin, double targetPrice) {
+        write(coin.ordinal(), Double.doubleToRawLongBits(targetPrice), 0);
+    }
+
+    public void setTradedToday(Coin coin, boolean traded) {
+        updateFlag(coin.ordinal(), TRADED, traded);
+    }
+
+    public void setStoppedToday(Coin coin, boolean stopped) {
+        updateFlag(coin.ordinal(), STOPPED, stopped);
+    }
+
+    public double target(Coin coin) {
+        return Double.longBitsToDouble(targets.get(coin.ordinal()));
+    }
+
+    public boolean tradedToday(Coin coin) {
+        return (flags.get(coin.ordinal()) & TRADED) != 0;
+    }
+
+    public boolean stoppedToday(Coin coin) {
+        return (flags.get(coin.ordinal()) & STOPPED) != 0;
+    }
+
+    /**
+     * 목표가와 플래그를 같은 버전으로 읽어 into에 채운다 (할당 없음)
+     *
+     * @return 읽은 시점의 버전
+     */
+    public long read(Coin coin, Snapshot into) {
+        int i = coin.ordinal();
+        while (true) {
+            long version = versions.get(i);
+            if ((version & 1) == 0) {
+                long targetBits = targets.get(i);
+                int flagBits = flags.get(i);
+                if (versions.get(i) == version) {
+                    into.set(version, Double.longBitsToDouble(targetBits), flagBits);
+                    return version;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    public Snapshot snapshot(Coin coin) {
+        Snapshot snapshot = new Snapshot();
+        read(coin, snapshot);
+        return snapshot;
+    }
+
+    private synchronized void updateFlag(int i, int mask, boolean value) {
+        int current = flags.get(i);
+        write(i, targets.get(i), value ? current | mask : current & ~mask);
+    }
+
+    private synchronized void write(int i, long targetBits, int flagBits) {
+        long version = versions.get(i);
+        versions.set(i, version + 1);
+        targets.set(i, targetBits);
+        flags.set(i, flagBits);
+        versions.set(i, version + 2);
+    }
+
+    /**
+     * 한 시점의 목표가 + 플래그 조합, 스레드별로 재사용 가능
+     */
+    public static final class Snapshot {
+        private long version;
+        private double targetPrice = Double.NaN;
+        private int flags;
+
+        private void set(long version, double targetPrice, int flags) {
+            this.version = version;
+            this.targetPrice = targetPrice;
+            this.flags = flags;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public double getTargetPrice() {
+            return targetPrice;
+        }
+
+        public boolean hasTarget() {
+            return !Double.isNaN(targetPrice);
+        }
+
+        public boolean isTradedToday() {
+            return (flags & TRADED) != 0;
+        }
+
+        public boolean isStoppedToday() {
+            return (flags & STOPPED) != 0;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package coin.cointrading.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파라미터 탐색 결과, 같은 실행(runAt)의 코인별 순위로 조회
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "sweep_results", indexes = @Index(name = "idx_sweep_results_coin_run_at", columnList = "coin, run_at"))
+public class SweepResult {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private LocalDateTime runAt;
+
+    private String coin;
+
+    // 샤프 지수 기준 순위 (1부터)
+    private int ranking;
+
+    private double breakoutK;
+
+    private double stopRatio;
+
+    // 백테스트 구간
+    private String fromDay;
+
+    private String toDay;
+
+    // 수익률 / 최대 낙폭 / 승률 (%)
+    private double totalReturn;
+
+    private double maxDrawdown;
+
+    private double winRate;
+
+    private double sharpe;
+
+    private int trades;
+
+    public SweepResult(LocalDateTime runAt, String coin, int ranking, double breakoutK, double stopRatio,
+                       String fromDay, String toDay, double totalReturn, double maxDrawdown, double winRate,
+                       double sharpe, int trades) {
+        this.runAt = runAt;
+        this.coin = coin;
+        this.ranking = ranking;
+        this.breakoutK = breakoutK;
+        this.stopRatio = stopRatio;
+        this.fromDay = fromDay;
+        this.toDay = toDay;
+        this.totalReturn = totalReturn;
+        this.maxDrawdown = maxDrawdown;
+        this.winRate = winRate;
+        this.sharpe = sharpe;
+        this.trades = trades;
+    }
+}
@@ -9,7 +9,7 @@ import java.time.LocalDate;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "tradeinfos")
+@Table(name = "tradeinfos", indexes = @Index(name = "idx_tradeinfos_user_day", columnList = "user_id, trading_day, id"))
 public class TradeInfo {
 
     @Id
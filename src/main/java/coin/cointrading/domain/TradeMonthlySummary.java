@@ -0,0 +1,51 @@
+package coin.cointrading.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저별 월간 거래 집계, 매도 기록 저장 시 증분 갱신
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "trade_monthly_summaries",
+        uniqueConstraints = @UniqueConstraint(name = "uk_trade_monthly_summaries_user_month", columnNames = {"user_id", "trade_month"}))
+public class TradeMonthlySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    // yyyy-MM
+    private String tradeMonth;
+
+    private int trades;
+
+    private int wins;
+
+    // 거래 후 자산 - 거래 전 자산 합계 (원)
+    private double pnl;
+
+    // 거래별 자산 배수의 로그 합, 복리 수익률 = exp(logGrowth) - 1
+    private double logGrowth;
+
+    public TradeMonthlySummary(User user, String tradeMonth) {
+        this.user = user;
+        this.tradeMonth = tradeMonth;
+    }
+
+    public void add(TradeInfo tradeInfo) {
+        double before = tradeInfo.getBeforeMoney();
+        double after = tradeInfo.getAfterMoney();
+        trades++;
+        if (after > before) wins++;
+        pnl += after - before;
+        if (before > 0 && after > 0) logGrowth += Math.log(after / before);
+    }
+}
@@ -0,0 +1,17 @@
+package coin.cointrading.dto;
+
+/**
+ * 변동성 돌파 규칙 파라미터
+ *
+ * @param k         목표가 = 전일 종가 + 전일 변동폭 * k
+ * @param stopRatio 손절가 = 목표가 * stopRatio
+ * @param buyFee    매수 금액에 곱하는 수수료 계수
+ * @param sellFee   매도 금액에 곱하는 수수료 계수
+ */
+public record BacktestParams(double k, double stopRatio, double buyFee, double sellFee) {
+
+    /**
+     * 실거래(TradingService / UpbitCandleServiceImpl)와 같은 규칙
+     */
+    public static final BacktestParams LIVE = new BacktestParams(0.5, 0.95, 1.0005, 0.9995);
+}
@@ -0,0 +1,22 @@
+package coin.cointrading.dto;
+
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.Coin;
+
+import java.util.List;
+
+/**
+ * 백테스트 결과, 수익률 / 낙폭은 %
+ *
+ * @param candles     평가한 캔들 수
+ * @param sharpe      일별 수익률 기준 연환산 샤프 지수
+ * @param trades      거래 목록, 요약 실행이면 비어 있음
+ * @param equityCurve 거래일별 누적 자산(시작 1.0)과 고점 대비 낙폭, 요약 실행이면 비어 있음
+ */
+public record BacktestResult(Coin coin, CandleInterval interval, BacktestParams params, int candles,
+                             double totalReturn, double maxDrawdown, double winRate, double sharpe, int tradeCount,
+                             List<BacktestTrade> trades, List<EquityPoint> equityCurve) {
+
+    public record EquityPoint(String day, double equity, double drawdown) {
+    }
+}
@@ -0,0 +1,18 @@
+package coin.cointrading.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백테스트 거래 1건 (시각은 KST)
+ *
+ * @param returnRate 수수료 반영 수익률(%)
+ */
+public record BacktestTrade(String day, LocalDateTime entryTime, double entryPrice,
+                            LocalDateTime exitTime, double exitPrice, Exit exit, double returnRate) {
+
+    public enum Exit {
+        STOP,  // 장중 손절
+        CLOSE, // 08:59:50 장 종료 매도
+        END    // 데이터 끝까지 보유 중
+    }
+}
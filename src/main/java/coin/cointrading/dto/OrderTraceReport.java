@@ -0,0 +1,27 @@
+package coin.cointrading.dto;
+
+import coin.cointrading.domain.Coin;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최근 주문 추적 기록과 단계별 소요 시간 분포, 시간은 모두 마이크로초
+ *
+ * @param recorded 서버 시작 후 기록된 전체 주문 수
+ * @param traces   최근 주문 (최신순)
+ * @param stages   버퍼에 남은 전체 기록 기준 단계별 분포, 키는 단계 이름 (TOTAL은 시세 수신부터 후처리 완료까지)
+ */
+public record OrderTraceReport(int capacity, long recorded, List<Trace> traces, Map<String, StageStats> stages) {
+
+    /**
+     * @param stages 단계별로 직전 단계부터 걸린 시간, 기록되지 않은 단계는 빠짐
+     * @param total  시세 수신부터 마지막 기록 단계까지
+     */
+    public record Trace(long sequence, String startedAt, Coin coin, String kind,
+                       Map<String, Double> stages, double total) {
+    }
+
+    public record StageStats(int count, double p50, double p90, double p99, double max) {
+    }
+}
@@ -0,0 +1,15 @@
+package coin.cointrading.dto;
+
+import coin.cointrading.domain.Coin;
+
+/**
+ * 코인 시세 수신 이벤트 (웹소켓 / ticker 폴링에서 발행)
+ *
+ * @param receivedAt 수신 시각 (System.nanoTime), 주문 추적의 시작점
+ */
+public record PriceTickEvent(Coin coin, double price, long receivedAt) {
+
+    public PriceTickEvent(Coin coin, double price) {
+        this(coin, price, System.nanoTime());
+    }
+}
@@ -0,0 +1,30 @@
+package coin.cointrading.dto;
+
+import coin.cointrading.domain.Coin;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 코인별 수익률 집계 응답
+ *
+ * @param summary 최근 days 거래일 집계
+ * @param windows 최근 7 / 30 / 90 / 200 거래일 집계
+ * @param rows    최근 days 거래일 수익률 (최신순)
+ */
+public record ReturnRateResponse(Coin coin, int days, Summary summary, Map<Integer, Summary> windows,
+                                 List<Row> rows) {
+
+    /**
+     * 구간 집계, 수익률 / 승률은 %
+     *
+     * @param tradedDays       구간 내 거래일 수 (저장된 거래일이 적으면 days보다 작음)
+     * @param cumulativeReturn 복리 누적 수익률
+     */
+    public record Summary(int tradedDays, String fromDay, String toDay,
+                          double cumulativeReturn, double winRate, double averageReturn) {
+    }
+
+    public record Row(String day, double returnRate) {
+    }
+}
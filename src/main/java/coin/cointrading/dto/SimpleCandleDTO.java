@@ -1,12 +1,17 @@
 package coin.cointrading.dto;
 
+import coin.cointrading.domain.CandleSeries;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.time.format.DateTimeFormatter;
+
 @Getter
 @RequiredArgsConstructor
 public class SimpleCandleDTO {
+    private static final DateTimeFormatter KST_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
     @JsonProperty("candle_date_time_kst")
     private final String candleDateTimeKst;
 
@@ -24,4 +29,17 @@ public class SimpleCandleDTO {
 
     @JsonProperty("candle_acc_trade_volume")
     private final double candleAccTradeVolume;
+
+    /**
+     * 시계열 구간을 업비트 응답과 같은 최신순으로 변환
+     */
+    public static SimpleCandleDTO[] newestFirst(CandleSeries.View candles) {
+        SimpleCandleDTO[] result = new SimpleCandleDTO[candles.size()];
+        for (int i = 0; i < result.length; i++) {
+            int index = candles.size() - 1 - i;
+            result[i] = new SimpleCandleDTO(candles.kstDateTime(index).format(KST_FORMAT), candles.open(index),
+                    candles.high(index), candles.low(index), candles.close(index), candles.volume(index));
+        }
+        return result;
+    }
 }
@@ -0,0 +1,32 @@
+package coin.cointrading.dto;
+
+import coin.cointrading.domain.CandleInterval;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 파라미터 탐색 범위, 값이 없으면 기본 범위 사용
+ * K 0.1 ~ 0.9 (0.1 간격) x 손절 비율 0.90 ~ 0.99 (0.01 간격), 최근 1년 일봉
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SweepRequest {
+
+    private CandleInterval interval = CandleInterval.DAY;
+    private LocalDate from;
+    private LocalDate to;
+
+    private double minK = 0.1;
+    private double maxK = 0.9;
+    private double stepK = 0.1;
+
+    private double minStop = 0.90;
+    private double maxStop = 0.99;
+    private double stepStop = 0.01;
+}
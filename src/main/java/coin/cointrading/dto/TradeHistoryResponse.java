@@ -0,0 +1,11 @@
+package coin.cointrading.dto;
+
+import java.util.List;
+
+/**
+ * 거래 기록 페이지
+ *
+ * @param nextCursor 다음 페이지 요청 시 넘길 커서, 마지막 페이지면 null
+ */
+public record TradeHistoryResponse(List<TradeInfoResponse> trades, String nextCursor) {
+}
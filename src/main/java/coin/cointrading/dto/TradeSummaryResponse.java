@@ -0,0 +1,17 @@
+package coin.cointrading.dto;
+
+import java.util.List;
+
+/**
+ * 유저 거래 집계, 수익률 / 승률은 %
+ *
+ * @param totalPnl       거래 후 자산 - 거래 전 자산 합계 (원)
+ * @param compoundReturn 거래별 자산 배수를 곱한 복리 수익률
+ * @param months         월별 집계 (최신순)
+ */
+public record TradeSummaryResponse(int trades, double winRate, double totalPnl, double compoundReturn,
+                                   List<Month> months) {
+
+    public record Month(String month, int trades, double winRate, double pnl, double compoundReturn) {
+    }
+}
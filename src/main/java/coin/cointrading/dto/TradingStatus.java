@@ -14,4 +14,10 @@ public class TradingStatus {
     public TradingStatus(Coin selectCoin) {
         this.selectCoin = selectCoin;
     }
+
+    public TradingStatus(Coin selectCoin, boolean opMode, boolean hold) {
+        this.selectCoin = selectCoin;
+        this.opMode.set(opMode);
+        this.hold.set(hold);
+    }
 }
@@ -0,0 +1,65 @@
+package coin.cointrading.dto;
+
+import java.util.Arrays;
+
+/**
+ * 업비트 캔들 응답을 응답 순서(최신순) 그대로 담는 원시 타입 컬럼 배열
+ * 여러 페이지를 이어서 읽으면 뒤에 추가되어 전체가 최신순을 유지한다
+ */
+public class UpbitCandlePage {
+
+    private long[] times = new long[16]; // 캔들 시작 epoch seconds (UTC)
+    private double[] opens = new double[16];
+    private double[] highs = new double[16];
+    private double[] lows = new double[16];
+    private double[] closes = new double[16];
+    private double[] volumes = new double[16];
+    private int size;
+
+    public void add(long time, double open, double high, double low, double close, double volume) {
+        if (size == times.length) {
+            int capacity = size * 2;
+            times = Arrays.copyOf(times, capacity);
+            opens = Arrays.copyOf(opens, capacity);
+            highs = Arrays.copyOf(highs, capacity);
+            lows = Arrays.copyOf(lows, capacity);
+            closes = Arrays.copyOf(closes, capacity);
+            volumes = Arrays.copyOf(volumes, capacity);
+        }
+        times[size] = time;
+        opens[size] = open;
+        highs[size] = high;
+        lows[size] = low;
+        closes[size] = close;
+        volumes[size] = volume;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long time(int index) {
+        return times[index];
+    }
+
+    public double open(int index) {
+        return opens[index];
+    }
+
+    public double high(int index) {
+        return highs[index];
+    }
+
+    public double low(int index) {
+        return lows[index];
+    }
+
+    public double close(int index) {
+        return closes[index];
+    }
+
+    public double volume(int index) {
+        return volumes[index];
+    }
+}
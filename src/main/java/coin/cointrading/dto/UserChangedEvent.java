@@ -0,0 +1,7 @@
+package coin.cointrading.dto;
+
+/**
+ * 유저 권한 / API 키 변경 이벤트 (실행 중인 세션 갱신용)
+ */
+public record UserChangedEvent(String userId) {
+}
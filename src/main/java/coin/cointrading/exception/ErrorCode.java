@@ -25,6 +25,11 @@ public enum ErrorCode {
     AUTH_NO_AUTHORIZATION_IP(HttpStatus.UNAUTHORIZED, "허용되지 않은 IP입니다, 서버 IP로 키를 재발급해주세요."),
 
     COMMON_INVALID_TYPE(HttpStatus.BAD_REQUEST, "잘못된 타입 매치 입니다."),
+    COMMON_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
+
+    BACKTEST_INVALID_RANGE(HttpStatus.BAD_REQUEST, "시작일은 종료일보다 늦을 수 없습니다."),
+    BACKTEST_CANDLE_NOT_COVERED(HttpStatus.BAD_REQUEST, "%s %s 보관 캔들 범위(%s)를 벗어난 기간입니다."),
+    SWEEP_INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 탐색 범위입니다: %s"),
 
     UPBIT_ORDER_FAIL(HttpStatus.BAD_REQUEST, "매수 로직 실패"),
     UPBIT_ORDER_LIST_READ_FAIL(HttpStatus.BAD_REQUEST, "매매내역 확인 실패");
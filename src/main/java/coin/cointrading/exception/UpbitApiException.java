@@ -0,0 +1,21 @@
+package coin.cointrading.exception;
+
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * 업비트 API가 2xx 이외의 응답을 준 경우 (상태 코드와 응답 본문 보관)
+ */
+@Getter
+public class UpbitApiException extends IOException {
+
+    private final int statusCode;
+    private final String responseBody;
+
+    public UpbitApiException(int statusCode, String responseBody) {
+        super("업비트 API 호출 실패: " + statusCode + " " + responseBody);
+        this.statusCode = statusCode;
+        this.responseBody = responseBody;
+    }
+}
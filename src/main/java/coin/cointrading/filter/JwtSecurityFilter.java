@@ -40,7 +40,8 @@ public class JwtSecurityFilter extends OncePerRequestFilter {
                 || requestURI.equals("/auth/signup") || requestURI.equals("/auth/guide")
                 || requestURI.startsWith("/error") || requestURI.equals("/auth/returnrate")
                 || requestURI.equals("/auth/get-back-data") || requestURI.startsWith("/images")
-                || requestURI.equals("/auth/backdatas")) {
+                || requestURI.equals("/auth/backdatas") || requestURI.equals("/auth/sweeps")
+                || requestURI.equals("/actuator/health") || requestURI.equals("/actuator/prometheus")) {
             chain.doFilter(httpRequest, httpResponse);
             return;
         }
@@ -6,13 +6,13 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
-import java.util.Optional;
 
-public interface BackDataRepository extends JpaRepository<BackData, Long> {
+public interface BackDataRepository extends JpaRepository<BackData, Long>, BackDataRepositoryCustom {
     @Query("SELECT d FROM BackData d WHERE d.coin = :coin ORDER BY d.day DESC")
     List<BackData> findLatestData(Pageable pageable, String coin);
 
-    Optional<BackData> findByCoinAndDay(String coin, String day);
+    @Query("SELECT d.day FROM BackData d WHERE d.coin = :coin AND d.day BETWEEN :from AND :to")
+    List<String> findDaysBetween(String coin, String from, String to);
 
     List<BackData> findByCoinAndTradingStatusOrderByDayDesc(String coin, String tradingStatus);
 }
@@ -0,0 +1,13 @@
+package coin.cointrading.repository;
+
+import coin.cointrading.domain.BackData;
+
+import java.util.List;
+
+public interface BackDataRepositoryCustom {
+
+    /**
+     * JDBC 배치로 한 번에 저장 (IDENTITY 키라 JPA saveAll은 배치되지 않음)
+     */
+    void insertAll(List<BackData> backDatas);
+}
@@ -0,0 +1,28 @@
+package coin.cointrading.repository;
+
+import coin.cointrading.domain.BackData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BackDataRepositoryImpl implements BackDataRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO backdatas (day, coin, trading_status, return_rate) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<BackData> backDatas) {
+        if (backDatas.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, backDatas, backDatas.size(), (ps, backData) -> {
+            ps.setString(1, backData.getDay());
+            ps.setString(2, backData.getCoin());
+            ps.setString(3, backData.getTradingStatus());
+            ps.setDouble(4, backData.getReturnRate());
+        });
+    }
+}
@@ -0,0 +1,176 @@
+package coin.cointrading.repository;
+
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
+import coin.cointrading.domain.Coin;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마켓 / 캔들 단위별 원본 캔들(OHLCV) 로컬 보관 파일
+ * 헤더 8바이트 뒤에 48바이트 고정 길이 레코드(time long + open/high/low/close/volume double)를 시간순으로 뒤에만 추가하고,
+ * 기동 시에는 파일 전체를 메모리 매핑해 컬럼 배열로 바로 읽는다
+ */
+@Slf4j
+@Repository
+public class CandleArchive {
+
+    static final int HEADER_BYTES = 8;
+    static final int RECORD_BYTES = Long.BYTES + Double.BYTES * 5;
+    private static final int MAGIC = 0x434E444C; // "CNDL"
+    private static final short VERSION = 1;
+    private static final int LOAD_HEADROOM = 256; // 로드 직후 추가분으로 배열이 바로 교체되지 않도록 여유분
+
+    private final Path directory;
+    private final ConcurrentHashMap<Path, Object> locks = new ConcurrentHashMap<>();
+
+    public CandleArchive(@Value("${candle.archive.dir:data/candles}") String directory) {
+        this.directory = Path.of(directory);
+    }
+
+    /**
+     * 보관 중인 캔들 전체를 읽어 시계열로 반환, 파일이 없거나 손상됐으면 빈 시계열
+     * 마지막 레코드가 기록 중 끊겨 일부만 남았으면 그 레코드는 무시한다
+     */
+    public CandleSeries load(Coin coin, CandleInterval interval) {
+        Path file = file(coin, interval);
+        if (!Files.exists(file)) return new CandleSeries();
+
+        long start = System.nanoTime();
+        synchronized (lock(file)) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                int records = records(channel);
+                if (records < 0) {
+                    log.warn("{} 캔들 보관 파일 형식이 달라 무시합니다", file);
+                    return new CandleSeries();
+                }
+
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, (long) records * RECORD_BYTES);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                int capacity = records + LOAD_HEADROOM;
+                long[] times = new long[capacity];
+                double[] opens = new double[capacity];
+                double[] highs = new double[capacity];
+                double[] lows = new double[capacity];
+                double[] closes = new double[capacity];
+                double[] volumes = new double[capacity];
+                for (int i = 0, position = 0; i < records; i++, position += RECORD_BYTES) {
+                    times[i] = buffer.getLong(position);
+                    opens[i] = buffer.getDouble(position + 8);
+                    highs[i] = buffer.getDouble(position + 16);
+                    lows[i] = buffer.getDouble(position + 24);
+                    closes[i] = buffer.getDouble(position + 32);
+                    volumes[i] = buffer.getDouble(position + 40);
+                }
+
+                log.info("{} {} 캔들 {}개 로드: {}ms", coin, interval, records,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                return CandleSeries.wrap(times, opens, highs, lows, closes, volumes, records);
+            } catch (IOException e) {
+                log.error("{} 캔들 보관 파일 읽기 실패: {}", file, e.getMessage());
+                return new CandleSeries();
+            }
+        }
+    }
+
+    /**
+     * 캔들 보관, 파일의 마지막 캔들 이후 분량만 뒤에 추가
+     * 파일보다 과거 구간까지 포함하면 파일 전체를 새로 쓴다 (임시 파일 작성 후 교체)
+     *
+     * @param candles 완성된(마감된) 캔들만 전달, 보관된 캔들은 수정되지 않는다
+     */
+    public void save(Coin coin, CandleInterval interval, CandleSeries.View candles) throws IOException {
+        if (candles.isEmpty()) return;
+
+        Path file = file(coin, interval);
+        synchronized (lock(file)) {
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                int records = records(channel);
+                if (records > 0 && candles.time(0) >= firstTime(channel)) {
+                    long last = timeAt(channel, records - 1);
+                    CandleSeries.View newer = candles.range(last + 1, Long.MAX_VALUE);
+                    long position = HEADER_BYTES + (long) records * RECORD_BYTES;
+                    channel.truncate(position); // 끊긴 레코드 제거
+                    write(channel, position, newer);
+                    return;
+                }
+            }
+            rewrite(file, candles);
+        }
+    }
+
+    private void rewrite(Path file, CandleSeries.View candles) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_BYTES).flip();
+            channel.write(header, 0);
+            write(channel, HEADER_BYTES, candles);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void write(FileChannel channel, long position, CandleSeries.View candles) throws IOException {
+        if (candles.isEmpty()) return;
+
+        ByteBuffer buffer = ByteBuffer.allocate(candles.size() * RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < candles.size(); i++) {
+            buffer.putLong(candles.time(i))
+                    .putDouble(candles.open(i))
+                    .putDouble(candles.high(i))
+                    .putDouble(candles.low(i))
+                    .putDouble(candles.close(i))
+                    .putDouble(candles.volume(i));
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * 완전한 레코드 수, 헤더가 다르면 -1
+     */
+    private int records(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size == 0) return 0;
+        if (size < HEADER_BYTES) return -1;
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(header, 0);
+        if (header.getInt(0) != MAGIC || header.getShort(4) != VERSION || header.getShort(6) != RECORD_BYTES) return -1;
+        return (int) ((size - HEADER_BYTES) / RECORD_BYTES);
+    }
+
+    private long firstTime(FileChannel channel) throws IOException {
+        return timeAt(channel, 0);
+    }
+
+    private long timeAt(FileChannel channel, int record) throws IOException {
+        ByteBuffer time = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(time, HEADER_BYTES + (long) record * RECORD_BYTES);
+        return time.getLong(0);
+    }
+
+    private Object lock(Path file) {
+        return locks.computeIfAbsent(file, key -> new Object());
+    }
+
+    private Path file(Coin coin, CandleInterval interval) {
+        return directory.resolve(coin.getMarketCode() + "." + interval.name().toLowerCase() + ".candles");
+    }
+}
@@ -0,0 +1,20 @@
+package coin.cointrading.repository;
+
+import coin.cointrading.domain.SweepResult;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SweepResultRepository extends JpaRepository<SweepResult, Long> {
+
+    /**
+     * 코인의 가장 최근 탐색 결과를 순위순으로 조회
+     */
+    @Query("SELECT s FROM SweepResult s WHERE s.coin = :coin " +
+            "AND s.runAt = (SELECT MAX(r.runAt) FROM SweepResult r WHERE r.coin = :coin) " +
+            "ORDER BY s.ranking")
+    List<SweepResult> findLatest(@Param("coin") String coin, Pageable pageable);
+}
@@ -0,0 +1,17 @@
+package coin.cointrading.repository;
+
+import coin.cointrading.domain.TradeMonthlySummary;
+import coin.cointrading.domain.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface TradeMonthlySummaryRepository extends JpaRepository<TradeMonthlySummary, Long> {
+
+    Optional<TradeMonthlySummary> findByUserAndTradeMonth(User user, String tradeMonth);
+
+    List<TradeMonthlySummary> findByUserOrderByTradeMonthDesc(User user);
+
+    boolean existsByUser(User user);
+}
@@ -1,11 +1,30 @@
 package coin.cointrading.repository;
 
 import coin.cointrading.domain.TradeInfo;
+import coin.cointrading.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface TradeRepository extends JpaRepository<TradeInfo, Long> {
 
-    List<TradeInfo> findByUserUserId(String userId);
+    /**
+     * 유저의 최신 거래 기록 첫 페이지, (user_id, trading_day, id) 인덱스 순서로 조회
+     */
+    @Query("SELECT t FROM TradeInfo t WHERE t.user = :user ORDER BY t.tradingDay DESC, t.id DESC")
+    List<TradeInfo> findLatest(@Param("user") User user, Pageable pageable);
+
+    /**
+     * 커서(거래일, id) 이전의 거래 기록 페이지
+     */
+    @Query("SELECT t FROM TradeInfo t WHERE t.user = :user " +
+            "AND (t.tradingDay < :day OR (t.tradingDay = :day AND t.id < :id)) " +
+            "ORDER BY t.tradingDay DESC, t.id DESC")
+    List<TradeInfo> findBefore(@Param("user") User user, @Param("day") LocalDate day, @Param("id") Long id, Pageable pageable);
+
+    boolean existsByUser(User user);
 }
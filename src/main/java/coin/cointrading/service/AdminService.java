@@ -2,10 +2,12 @@ package coin.cointrading.service;
 
 import coin.cointrading.domain.Role;
 import coin.cointrading.domain.User;
+import coin.cointrading.dto.UserChangedEvent;
 import coin.cointrading.exception.CustomException;
 import coin.cointrading.exception.ErrorCode;
 import coin.cointrading.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +17,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AdminService {
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void changeRole(Long userId, Role newRole) {
@@ -22,6 +25,7 @@ public class AdminService {
                 .orElseThrow(() -> new CustomException(ErrorCode.AUTH_USER_NOT_FOUND));
 
         user.changeRole(newRole);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUserId())); // 실행 중인 세션 갱신
     }
 
     public List<User> getAllUsers() {
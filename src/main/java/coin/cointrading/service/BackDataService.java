@@ -1,17 +1,15 @@
 package coin.cointrading.service;
 
 import coin.cointrading.domain.BackData;
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
 import coin.cointrading.domain.Coin;
-import coin.cointrading.dto.UpbitCandle;
 import coin.cointrading.repository.BackDataRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.Response;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,9 +21,16 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -34,67 +39,81 @@ import java.util.concurrent.ConcurrentHashMap;
 public class BackDataService {
 
     private final BackDataRepository backDataRepository;
-    private final OkHttpClient okHttpClient;
+    private final CandleStore candleStore;
     @Getter
     private final ConcurrentHashMap<Coin, List<BackData>> backDataMap;
+    private final ExecutorService executor;
+    private final ReturnRateAggregates returnRateAggregates;
+    private final Set<Coin> readyCoins = ConcurrentHashMap.newKeySet(); // 백데이터 준비가 끝난 코인
 
-    @PostConstruct
-    public void postBackData() {
-        for (Coin coin : Coin.values()) {
-            LocalDate today = LocalDate.now();
+    /**
+     * 앱 기동 후 코인별 백데이터를 백그라운드에서 병렬로 준비
+     * 기동(로그인 등)을 막지 않고, 준비가 끝난 코인부터 조회 가능
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp(ApplicationReadyEvent event) {
+        log.info("====== 앱 기동 완료: {}ms, 백데이터 준비 시작 ======", event.getTimeTaken().toMillis());
+        long start = System.nanoTime();
+
+        CompletableFuture<?>[] tasks = Arrays.stream(Coin.values())
+                .map(coin -> CompletableFuture.runAsync(() -> warmUp(coin), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(tasks)
+                .whenComplete((result, e) -> log.info("✅ 백데이터 준비 완료: {}ms", elapsedMillis(start)));
+    }
+
+    /**
+     * 코인 1개 준비: 마지막 저장일 이후 캔들만 받아 적재한 뒤 캐시 로드
+     * 업비트 호출이 실패해도 로컬 보관 캔들과 저장된 데이터로 캐시를 채워 조회는 가능하게 한다
+     */
+    void warmUp(Coin coin) {
+        long start = System.nanoTime();
+        try {
             Pageable pageable = PageRequest.of(0, 1); // 최신 1개만 가져옴
             List<BackData> latestDataList = backDataRepository.findLatestData(pageable, coin.name());
 
+            int count;
             if (latestDataList != null && !latestDataList.isEmpty()) {
                 BackData latestData = latestDataList.get(0);  // 첫 번째 데이터 가져오기
                 LocalDate latestDay = LocalDate.parse(latestData.getDay(), DateTimeFormatter.ISO_DATE);
-                int daysBetween = (int) ChronoUnit.DAYS.between(latestDay, today) + 1;
-                getData(String.valueOf(daysBetween));
+                count = (int) ChronoUnit.DAYS.between(latestDay, LocalDate.now()) + 1;
             } else {
-                log.warn("====== 데이터가 없습니다 초기 데이터를 업데이트합니다 ======");
-                getData("200");
+                log.warn("====== {} 데이터가 없습니다 초기 데이터를 업데이트합니다 ======", coin);
+                count = 200;
             }
-            backDataMap.put(coin, backDataRepository.findByCoinAndTradingStatusOrderByDayDesc(coin.name(), "O"));
+            CandleSeries.View candles;
+            try {
+                candles = candleStore.load(coin, CandleInterval.DAY, count);
+            } catch (IOException e) {
+                log.warn("{} 캔들 조회 실패, 보관된 캔들로 적재: {}", coin, e.getMessage());
+                candles = candleStore.series(coin, CandleInterval.DAY).last(count);
+            }
+            ingest(coin, candles);
+        } catch (Exception e) {
+            log.error("{} 백데이터 갱신 실패, 저장된 데이터만 사용: {}", coin, e.getMessage());
         }
+
+        List<BackData> traded = backDataRepository.findByCoinAndTradingStatusOrderByDayDesc(coin.name(), "O");
+        backDataMap.put(coin, traded);
+        returnRateAggregates.replace(coin, traded);
+        readyCoins.add(coin);
+        log.info("{} 백데이터 준비: {}ms", coin, elapsedMillis(start));
     }
 
+    public boolean isReady(Coin coin) {
+        return readyCoins.contains(coin);
+    }
+
+    /**
+     * 최근 day일 캔들로 백데이터 적재
+     * 이미 저장된 날짜는 범위 조회 1회로 걸러내고, 새 날짜만 배치 INSERT 후 캐시에 한 번에 병합
+     */
     @Transactional
     public void getData(String day) {
         for (Coin coin : Coin.values()) {
-            String url = "https://api.upbit.com/v1/candles/days?market=KRW-" + coin + "&count=" + day;
             try {
-                // API 호출
-                String jsonResponse = fetchApiData(url);
-
-                // JSON 파싱
-                UpbitCandle[] candles = parseCandleData(jsonResponse);
-
-                // 시간 계산
-                int hour = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).getHour();
-                int j = hour < 9 ? 2 : 1;
-                for (int i = j; i < candles.length - 1; i++) {
-                    String days = candles[i].getCandleDateTimeKst().substring(0, 10);
-                    double targetPrice = candles[i + 1].getTradePrice() + (candles[i + 1].getHighPrice() - candles[i + 1].getLowPrice()) * 0.5;
-                    double todayHighPrice = candles[i].getHighPrice();
-                    String tradingStatus = todayHighPrice >= targetPrice ? "O" : "X";
-                    double todayTradePrice = candles[i].getTradePrice();
-                    double returnRate = (todayTradePrice - targetPrice) / targetPrice * 100;
-                    returnRate = Math.round(returnRate * 10.0) / 10.0;
-
-                    BackData findCoin = backDataRepository.findByCoinAndDay(coin.name(), day).orElse(null);
-                    // DB 및 캐시 저장
-                    if (findCoin == null) { // 백데이터 중복 확인
-                        BackData newBackData = saveBackData(days, coin, tradingStatus, returnRate);
-                        if(backDataMap.containsKey(coin) && newBackData.getTradingStatus().equals("O")){
-                            List<BackData> backDataList = backDataMap.get(coin);
-                            backDataList.add(newBackData);
-                            backDataList.sort(Comparator.comparing(BackData::getDay).reversed());
-                        }
-                        log.info("✅{}일 백데이터 추가 완료", days);
-                    } else {
-                        log.info("❌이미 해당 날짜의 백데이터가 존재합니다.");
-                    }
-                }
+                int added = ingest(coin, candleStore.load(coin, CandleInterval.DAY, Integer.parseInt(day)));
+                log.info("✅{} 백데이터 {}건 추가 완료", coin, added);
             } catch (IOException e) {
                 log.error("API 호출 중 오류 발생: {}", e.getMessage(), e);
                 throw new IllegalArgumentException("데이터를 가져오는 중 오류가 발생했습니다.", e);
@@ -102,30 +121,65 @@ public class BackDataService {
         }
     }
 
-    private String fetchApiData(String url) throws IOException {
-        Request request = new Request.Builder()
-                .url(url)
-                .get()
-                .addHeader("accept", "application/json")
-                .build();
+    /**
+     * 일봉(시간순)에서 저장되지 않은 날짜만 골라 저장
+     *
+     * @return 새로 저장한 건수
+     */
+    int ingest(Coin coin, CandleSeries.View candles) {
+        // 시간 계산, 최근 j개(진행 중인 캔들)는 제외
+        int hour = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).getHour();
+        int j = hour < 9 ? 2 : 1;
+        int latest = candles.size() - 1 - j;
+        if (latest < 1) return 0;
 
-        try (Response response = okHttpClient.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                throw new IOException("API 호출 실패: " + response);
-            }
-            assert response.body() != null;
-            return response.body().string();
+        String latestDay = candles.kstDay(latest);
+        String oldestDay = candles.kstDay(1);
+        Set<String> savedDays = new HashSet<>(backDataRepository.findDaysBetween(coin.name(), oldestDay, latestDay));
+
+        List<BackData> newBackDatas = new ArrayList<>();
+        for (int i = latest; i >= 1; i--) {
+            String days = candles.kstDay(i);
+            if (savedDays.contains(days)) continue; // 백데이터 중복 확인
+
+            double targetPrice = candles.close(i - 1) + (candles.high(i - 1) - candles.low(i - 1)) * 0.5;
+            double todayHighPrice = candles.high(i);
+            String tradingStatus = todayHighPrice >= targetPrice ? "O" : "X";
+            double todayTradePrice = candles.close(i);
+            double returnRate = (todayTradePrice - targetPrice) / targetPrice * 100;
+            returnRate = Math.round(returnRate * 10.0) / 10.0;
+
+            newBackDatas.add(new BackData(days, coin.name(), tradingStatus, returnRate));
         }
+
+        // DB 및 캐시 저장
+        backDataRepository.insertAll(newBackDatas);
+        mergeIntoCache(coin, newBackDatas);
+        return newBackDatas.size();
     }
 
-    private UpbitCandle[] parseCandleData(String jsonResponse) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(jsonResponse, UpbitCandle[].class);
+    /**
+     * 거래된 날짜만 최신순 캐시에 병합, 읽는 쪽이 정렬 중인 리스트를 보지 않도록 새 리스트로 교체
+     * 수익률 집계도 같은 시점에 새 날짜만 반영
+     */
+    private void mergeIntoCache(Coin coin, List<BackData> newBackDatas) {
+        List<BackData> traded = newBackDatas.stream()
+                .filter(backData -> backData.getTradingStatus().equals("O"))
+                .toList();
+        if (traded.isEmpty()) return;
+
+        backDataMap.computeIfPresent(coin, (key, cached) -> {
+            List<BackData> merged = new ArrayList<>(cached.size() + traded.size());
+            merged.addAll(cached);
+            merged.addAll(traded);
+            merged.sort(Comparator.comparing(BackData::getDay).reversed());
+            returnRateAggregates.add(coin, traded, merged);
+            return merged;
+        });
     }
 
-    private BackData saveBackData(String day, Coin coin, String tradingStatus, double returnRate) {
-        BackData backData = new BackData(day, coin.name(), tradingStatus, returnRate);
-        backDataRepository.save(backData);
-        return backData;
+    private long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
     }
+
 }
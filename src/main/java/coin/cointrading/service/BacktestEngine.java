@@ -0,0 +1,189 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.BacktestParams;
+import coin.cointrading.dto.BacktestResult;
+import coin.cointrading.dto.BacktestTrade;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실거래와 같은 변동성 돌파 규칙을 캔들 시계열에 재생하는 백테스트
+ * 거래일은 KST 09:00 ~ 다음날 08:59 (UTC 날짜와 같음), 목표가는 전 거래일 고가/저가/종가로 계산한다.
+ * <ul>
+ *     <li>매수: 거래일 중 처음으로 가격이 목표가 이상 → max(시가, 목표가)에 체결</li>
+ *     <li>손절: 보유 중 가격이 목표가 * stopRatio 이하 → min(시가, 손절가)에 체결, 그날은 재매수 없음</li>
+ *     <li>장 종료: 거래일 마지막 캔들 종가에 매도 (08:59:50 매도)</li>
+ * </ul>
+ * 캔들 안의 가격 순서는 알 수 없으므로 매수 캔들에서 저가가 손절가 이하이면 손절까지 간 것으로 본다.
+ * 캔들을 앞에서부터 한 번만 읽으며 중간 배열을 만들지 않아 수년치 분봉도 그대로 평가할 수 있다.
+ */
+public final class BacktestEngine {
+
+    private static final long SESSION_SECONDS = 86_400;
+
+    private BacktestEngine() {
+    }
+
+    /**
+     * 거래 목록과 자산 곡선까지 포함한 백테스트
+     */
+    public static BacktestResult run(Coin coin, CandleInterval interval, CandleSeries.View candles, BacktestParams params) {
+        return replay(coin, interval, candles, params, true);
+    }
+
+    /**
+     * 요약 지표만 계산하는 백테스트, 거래 / 자산 곡선 객체를 만들지 않는다 (파라미터 탐색용)
+     */
+    public static BacktestResult summarize(Coin coin, CandleInterval interval, CandleSeries.View candles, BacktestParams params) {
+        return replay(coin, interval, candles, params, false);
+    }
+
+    private static BacktestResult replay(Coin coin, CandleInterval interval, CandleSeries.View candles,
+                                         BacktestParams params, boolean detailed) {
+        Ledger ledger = new Ledger(params, detailed);
+
+        long session = Long.MIN_VALUE;
+        double prevHigh = Double.NaN, prevLow = Double.NaN, prevClose = Double.NaN;
+        double high = Double.NaN, low = Double.NaN, close = Double.NaN;
+        double target = Double.NaN, stop = Double.NaN;
+        boolean traded = false;
+        boolean holding = false;
+        int entryIndex = -1;
+        double entryPrice = 0;
+
+        int n = candles.size();
+        for (int i = 0; i < n; i++) {
+            long candleSession = Math.floorDiv(candles.time(i), SESSION_SECONDS);
+            double open = candles.open(i);
+            double candleHigh = candles.high(i);
+            double candleLow = candles.low(i);
+
+            // 거래일 변경: 보유분 장 종료 매도 후 목표가 갱신
+            if (candleSession != session) {
+                if (session != Long.MIN_VALUE) {
+                    if (holding) {
+                        ledger.exit(candles, session, entryIndex, entryPrice, i - 1, close, BacktestTrade.Exit.CLOSE);
+                        holding = false;
+                    }
+                    if (!Double.isNaN(target)) ledger.markDay(session);
+                }
+
+                boolean consecutive = session != Long.MIN_VALUE && candleSession == session + 1;
+                prevHigh = consecutive ? high : Double.NaN;
+                prevLow = consecutive ? low : Double.NaN;
+                prevClose = consecutive ? close : Double.NaN;
+                target = prevClose + (prevHigh - prevLow) * params.k();
+                stop = target * params.stopRatio();
+                traded = false;
+                session = candleSession;
+                high = candleHigh;
+                low = candleLow;
+            } else {
+                high = Math.max(high, candleHigh);
+                low = Math.min(low, candleLow);
+            }
+            close = candles.close(i);
+
+            // 조건 매수
+            boolean boughtNow = false;
+            if (!traded && candleHigh >= target) { // 목표가가 없으면(NaN) 항상 false
+                traded = true;
+                holding = true;
+                boughtNow = true;
+                entryIndex = i;
+                entryPrice = Math.max(open, target);
+            }
+
+            // 손절
+            if (holding && candleLow <= stop) {
+                double exitPrice = boughtNow ? stop : Math.min(open, stop);
+                ledger.exit(candles, session, entryIndex, entryPrice, i, exitPrice, BacktestTrade.Exit.STOP);
+                holding = false;
+            }
+        }
+
+        // 마지막 거래일은 끝나지 않았을 수 있으므로 마지막 종가로 평가만 한다
+        if (holding) {
+            ledger.exit(candles, session, entryIndex, entryPrice, n - 1, close, BacktestTrade.Exit.END);
+        }
+        if (!Double.isNaN(target)) ledger.markDay(session);
+
+        return ledger.result(coin, interval, n);
+    }
+
+    /**
+     * 거래 목록과 거래일별 누적 자산 / 낙폭 집계
+     * 샤프 지수용 일별 수익률 평균 / 분산은 값을 모아두지 않고 누적 계산(Welford)한다
+     */
+    private static final class Ledger {
+        private static final double TRADING_DAYS_PER_YEAR = 365; // 코인은 휴장 없음
+
+        private final BacktestParams params;
+        private final boolean detailed;
+        private final List<BacktestTrade> trades = new ArrayList<>();
+        private final List<BacktestResult.EquityPoint> equityCurve = new ArrayList<>();
+        private double equity = 1;
+        private double peak = 1;
+        private double maxDrawdown;
+        private int tradeCount;
+        private int wins;
+        private double dayStartEquity = 1;
+        private int days;
+        private double meanDailyReturn;
+        private double dailyReturnSquares;
+
+        private Ledger(BacktestParams params, boolean detailed) {
+            this.params = params;
+            this.detailed = detailed;
+        }
+
+        private void exit(CandleSeries.View candles, long session, int entryIndex, double entryPrice,
+                          int exitIndex, double exitPrice, BacktestTrade.Exit exit) {
+            // 수수료를 반영한 매도 금액 / 매수 금액
+            double multiplier = (exitPrice * params.sellFee()) / (entryPrice * params.buyFee());
+            if (detailed) {
+                trades.add(new BacktestTrade(LocalDate.ofEpochDay(session).toString(), candles.kstDateTime(entryIndex), entryPrice,
+                        candles.kstDateTime(exitIndex), exitPrice, exit, (multiplier - 1) * 100));
+            }
+            tradeCount++;
+            if (multiplier > 1) wins++;
+            equity *= multiplier;
+        }
+
+        private void markDay(long session) {
+            peak = Math.max(peak, equity);
+            double drawdown = (equity / peak - 1) * 100;
+            maxDrawdown = Math.min(maxDrawdown, drawdown);
+            if (detailed) {
+                equityCurve.add(new BacktestResult.EquityPoint(LocalDate.ofEpochDay(session).toString(), equity, drawdown));
+            }
+
+            double dailyReturn = equity / dayStartEquity - 1;
+            dayStartEquity = equity;
+            days++;
+            double delta = dailyReturn - meanDailyReturn;
+            meanDailyReturn += delta / days;
+            dailyReturnSquares += delta * (dailyReturn - meanDailyReturn);
+        }
+
+        /**
+         * 연환산 샤프 지수 (무위험 수익률 0), 변동이 없으면 0
+         */
+        private double sharpe() {
+            if (days < 2) return 0;
+            double deviation = Math.sqrt(dailyReturnSquares / (days - 1));
+            return deviation == 0 ? 0 : meanDailyReturn / deviation * Math.sqrt(TRADING_DAYS_PER_YEAR);
+        }
+
+        private BacktestResult result(Coin coin, CandleInterval interval, int candles) {
+            double winRate = tradeCount == 0 ? 0 : (double) wins / tradeCount * 100;
+            return new BacktestResult(coin, interval, params, candles, (equity - 1) * 100, maxDrawdown, winRate,
+                    sharpe(), tradeCount, trades, equityCurve);
+        }
+    }
+}
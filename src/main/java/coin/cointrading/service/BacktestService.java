@@ -0,0 +1,100 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.BacktestParams;
+import coin.cointrading.dto.BacktestResult;
+import coin.cointrading.exception.CustomException;
+import coin.cointrading.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보관 중인 캔들로 실거래 규칙 백테스트 (업비트 / DB 호출 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BacktestService {
+
+    private static final long DAY_SECONDS = 86_400;
+
+    private final CandleStore candleStore;
+    private final ExecutorService executor;
+
+    /**
+     * [from, to] 거래일 백테스트, 첫 거래일 목표가 계산을 위해 하루 전 캔들부터 읽는다
+     *
+     * @throws CustomException 보관 중인 캔들(CandleBackfill이 채움)이 기간을 덮지 못하는 경우
+     */
+    public BacktestResult run(Coin coin, CandleInterval interval, LocalDate from, LocalDate to, BacktestParams params) {
+        return run(coin, interval, candles(coin, interval, from, to), params);
+    }
+
+    /**
+     * 전체 코인을 병렬로 백테스트, 기간 검증은 실행 전에 모두 끝낸다
+     */
+    public List<BacktestResult> runAll(CandleInterval interval, LocalDate from, LocalDate to, BacktestParams params) {
+        Map<Coin, CandleSeries.View> candles = new EnumMap<>(Coin.class);
+        for (Coin coin : Coin.values()) {
+            candles.put(coin, candles(coin, interval, from, to));
+        }
+
+        List<CompletableFuture<BacktestResult>> futures = candles.entrySet().stream()
+                .map(entry -> CompletableFuture.supplyAsync(() -> run(entry.getKey(), interval, entry.getValue(), params), executor))
+                .toList();
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    private BacktestResult run(Coin coin, CandleInterval interval, CandleSeries.View candles, BacktestParams params) {
+        long start = System.nanoTime();
+        BacktestResult result = BacktestEngine.run(coin, interval, candles, params);
+        log.info("{} {} 백테스트: 캔들 {}개, 거래 {}건, {}ms", coin, interval, result.candles(), result.tradeCount(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    /**
+     * 보관 중인 캔들이 시작일과 종료일을 모두 포함할 때만 구간 반환, 빈 결과를 정상 통계처럼 돌려주지 않는다
+     */
+    private CandleSeries.View candles(Coin coin, CandleInterval interval, LocalDate from, LocalDate to) {
+        return covered(candleStore.series(coin, interval), coin, interval, from, to);
+    }
+
+    /**
+     * 파라미터 탐색도 같은 기준으로 검증
+     */
+    static CandleSeries.View covered(CandleSeries series, Coin coin, CandleInterval interval, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) throw new CustomException(ErrorCode.BACKTEST_INVALID_RANGE);
+
+        CandleSeries.View stored = series.view();
+        long fromTime = from.toEpochDay() * DAY_SECONDS;
+        long toTime = to.toEpochDay() * DAY_SECONDS;
+        if (stored.isEmpty()) {
+            throw new CustomException(ErrorCode.BACKTEST_CANDLE_NOT_COVERED, coin, interval, "없음");
+        }
+        // 시작일은 첫 거래일 목표가 계산에 쓰는 전날 캔들부터 있어야 함
+        // 종료일은 하루 여유, 오늘(KST) 종료 시 UTC 기준 당일 캔들이 아직 없을 수 있음
+        if (stored.time(0) > fromTime - DAY_SECONDS || stored.time(stored.size() - 1) < toTime - DAY_SECONDS) {
+            throw new CustomException(ErrorCode.BACKTEST_CANDLE_NOT_COVERED, coin, interval,
+                    day(stored.time(0)) + " ~ " + day(stored.time(stored.size() - 1)));
+        }
+        return stored.range(fromTime - DAY_SECONDS, toTime + DAY_SECONDS);
+    }
+
+    private static LocalDate day(long epochSecond) {
+        return LocalDate.ofEpochDay(Math.floorDiv(epochSecond, DAY_SECONDS));
+    }
+}
@@ -0,0 +1,117 @@
+package coin.cointrading.service;
+
+import coin.cointrading.dto.AccountResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 실행 중인 유저의 업비트 잔고 스냅샷
+ * 백그라운드 갱신과 체결 직후 갱신으로 채워지고, 주문 시에는 maxAge 이내의 스냅샷만 사용한다
+ * 스냅샷 시각은 조회를 시작한 시점이며, 마지막 evict 이전에 시작된 조회 결과는 버린다 (주문 전 잔고가 다시 들어오지 않도록)
+ */
+@Component
+public class BalanceCache {
+
+    private final ConcurrentHashMap<String, Entry> balances = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> generations = new ConcurrentHashMap<>(); // 유저별 evict 횟수
+    private final long maxAgeMillis;
+    private final LongSupplier clock;
+    private final Counter hit;
+    private final Counter stale;
+    private final Counter miss;
+    private final Timer ageAtOrder;
+
+    public BalanceCache(MeterRegistry meterRegistry,
+                        @Value("${upbit.balance-cache.max-age-ms:30000}") long maxAgeMillis) {
+        this(meterRegistry, maxAgeMillis, System::currentTimeMillis);
+    }
+
+    BalanceCache(MeterRegistry meterRegistry, long maxAgeMillis, LongSupplier clock) {
+        this.maxAgeMillis = maxAgeMillis;
+        this.clock = clock;
+        this.hit = lookupCounter(meterRegistry, "hit");
+        this.stale = lookupCounter(meterRegistry, "stale");
+        this.miss = lookupCounter(meterRegistry, "miss");
+        this.ageAtOrder = Timer.builder("upbit.balance.cache.age")
+                .description("주문 시점 잔고 스냅샷 경과 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("upbit.balance.cache.size", balances, ConcurrentHashMap::size);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("upbit.balance.cache.lookups")
+                .description("주문 시점 잔고 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 계좌 조회 요청 직전에 호출, 응답을 put할 때 그대로 넘긴다
+     */
+    public Lookup begin(String userId) {
+        return new Lookup(generations.getOrDefault(userId, 0L), clock.getAsLong());
+    }
+
+    /**
+     * 계좌 조회 결과 저장, 조회 시작 후 evict됐거나 더 나중에 시작된 조회 결과가 이미 있으면 버린다
+     */
+    public void put(String userId, Lookup lookup, List<AccountResponse> accounts) {
+        if (accounts == null) return;
+        // evict와 같은 키 잠금 안에서 세대 비교 후 저장
+        generations.compute(userId, (key, generation) -> {
+            if ((generation == null ? 0L : generation) == lookup.generation()) {
+                balances.merge(key, new Entry(List.copyOf(accounts), lookup.startedAt()),
+                        (current, next) -> next.fetchedAt() >= current.fetchedAt() ? next : current);
+            }
+            return generation;
+        });
+    }
+
+    /**
+     * 주문 시점 조회, maxAge가 지났거나 없으면 비어 있는 값 반환 (호출부에서 실시간 조회)
+     */
+    public Optional<List<AccountResponse>> getForOrder(String userId) {
+        Entry entry = balances.get(userId);
+        if (entry == null) {
+            miss.increment();
+            return Optional.empty();
+        }
+
+        long age = clock.getAsLong() - entry.fetchedAt();
+        ageAtOrder.record(age, TimeUnit.MILLISECONDS);
+        if (age > maxAgeMillis) {
+            stale.increment();
+            return Optional.empty();
+        }
+        hit.increment();
+        return Optional.of(entry.accounts());
+    }
+
+    /**
+     * 주문 직후 잔고가 바뀌므로 다음 갱신 전까지 사용하지 않도록 제거
+     */
+    public void evict(String userId) {
+        generations.compute(userId, (key, generation) -> {
+            balances.remove(key);
+            return generation == null ? 1L : generation + 1;
+        });
+    }
+
+    /**
+     * 조회 시작 시점의 evict 세대와 시각
+     */
+    public record Lookup(long generation, long startedAt) {
+    }
+
+    private record Entry(List<AccountResponse> accounts, long fetchedAt) {
+    }
+}
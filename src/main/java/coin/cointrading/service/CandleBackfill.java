@@ -0,0 +1,106 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
+import coin.cointrading.domain.Coin;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 로컬 캔들 보관 파일({@link coin.cointrading.repository.CandleArchive})을 백그라운드에서 채운다
+ * 일봉은 day-years년, 1분봉은 minute-days일 전까지 과거 방향으로 이어 받고, 이후 실행부터는 마지막 캔들 이후 공백만 채운다
+ * 스케줄러 스레드를 막지 않도록 가상 스레드에서 실행하고, 이전 실행이 끝나지 않았으면 건너뛴다
+ */
+@Slf4j
+@Component
+public class CandleBackfill {
+
+    private static final int CHUNK = 10_000; // 보관 파일 재작성 1회당 받는 캔들 수 (200개 x 50페이지)
+
+    private final CandleStore candleStore;
+    private final ExecutorService executor;
+    private final boolean enabled;
+    private final Map<CandleInterval, Long> horizonDays = new EnumMap<>(CandleInterval.class);
+    private final long pageDelayMillis;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Set<String> listedFrom = ConcurrentHashMap.newKeySet(); // 상장 시점까지 받은 코인 / 캔들 단위
+
+    public CandleBackfill(CandleStore candleStore,
+                          ExecutorService executor,
+                          @Value("${candle.backfill.enabled:true}") boolean enabled,
+                          @Value("${candle.backfill.day-years:3}") int dayYears,
+                          @Value("${candle.backfill.minute-days:365}") int minuteDays,
+                          @Value("${candle.backfill.page-delay-ms:250}") long pageDelayMillis) {
+        this.candleStore = candleStore;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.horizonDays.put(CandleInterval.DAY, dayYears * 365L);
+        this.horizonDays.put(CandleInterval.MINUTE_1, (long) minuteDays);
+        this.pageDelayMillis = pageDelayMillis;
+    }
+
+    /**
+     * 기동 1분 후(백데이터 준비 이후)부터 candle.backfill.interval-ms(기본 1시간)마다 실행
+     */
+    @Scheduled(initialDelay = 60_000, fixedDelayString = "${candle.backfill.interval-ms:3600000}")
+    public void schedule() {
+        if (!enabled || !running.compareAndSet(false, true)) return;
+        executor.execute(() -> {
+            try {
+                fillAll();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    void fillAll() {
+        long start = System.nanoTime();
+        for (CandleInterval interval : CandleInterval.values()) {
+            for (Coin coin : Coin.values()) {
+                try {
+                    fill(coin, interval);
+                } catch (Exception e) {
+                    log.warn("{} {} 캔들 채우기 실패, 다음 실행에서 이어서 받음: {}", coin, interval, e.getMessage());
+                }
+            }
+        }
+        log.info("캔들 보관 파일 채우기 완료: {}ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * 마지막 캔들 이후 공백을 채운 뒤, 보관 범위 시작 시점까지 과거 캔들을 이어 받는다
+     */
+    void fill(Coin coin, CandleInterval interval) throws IOException {
+        candleStore.load(coin, interval, 1); // 마지막 캔들 이후 분량
+
+        long horizon = LocalDate.now(ZoneOffset.UTC).minusDays(horizonDays.get(interval))
+                .atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+        int added = 0;
+        while (!listedFrom.contains(coin + ":" + interval)) {
+            CandleSeries.View candles = candleStore.series(coin, interval).view();
+            if (candles.isEmpty()) break;
+            long missing = (candles.time(0) - horizon) / interval.getSeconds();
+            if (missing <= 0) break;
+
+            int count = (int) Math.min(missing, CHUNK);
+            int received = candleStore.extendBack(coin, interval, count, pageDelayMillis);
+            added += received;
+            if (received < count) listedFrom.add(coin + ":" + interval); // 상장 이전 구간
+        }
+        if (added > 0) log.info("{} {} 과거 캔들 {}개 보관", coin, interval, added);
+    }
+}
@@ -0,0 +1,177 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.UpbitCandlePage;
+import coin.cointrading.repository.CandleArchive;
+import coin.cointrading.util.UpbitHttpClient;
+import coin.cointrading.util.UpbitJsonReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 코인 / 캔들 단위별 {@link CandleSeries} 저장소
+ * 업비트 캔들 응답은 여기서 한 번만 컬럼 배열로 옮기고, 백데이터 / 목표가 / GPT 차트 데이터는 모두 이 시계열을 읽는다
+ * 처음 접근할 때 로컬 보관 파일({@link CandleArchive})에서 읽고, 이후에는 마지막 캔들 이후 분량만 업비트에서 받아 채운다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CandleStore {
+
+    private static final int MAX_COUNT = 200; // 업비트 캔들 조회 1회 최대 개수
+
+    private final UpbitHttpClient upbitHttpClient;
+    private final CandleArchive candleArchive;
+    private final Map<CandleInterval, ConcurrentHashMap<Coin, CandleSeries>> store = newStore();
+
+    private static Map<CandleInterval, ConcurrentHashMap<Coin, CandleSeries>> newStore() {
+        Map<CandleInterval, ConcurrentHashMap<Coin, CandleSeries>> store = new EnumMap<>(CandleInterval.class);
+        for (CandleInterval interval : CandleInterval.values()) {
+            store.put(interval, new ConcurrentHashMap<>());
+        }
+        return store;
+    }
+
+    /**
+     * 현재 보관 중인 시계열 (네트워크 호출 없음), 처음 접근하면 로컬 보관 파일에서 읽는다
+     */
+    public CandleSeries series(Coin coin, CandleInterval interval) {
+        return store.get(interval).computeIfAbsent(coin, key -> candleArchive.load(coin, interval));
+    }
+
+    /**
+     * 최근 count개 캔들 (시간순)
+     * 보관 중인 캔들이 있으면 마지막 캔들 이후 분량(진행 중 캔들 포함)을, count개보다 적으면 count개를 받아 채운다
+     */
+    public CandleSeries.View load(Coin coin, CandleInterval interval, int count) throws IOException {
+        CandleSeries.View cached = series(coin, interval).view();
+
+        int missing = count;
+        if (!cached.isEmpty()) {
+            long elapsed = (Instant.now().getEpochSecond() - cached.time(cached.size() - 1)) / interval.getSeconds();
+            missing = (int) Math.max(elapsed + 1, cached.size() >= count ? 0 : count);
+        }
+
+        CandleSeries series = merge(coin, interval, fetch(coin, interval, missing, "", 0));
+        archive(coin, interval, series);
+        return series.last(count);
+    }
+
+    /**
+     * 보관 중인 가장 오래된 캔들 이전 구간을 최대 count개 받아 시계열 앞에 붙인다 (과거 이력 채우기)
+     * 보관 중인 캔들이 없으면 현재 시점부터 과거 방향으로 받는다
+     *
+     * @param pageDelayMillis 페이지 요청 사이 대기 시간, 시세 요청 제한을 다른 시세 조회와 나눠 쓰기 위함
+     * @return 받은 캔들 수, count보다 적으면 상장 이전 구간까지 도달
+     */
+    public int extendBack(Coin coin, CandleInterval interval, int count, long pageDelayMillis) throws IOException {
+        CandleSeries.View cached = series(coin, interval).view();
+        String to = cached.isEmpty() ? "" : to(cached.time(0));
+        UpbitCandlePage older = fetch(coin, interval, count, to, pageDelayMillis);
+        if (older.size() > 0) archive(coin, interval, prepend(coin, interval, older));
+        return older.size();
+    }
+
+    /**
+     * 최신순으로 count개 조회, 1회 최대 개수를 넘으면 마지막 캔들 시각(to)을 넘겨 과거 방향으로 이어서 받는다
+     *
+     * @param to 이 시각 이전 캔들부터 조회 (빈 문자열이면 현재부터)
+     */
+    private UpbitCandlePage fetch(Coin coin, CandleInterval interval, int count, String to, long pageDelayMillis)
+            throws IOException {
+        UpbitCandlePage candles = new UpbitCandlePage();
+        while (candles.size() < count) {
+            if (candles.size() > 0) pause(pageDelayMillis);
+            int size = Math.min(count - candles.size(), MAX_COUNT);
+            String jsonResponse = UpbitHttpClient.await(upbitHttpClient.quotation(
+                    interval.getPath() + "?market=" + coin.getMarketCode() + "&count=" + size + to));
+            if (UpbitJsonReader.readCandles(jsonResponse, candles) < size) break; // 상장 이전 구간
+
+            to = to(candles.time(candles.size() - 1));
+        }
+        return candles;
+    }
+
+    private static String to(long epochSecond) {
+        LocalDateTime time = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+        return "&to=" + time.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "Z";
+    }
+
+    private static void pause(long millis) throws IOException {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("캔들 조회 대기 중 인터럽트", e);
+        }
+    }
+
+    /**
+     * 마감된 캔들만 보관 파일에 추가, 실패해도 메모리 시계열은 그대로 사용
+     */
+    private void archive(Coin coin, CandleInterval interval, CandleSeries series) {
+        long closedBefore = Instant.now().getEpochSecond() - interval.getSeconds() + 1;
+        try {
+            candleArchive.save(coin, interval, series.range(Long.MIN_VALUE, closedBefore));
+        } catch (IOException e) {
+            log.error("{} {} 캔들 보관 실패: {}", coin, interval, e.getMessage());
+        }
+    }
+
+    /**
+     * 업비트 응답(최신순)을 시계열에 병합
+     * 받은 구간이 보관 중인 구간보다 과거까지 덮으면 새 시계열로 교체, 아니면 마지막 캔들 이후만 추가
+     */
+    CandleSeries merge(Coin coin, CandleInterval interval, UpbitCandlePage candles) {
+        return store.get(interval).compute(coin, (key, series) -> {
+            int n = candles.size();
+            if (n == 0) return series != null ? series : new CandleSeries();
+
+            long oldest = candles.time(n - 1);
+            if (series == null || series.size() == 0 || oldest < series.view().time(0)) {
+                series = new CandleSeries(Math.max(n * 2, 16));
+            }
+
+            long last = series.size() == 0 ? Long.MIN_VALUE : series.view().time(series.size() - 1);
+            for (int i = n - 1; i >= 0; i--) {
+                long time = candles.time(i);
+                if (time < last) continue;
+                series.append(time, candles.open(i), candles.high(i), candles.low(i), candles.close(i), candles.volume(i));
+            }
+            return series;
+        });
+    }
+
+    /**
+     * 보관 중인 첫 캔들보다 과거인 캔들(최신순)을 시계열 앞에 붙여 새 시계열로 교체
+     */
+    CandleSeries prepend(Coin coin, CandleInterval interval, UpbitCandlePage older) {
+        return store.get(interval).compute(coin, (key, series) -> {
+            CandleSeries.View current = series == null ? new CandleSeries().view() : series.view();
+            long first = current.isEmpty() ? Long.MAX_VALUE : current.time(0);
+
+            CandleSeries merged = new CandleSeries(older.size() + current.size() + 16);
+            for (int i = older.size() - 1; i >= 0; i--) {
+                if (older.time(i) >= first) continue;
+                merged.append(older.time(i), older.open(i), older.high(i), older.low(i), older.close(i), older.volume(i));
+            }
+            for (int i = 0; i < current.size(); i++) {
+                merged.append(current.time(i), current.open(i), current.high(i), current.low(i), current.close(i), current.volume(i));
+            }
+            return merged;
+        });
+    }
+}
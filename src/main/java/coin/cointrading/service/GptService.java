@@ -1,96 +1,27 @@
 package coin.cointrading.service;
 
-import coin.cointrading.dto.AccountResponse;
-import coin.cointrading.dto.OrderResponse;
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.Coin;
 import coin.cointrading.dto.SimpleCandleDTO;
-import coin.cointrading.dto.UpbitCandle;
-import coin.cointrading.util.JwtTokenProvider;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.gson.Gson;
 import lombok.RequiredArgsConstructor;
 import okhttp3.*;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
-import java.security.NoSuchAlgorithmException;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class GptService {
 
-    private final String serverUrl = "https://api.upbit.com";
-    private final JwtTokenProvider jwtTokenProvider;
-    private final TradingService tradingService;
-    private final RestTemplate restTemplate;
+    private final CandleStore candleStore;
 
 //    @Value("${openai.api.key}")
     private String openAiKey;
 
-//    public OrderResponse orderCoin() throws IOException, NoSuchAlgorithmException {
-//        List<AccountResponse> account = tradingService.getAccount();
-//
-//        AccountResponse KRW = new AccountResponse();
-//        AccountResponse ETH = new AccountResponse();
-//
-//        for (AccountResponse accountResponse : account) {
-//            if (accountResponse.getCurrency().equals("KRW")) KRW = accountResponse;
-//            else if (accountResponse.getCurrency().equals("ETH")) ETH = accountResponse;
-//        }
-//
-//        ObjectMapper objectMapper = new ObjectMapper();
-//        JsonNode jsonNode = objectMapper.readTree(aiDecision());
-//
-//        String decision = jsonNode.path("decision").asText();
-//        String side;
-//        if (decision.equals("buy")) {
-//            side = "bid";
-//        } else if (decision.equals("sell")) {
-//            side = "ask";
-//        } else {
-//            return null;
-//        }
-//
-//        double balance = Math.floor(Double.parseDouble(KRW.getBalance()) * 0.9995);
-//        String price = Double.toString(balance);
-//        String volume = ETH.getBalance();
-//        String ord_type = side.equals("bid") ? "price" : "market";
-//
-//        HashMap<String, String> params = new HashMap<>();
-//        params.put("market", "KRW-ETH");
-//        params.put("side", side);
-//        params.put("ord_type", ord_type);
-//
-//        if (side.equals("bid")) {
-//            params.put("price", price);
-//        } else {
-//            params.put("volume", volume);
-//        }
-//
-//        String orderUrl = serverUrl + "/v1/orders";
-//        HttpHeaders headers = new HttpHeaders();
-//        headers.set("Content-Type", "application/json");
-//        headers.set("Authorization", jwtTokenProvider.createOrderToken(params));
-//        HttpEntity<String> entity = new HttpEntity<>(new Gson().toJson(params), headers);
-//
-//        return restTemplate.exchange(
-//                orderUrl,
-//                HttpMethod.POST,
-//                entity,
-//                new ParameterizedTypeReference<OrderResponse>() {
-//                }).getBody();
-//    }
-
     public String aiDecision() throws IOException {
         final String gptUrl = "https://api.openai.com/v1/chat/completions";
 
@@ -146,28 +77,9 @@ public class GptService {
         }
     }
 
-    private static String candleExtract() throws IOException {
-        // 업비트 차트 전달 15일치 일봉데이터 가져오기
-        OkHttpClient client = new OkHttpClient();
-
-        Request request = new Request.Builder()
-                .url("https://api.upbit.com/v1/candles/days?market=KRW-ETH&count=15")
-                .get()
-                .addHeader("accept", "application/json")
-                .build();
-
-        // try-with-resources 구문을 사용하여 자동으로 닫히도록 함
-        try (Response response = client.newCall(request).execute()) {
-            String jsonResponse = response.body().string();
-
-            // Jackson을 이용한 JSON 파싱
-            ObjectMapper objectMapper = new ObjectMapper();
-            UpbitCandle[] candles = objectMapper.readValue(jsonResponse, UpbitCandle[].class);
-            SimpleCandleDTO[] filteredCandles = Arrays.stream(candles)
-                    .map(candle -> new SimpleCandleDTO(candle.getCandleDateTimeKst(), candle.getOpeningPrice(), candle.getHighPrice(), candle.getLowPrice(), candle.getTradePrice(), candle.getCandleAccTradeVolume()))
-                    .toArray(SimpleCandleDTO[]::new);
-
-            return objectMapper.writeValueAsString(filteredCandles);
-        }
+    private String candleExtract() throws IOException {
+        // 업비트 차트 전달 15일치 일봉데이터 가져오기 (최신순)
+        SimpleCandleDTO[] filteredCandles = SimpleCandleDTO.newestFirst(candleStore.load(Coin.ETH, CandleInterval.DAY, 15));
+        return new ObjectMapper().writeValueAsString(filteredCandles);
     }
 }
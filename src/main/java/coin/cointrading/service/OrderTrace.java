@@ -0,0 +1,35 @@
+package coin.cointrading.service;
+
+/**
+ * 주문 1건의 단계별 시각 기록 핸들, 비동기 주문 파이프라인을 따라 전달된다
+ * 링 버퍼에서 이미 덮어쓴 기록이면 mark는 아무것도 하지 않는다
+ */
+public final class OrderTrace {
+
+    /**
+     * 기록 단계 (순서대로 진행)
+     */
+    public enum Stage {
+        TICK,    // 시세 수신
+        DETECT,  // 돌파 / 손절 / 장 종료 감지
+        PERMIT,  // 업비트 요청 허가 획득
+        ACCOUNT, // 잔고 확보 (캐시 또는 계좌 조회)
+        SIGNED,  // 주문 토큰 서명
+        SENT,    // 주문 응답 수신
+        DONE     // 체결 후처리 완료
+    }
+
+    public static final OrderTrace NOOP = new OrderTrace(null, -1);
+
+    private final OrderTraceRecorder recorder;
+    private final long sequence;
+
+    OrderTrace(OrderTraceRecorder recorder, long sequence) {
+        this.recorder = recorder;
+        this.sequence = sequence;
+    }
+
+    public void mark(Stage stage) {
+        if (recorder != null) recorder.mark(sequence, stage);
+    }
+}
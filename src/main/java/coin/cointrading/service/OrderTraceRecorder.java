@@ -0,0 +1,138 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.OrderTraceReport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 주문 1건(유저 1명)의 단계별 System.nanoTime 시각을 미리 할당한 링 버퍼에 기록
+ * 기록은 배열 쓰기 한 번이라 주문 경로에 부담이 없고, 가득 차면 오래된 기록부터 덮어쓴다.
+ * 슬롯마다 순번을 두어 덮어쓴 기록에 대한 늦은 mark와 조회 중 바뀐 슬롯은 버린다.
+ */
+@Component
+public class OrderTraceRecorder {
+
+    private static final OrderTrace.Stage[] STAGES = OrderTrace.Stage.values();
+    private static final long WRITING = -1;
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicLongArray stamps; // [슬롯 * 단계 수 + 단계], 0이면 미기록
+    private final AtomicLongArray sequences; // 슬롯에 기록 중인 순번
+    private final int[] coins;
+    private final int[] kinds;
+    private final AtomicLong next = new AtomicLong();
+    private final long epochNanos = System.currentTimeMillis() * 1_000_000 - System.nanoTime(); // nanoTime → 시각 변환
+
+    public OrderTraceRecorder(@Value("${trading.trace.capacity:1024}") int capacity) {
+        this.capacity = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1; // 2의 거듭제곱으로 올림
+        this.mask = this.capacity - 1;
+        this.stamps = new AtomicLongArray(this.capacity * STAGES.length);
+        this.sequences = new AtomicLongArray(this.capacity);
+        this.coins = new int[this.capacity];
+        this.kinds = new int[this.capacity];
+    }
+
+    /**
+     * 주문 추적 시작
+     *
+     * @param tickAt     시세 수신 시각 (장 종료 매도는 감지 시각과 같음)
+     * @param detectedAt 돌파 / 손절 / 장 종료 감지 시각
+     */
+    public OrderTrace begin(Coin coin, TradingMetrics.OrderKind kind, long tickAt, long detectedAt) {
+        long sequence = next.getAndIncrement();
+        int slot = (int) (sequence & mask);
+        int base = slot * STAGES.length;
+
+        sequences.setRelease(slot, WRITING);
+        for (int stage = 0; stage < STAGES.length; stage++) stamps.setPlain(base + stage, 0);
+        coins[slot] = coin.ordinal();
+        kinds[slot] = kind.ordinal();
+        stamps.setPlain(base + OrderTrace.Stage.TICK.ordinal(), tickAt);
+        stamps.setPlain(base + OrderTrace.Stage.DETECT.ordinal(), detectedAt);
+        sequences.setRelease(slot, sequence);
+        return new OrderTrace(this, sequence);
+    }
+
+    void mark(long sequence, OrderTrace.Stage stage) {
+        int slot = (int) (sequence & mask);
+        if (sequences.getAcquire(slot) != sequence) return; // 이미 덮어쓴 기록
+        stamps.setRelease(slot * STAGES.length + stage.ordinal(), System.nanoTime());
+    }
+
+    /**
+     * 최근 주문 기록과 단계별 분포
+     *
+     * @param limit 응답에 포함할 최근 주문 수 (분포는 버퍼 전체 기준)
+     */
+    public OrderTraceReport report(int limit) {
+        long end = next.get();
+        long start = Math.max(0, end - capacity);
+
+        List<OrderTraceReport.Trace> traces = new ArrayList<>();
+        long[][] durations = new long[STAGES.length + 1][(int) (end - start)]; // 마지막 행은 TOTAL
+        int[] counts = new int[STAGES.length + 1];
+        long[] copy = new long[STAGES.length];
+
+        for (long sequence = end - 1; sequence >= start; sequence--) {
+            int slot = (int) (sequence & mask);
+            if (sequences.getAcquire(slot) != sequence) continue;
+            for (int stage = 0; stage < STAGES.length; stage++) copy[stage] = stamps.getAcquire(slot * STAGES.length + stage);
+            int coin = coins[slot];
+            int kind = kinds[slot];
+            if (sequences.getAcquire(slot) != sequence) continue; // 읽는 동안 덮어씀
+
+            Map<String, Double> stages = new LinkedHashMap<>();
+            int previous = 0;
+            for (int stage = 1; stage < STAGES.length; stage++) {
+                if (copy[stage] == 0) continue;
+                long duration = copy[stage] - copy[previous];
+                durations[stage][counts[stage]++] = duration;
+                stages.put(STAGES[stage].name(), micros(duration));
+                previous = stage;
+            }
+            long total = copy[previous] - copy[0];
+            if (copy[OrderTrace.Stage.DONE.ordinal()] != 0) durations[STAGES.length][counts[STAGES.length]++] = total;
+
+            if (traces.size() < limit) {
+                traces.add(new OrderTraceReport.Trace(sequence, Instant.ofEpochSecond(0, epochNanos + copy[0]).toString(),
+                        Coin.values()[coin], TradingMetrics.OrderKind.values()[kind].name(), stages, micros(total)));
+            }
+        }
+
+        Map<String, OrderTraceReport.StageStats> stats = new LinkedHashMap<>();
+        for (int stage = 1; stage <= STAGES.length; stage++) {
+            if (counts[stage] == 0) continue;
+            stats.put(stage == STAGES.length ? "TOTAL" : STAGES[stage].name(), stats(durations[stage], counts[stage]));
+        }
+        return new OrderTraceReport(capacity, end, traces, stats);
+    }
+
+    private static OrderTraceReport.StageStats stats(long[] values, int count) {
+        Arrays.sort(values, 0, count);
+        return new OrderTraceReport.StageStats(count,
+                micros(percentile(values, count, 0.50)),
+                micros(percentile(values, count, 0.90)),
+                micros(percentile(values, count, 0.99)),
+                micros(values[count - 1]));
+    }
+
+    // nearest-rank
+    private static long percentile(long[] sorted, int count, double quantile) {
+        return sorted[Math.max(0, (int) Math.ceil(quantile * count) - 1)];
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+}
@@ -0,0 +1,72 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.BacktestParams;
+import coin.cointrading.dto.BacktestResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * (코인, 파라미터) 조합 전체를 fork-join으로 나눠 요약 백테스트
+ * 코인별 캔들 뷰는 읽기 전용으로 모든 작업이 공유하고, 조합마다 결과 배열의 자기 칸에만 쓴다
+ */
+public final class ParameterSweep {
+
+    private static final int LEAF_SIZE = 4; // 이 개수 이하면 더 나누지 않고 직접 계산
+
+    private ParameterSweep() {
+    }
+
+    /**
+     * @return 조합 순서(코인 → 파라미터)대로의 결과
+     */
+    public static List<BacktestResult> run(ForkJoinPool pool, CandleInterval interval,
+                                           Map<Coin, CandleSeries.View> candles, List<BacktestParams> grid) {
+        List<Coin> coins = new ArrayList<>(candles.keySet());
+        BacktestResult[] results = new BacktestResult[coins.size() * grid.size()];
+        pool.invoke(new Task(interval, coins, candles, grid, results, 0, results.length));
+        return Arrays.asList(results);
+    }
+
+    private static final class Task extends RecursiveAction {
+        private final CandleInterval interval;
+        private final List<Coin> coins;
+        private final Map<Coin, CandleSeries.View> candles;
+        private final List<BacktestParams> grid;
+        private final BacktestResult[] results;
+        private final int from;
+        private final int to;
+
+        private Task(CandleInterval interval, List<Coin> coins, Map<Coin, CandleSeries.View> candles,
+                     List<BacktestParams> grid, BacktestResult[] results, int from, int to) {
+            this.interval = interval;
+            this.coins = coins;
+            this.candles = candles;
+            this.grid = grid;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    Coin coin = coins.get(i / grid.size());
+                    results[i] = BacktestEngine.summarize(coin, interval, candles.get(coin), grid.get(i % grid.size()));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Task(interval, coins, candles, grid, results, from, mid),
+                    new Task(interval, coins, candles, grid, results, mid, to));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package coin.cointrading.service;
+
+/**
+ * 실시간 시세 공급원
+ * 연결이 살아있는 동안 MarketStateStore에 시세를 직접 반영하고,
+ * 끊긴 경우 RedisService의 ticker 폴링이 대신 시세를 채운다.
+ */
+public interface PriceFeed {
+
+    void connect();
+
+    void disconnect();
+
+    boolean isConnected();
+}
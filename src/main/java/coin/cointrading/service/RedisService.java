@@ -1,14 +1,18 @@
 package coin.cointrading.service;
 
 import coin.cointrading.domain.Coin;
+import coin.cointrading.domain.MarketStateStore;
+import coin.cointrading.dto.PriceTickEvent;
 import coin.cointrading.dto.TradingStatus;
 import coin.cointrading.exception.CustomException;
 import coin.cointrading.exception.ErrorCode;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -23,19 +27,19 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class RedisService {
 
+    private static final long CURRENT_PRICE_TTL_SECONDS = 3;
+    private static final byte[][] CURRENT_PRICE_KEYS = currentPriceKeys();
+
     private final RedisTemplate<String, String> redisTemplate;
     private final UpbitCandleService upbitCandleService;
     private final ConcurrentHashMap<String, TradingStatus> userStatusMap;
     private final BackDataService backDataService;
     private final SchedulerControlService schedulerControlService;
-    @Getter
-    private final Map<Coin, Double> currentPriceMap;
-    @Getter
-    private final Map<Coin, Double> targetPriceMap;
-    @Getter
-    private final Map<Coin, Boolean> todayTradeCheckMap;
-    @Getter
-    private final Map<Coin, Boolean> todayExecutedCheckMap;
+    private final PriceFeed priceFeed;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MarketStateStore marketStateStore;
+    private final TradingSessionJournal sessionJournal;
+    private final TradingMetrics tradingMetrics;
 
 
 
@@ -63,57 +67,78 @@ public class RedisService {
         redisTemplate.delete("refresh:" + userId);
     }
 
+    /**
+     * 1초마다 전체 코인 현재가 갱신
+     * ticker 1회 요청 + Redis 파이프라인 1회로 처리해 코인 수가 늘어도 왕복 횟수는 일정
+     * 웹소켓 시세가 들어오는 동안은 REST 요청 없이 Redis만 갱신
+     */
     @Scheduled(fixedDelay = 1000)
     public void updatePriceCache() throws IOException {
         try {
-
-            for (Coin coin : Coin.values()) {
-                String currentPriceRedisKey = "CURRENT_PRICE_" + coin;
-                Double currentPrice = upbitCandleService.current(coin);
-                redisTemplate.opsForValue().set(currentPriceRedisKey, String.valueOf(currentPrice), Duration.ofSeconds(3));
-                this.currentPriceMap.put(coin, currentPrice);
+            if (!priceFeed.isConnected()) {
+                Map<Coin, Double> prices = upbitCandleService.currentAll();
+                prices.forEach((coin, price) -> {
+                    marketStateStore.updatePrice(coin, price);
+                    eventPublisher.publishEvent(new PriceTickEvent(coin, price));
+                });
             }
+            writeCurrentPrices();
         } catch (Exception e) {
             log.error("{}", e.getMessage());
             throw e;
         }
     }
 
+    private void writeCurrentPrices() {
+        RedisSerializer<String> serializer = RedisSerializer.string();
+        long start = System.nanoTime();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Coin coin : Coin.values()) {
+                if (!marketStateStore.hasPrice(coin)) continue;
+                connection.stringCommands().setEx(
+                        CURRENT_PRICE_KEYS[coin.ordinal()],
+                        CURRENT_PRICE_TTL_SECONDS,
+                        serializer.serialize(String.valueOf(marketStateStore.price(coin)))
+                );
+            }
+            return null;
+        });
+        tradingMetrics.recordRedisWrite("current_price", System.nanoTime() - start);
+    }
+
     @Scheduled(cron = "20 0 9 * * *")
     public void updateTargetPrice() {
         try {
             schedulerControlService.setIsProcessing(true);
-            log.info("🔴 목표가 갱신 중... checkPrice 멈춤");
+            log.info("🔴 목표가 갱신 중... 매수/손절 감시 멈춤");
             try {
                 for (Coin coin : Coin.values()) {
                     double targetPriceCoin = upbitCandleService.checkTarget(coin);
-                    targetPriceMap.put(coin, targetPriceCoin);
+                    // 목표가 갱신과 금일 거래 및 손절 여부 초기화를 한 번에 반영
+                    marketStateStore.resetDay(coin, targetPriceCoin);
 
                     String targetPriceRedisKey = "TARGET_PRICE_" + coin;
+                    long start = System.nanoTime();
                     redisTemplate.opsForValue().set(targetPriceRedisKey, String.valueOf(targetPriceCoin), Duration.ofDays(2));
+                    tradingMetrics.recordRedisWrite("target_price", System.nanoTime() - start);
                 }
             } catch (Exception e) {
                 log.error("⚠️ 목표가 가져오기 실패 - {}", e.getMessage());
                 throw new CustomException(ErrorCode.REDIS_TARGET_PRICE_NOT_FOUND);
             }
-
-            // 금일 거래 및 손절 여부 초기화
-            for (Coin coin : Coin.values()) {
-                todayTradeCheckMap.put(coin, false);
-                todayExecutedCheckMap.put(coin, false);
-            }
             log.info("✅ 매수 여부 초기화");
 
             for (String userId : userStatusMap.keySet()) {
                 TradingStatus status = userStatusMap.get(userId);
                 if (!status.getOpMode().get()) {
                     status.getOpMode().set(true);
+                    sessionJournal.mark(userId);
                     log.info("🔹 {}의 op_mode 활성화", userId);
                 }
             }
         } finally {
             schedulerControlService.setIsProcessing(false);
-            log.info("🟢 목표가 갱신 완료! checkPrice 재개");
+            log.info("🟢 목표가 갱신 완료! 매수/손절 감시 재개");
         }
     }
 
@@ -122,20 +147,21 @@ public class RedisService {
         backDataService.getData("3");
     }
 
-    public void setTodayTrade(Coin coin, Boolean flag) {
-        todayTradeCheckMap.put(coin, flag);
-    }
-
-    public void setTodayExecuted(Coin coin, Boolean flag) {
-        todayExecutedCheckMap.put(coin, flag);
-    }
-
     private void targetPriceLog() {
         log.info("====== 목표가 갱신 ======");
         for (Coin coin : Coin.values()) {
-            String formattedPrice = String.format("%,.0f", targetPriceMap.get(coin));
+            String formattedPrice = String.format("%,.0f", marketStateStore.target(coin));
             log.info("{}: {}", coin.getKoreanName(), formattedPrice);
         }
         log.info("======================");
     }
+
+    private static byte[][] currentPriceKeys() {
+        RedisSerializer<String> serializer = RedisSerializer.string();
+        byte[][] keys = new byte[Coin.values().length][];
+        for (Coin coin : Coin.values()) {
+            keys[coin.ordinal()] = serializer.serialize("CURRENT_PRICE_" + coin);
+        }
+        return keys;
+    }
 }
@@ -0,0 +1,184 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.BackData;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.ReturnRateResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 거래된 백데이터의 코인별 수익률 누적합
+ * 날짜 오름차순으로 log(1 + 수익률), 수익 여부, 수익률의 누적합을 두어 최근 n거래일 집계를 O(1)로 계산한다.
+ * 새 날짜는 배열 뒤에 이어 쓰고 크기만 늘린 스냅샷을 교체하므로, 읽는 쪽은 락 없이 자기 스냅샷 범위만 읽는다.
+ */
+@Component
+public class ReturnRateAggregates {
+
+    public static final int[] WINDOWS = {7, 30, 90, 200};
+
+    private final AtomicReferenceArray<Snapshot> snapshots = new AtomicReferenceArray<>(Coin.values().length);
+
+    public ReturnRateAggregates() {
+        for (Coin coin : Coin.values()) {
+            snapshots.set(coin.ordinal(), Snapshot.EMPTY);
+        }
+    }
+
+    /**
+     * 거래일 전체로 다시 계산 (기동 시 캐시 로드)
+     */
+    public synchronized void replace(Coin coin, List<BackData> traded) {
+        snapshots.set(coin.ordinal(), Snapshot.EMPTY.append(sorted(traded)));
+    }
+
+    /**
+     * 새 거래일 반영, 모두 마지막 날짜 이후면 뒤에 이어 쓰고 아니면 전체로 다시 계산
+     *
+     * @param added  새로 저장된 거래일
+     * @param traded 병합 후 거래일 전체
+     */
+    public synchronized void add(Coin coin, List<BackData> added, List<BackData> traded) {
+        if (added.isEmpty()) return;
+
+        Snapshot current = snapshots.get(coin.ordinal());
+        List<BackData> newDays = sorted(added);
+        if (current.size > 0 && newDays.get(0).getDay().compareTo(current.days[current.size - 1]) <= 0) {
+            replace(coin, traded);
+            return;
+        }
+        snapshots.set(coin.ordinal(), current.append(newDays));
+    }
+
+    /**
+     * 최근 days 거래일 집계와 표준 구간 집계
+     */
+    public ReturnRateResponse get(Coin coin, int days) {
+        Snapshot snapshot = snapshots.get(coin.ordinal());
+        Map<Integer, ReturnRateResponse.Summary> windows = new LinkedHashMap<>();
+        for (int window : WINDOWS) {
+            windows.put(window, snapshot.summary(window));
+        }
+        return new ReturnRateResponse(coin, days, snapshot.summary(days), windows, snapshot.latest(days));
+    }
+
+    /**
+     * 응답 식별자, 응답에 들어가는 최근 거래일(days와 표준 구간 중 긴 쪽)의 내용으로 만든다
+     * 재기동이나 다른 인스턴스에서도 같은 데이터면 같은 값
+     */
+    public String etag(Coin coin, int days) {
+        return coin + "-" + days + "-" + snapshots.get(coin.ordinal()).fingerprint(Math.max(days, WINDOWS[WINDOWS.length - 1]));
+    }
+
+    private static List<BackData> sorted(List<BackData> backDatas) {
+        return backDatas.stream()
+                .sorted(Comparator.comparing(BackData::getDay))
+                .toList();
+    }
+
+    /**
+     * 날짜 오름차순 누적합, i번째 값은 앞의 i개 합 (0번째는 0)
+     */
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(new String[0], new double[0], new double[1], new int[1], new double[1], 0);
+
+        private final String[] days;
+        private final double[] returnRates;
+        private final double[] logGrowth;
+        private final int[] wins;
+        private final double[] returnSum;
+        private final int size;
+
+        private Snapshot(String[] days, double[] returnRates, double[] logGrowth, int[] wins, double[] returnSum, int size) {
+            this.days = days;
+            this.returnRates = returnRates;
+            this.logGrowth = logGrowth;
+            this.wins = wins;
+            this.returnSum = returnSum;
+            this.size = size;
+        }
+
+        /**
+         * 뒤에 이어 쓴 새 스냅샷, 용량이 부족할 때만 배열을 늘린다
+         * 기존 스냅샷은 자기 size 이후를 읽지 않으므로 같은 배열에 이어 써도 된다
+         */
+        private Snapshot append(List<BackData> newDays) {
+            int newSize = size + newDays.size();
+            String[] days = this.days;
+            double[] returnRates = this.returnRates;
+            double[] logGrowth = this.logGrowth;
+            int[] wins = this.wins;
+            double[] returnSum = this.returnSum;
+            if (newSize > days.length) {
+                int capacity = Math.max(newSize, days.length * 2);
+                days = Arrays.copyOf(days, capacity);
+                returnRates = Arrays.copyOf(returnRates, capacity);
+                logGrowth = Arrays.copyOf(logGrowth, capacity + 1);
+                wins = Arrays.copyOf(wins, capacity + 1);
+                returnSum = Arrays.copyOf(returnSum, capacity + 1);
+            }
+
+            for (int i = size; i < newSize; i++) {
+                BackData backData = newDays.get(i - size);
+                double returnRate = backData.getReturnRate();
+                days[i] = backData.getDay();
+                returnRates[i] = returnRate;
+                logGrowth[i + 1] = logGrowth[i] + Math.log1p(returnRate / 100);
+                wins[i + 1] = wins[i] + (returnRate > 0 ? 1 : 0);
+                returnSum[i + 1] = returnSum[i] + returnRate;
+            }
+            return new Snapshot(days, returnRates, logGrowth, wins, returnSum, newSize);
+        }
+
+        /**
+         * 최근 window개의 거래일 수 / 마지막 날짜 / 날짜와 수익률 해시
+         */
+        private String fingerprint(int window) {
+            int n = Math.min(Math.max(window, 0), size);
+            if (n == 0) return "0";
+
+            long hash = 1125899906842597L;
+            for (int i = size - n; i < size; i++) {
+                hash = 31 * hash + days[i].hashCode();
+                hash = 31 * hash + Double.doubleToLongBits(returnRates[i]);
+            }
+            return n + "-" + days[size - 1] + "-" + Long.toHexString(hash);
+        }
+
+        private ReturnRateResponse.Summary summary(int window) {
+            int n = Math.min(Math.max(window, 0), size);
+            if (n == 0) return new ReturnRateResponse.Summary(0, null, null, 0, 0, 0);
+
+            int from = size - n;
+            double cumulativeReturn = Math.expm1(logGrowth[size] - logGrowth[from]) * 100;
+            double winRate = (double) (wins[size] - wins[from]) / n * 100;
+            double averageReturn = (returnSum[size] - returnSum[from]) / n;
+            return new ReturnRateResponse.Summary(n, days[from], days[size - 1], cumulativeReturn, winRate, averageReturn);
+        }
+
+        /**
+         * 최근 window개 최신순 목록, 배열을 그대로 읽는 뷰
+         */
+        private List<ReturnRateResponse.Row> latest(int window) {
+            int n = Math.min(Math.max(window, 0), size);
+            return new AbstractList<>() {
+                @Override
+                public ReturnRateResponse.Row get(int index) {
+                    int i = size - 1 - index;
+                    return new ReturnRateResponse.Row(days[i], returnRates[i]);
+                }
+
+                @Override
+                public int size() {
+                    return n;
+                }
+            };
+        }
+    }
+}
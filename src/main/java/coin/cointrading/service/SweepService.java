@@ -0,0 +1,157 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.domain.SweepResult;
+import coin.cointrading.dto.BacktestParams;
+import coin.cointrading.dto.BacktestResult;
+import coin.cointrading.dto.SweepRequest;
+import coin.cointrading.exception.CustomException;
+import coin.cointrading.exception.ErrorCode;
+import coin.cointrading.repository.SweepResultRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 변동성 돌파 K / 손절 비율 탐색
+ * 보관 중인 캔들로 (코인, K, 손절 비율) 조합을 병렬 백테스트하고, 코인별 샤프 지수 순위를 저장해 재계산 없이 조회한다
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class SweepService {
+
+    private static final int MAX_GRID = 10_000; // 코인별 조합 수 상한
+
+    private final CandleStore candleStore;
+    private final SweepResultRepository sweepResultRepository;
+    private final ForkJoinPool pool;
+
+    public SweepService(CandleStore candleStore, SweepResultRepository sweepResultRepository,
+                        @Value("${sweep.parallelism:0}") int parallelism) {
+        this.candleStore = candleStore;
+        this.sweepResultRepository = sweepResultRepository;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 탐색 실행 후 코인별 순위를 저장
+     * 탐색 동안 DB 연결을 잡지 않도록 트랜잭션 없이 실행하고, 저장(saveAll)만 자체 트랜잭션으로 처리한다
+     *
+     * @return 코인별 샤프 지수 내림차순 결과
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SweepResult> sweep(SweepRequest request) {
+        LocalDate to = request.getTo() != null ? request.getTo() : LocalDate.now();
+        LocalDate from = request.getFrom() != null ? request.getFrom() : to.minusYears(1);
+        List<BacktestParams> grid = grid(request);
+
+        // 백테스트와 같은 기준으로 보관 캔들이 기간을 덮는지 확인, 첫 거래일 목표가 계산을 위해 하루 전 캔들부터
+        Map<Coin, CandleSeries.View> candles = new EnumMap<>(Coin.class);
+        for (Coin coin : Coin.values()) {
+            candles.put(coin, BacktestService.covered(candleStore.series(coin, request.getInterval()),
+                    coin, request.getInterval(), from, to));
+        }
+
+        long start = System.nanoTime();
+        List<BacktestResult> results = ParameterSweep.run(pool, request.getInterval(), candles, grid);
+        log.info("파라미터 탐색: 조합 {}개, 병렬 {}, {}ms", results.size(), pool.getParallelism(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        LocalDateTime runAt = LocalDateTime.now();
+        List<SweepResult> ranked = new ArrayList<>(results.size());
+        for (Coin coin : Coin.values()) {
+            List<BacktestResult> coinResults = results.stream()
+                    .filter(result -> result.coin() == coin)
+                    .sorted(Comparator.comparingDouble(BacktestResult::sharpe).reversed())
+                    .toList();
+            for (int i = 0; i < coinResults.size(); i++) {
+                ranked.add(toEntity(runAt, i + 1, from, to, coinResults.get(i)));
+            }
+        }
+        return sweepResultRepository.saveAll(ranked);
+    }
+
+    /**
+     * 코인의 가장 최근 탐색 결과 상위 limit개
+     */
+    public List<SweepResult> getLatest(Coin coin, int limit) {
+        return sweepResultRepository.findLatest(coin.name(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * K x 손절 비율 격자, 실수 누적 오차가 없도록 간격 횟수로 계산
+     *
+     * @throws CustomException 간격이 0 이하, 최소값이 최대값보다 큼, 손절 비율이 (0, 1) 밖, 조합 수 초과
+     */
+    static List<BacktestParams> grid(SweepRequest request) {
+        validate(request);
+        long kSteps = steps(request.getMinK(), request.getMaxK(), request.getStepK());
+        long stopSteps = steps(request.getMinStop(), request.getMaxStop(), request.getStepStop());
+        if ((kSteps + 1.0) * (stopSteps + 1.0) > MAX_GRID) { // 간격이 아주 작을 때 long 곱셈 넘침 방지
+            throw new CustomException(ErrorCode.SWEEP_INVALID_REQUEST, "조합 수는 " + MAX_GRID + "개 이하");
+        }
+
+        List<BacktestParams> grid = new ArrayList<>((int) ((kSteps + 1) * (stopSteps + 1)));
+        for (int i = 0; i <= kSteps; i++) {
+            double k = round(request.getMinK() + i * request.getStepK());
+            for (int j = 0; j <= stopSteps; j++) {
+                double stopRatio = round(request.getMinStop() + j * request.getStepStop());
+                grid.add(new BacktestParams(k, stopRatio, BacktestParams.LIVE.buyFee(), BacktestParams.LIVE.sellFee()));
+            }
+        }
+        return grid;
+    }
+
+    // NaN도 걸러지도록 부정형 비교
+    private static void validate(SweepRequest request) {
+        if (request.getInterval() == null) throw new CustomException(ErrorCode.SWEEP_INVALID_REQUEST, "캔들 단위 필요");
+        if (!(request.getStepK() > 0) || !(request.getStepStop() > 0)) {
+            throw new CustomException(ErrorCode.SWEEP_INVALID_REQUEST, "간격은 0보다 커야 함");
+        }
+        if (!(request.getMinK() >= 0 && request.getMinK() <= request.getMaxK())) {
+            throw new CustomException(ErrorCode.SWEEP_INVALID_REQUEST, "0 <= minK <= maxK");
+        }
+        if (!(request.getMinStop() > 0 && request.getMinStop() <= request.getMaxStop() && request.getMaxStop() < 1)) {
+            throw new CustomException(ErrorCode.SWEEP_INVALID_REQUEST, "0 < minStop <= maxStop < 1");
+        }
+    }
+
+    /**
+     * 최대값을 넘지 않는 간격 횟수, 나누어떨어지는 경우의 실수 오차(8.999...)만 보정
+     */
+    private static long steps(double min, double max, double step) {
+        return (long) Math.floor((max - min) / step + 1e-9);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1_000_000) / 1_000_000.0;
+    }
+
+    private SweepResult toEntity(LocalDateTime runAt, int ranking, LocalDate from, LocalDate to, BacktestResult result) {
+        return new SweepResult(runAt, result.coin().name(), ranking, result.params().k(), result.params().stopRatio(),
+                from.toString(), to.toString(), result.totalReturn(), result.maxDrawdown(), result.winRate(),
+                result.sharpe(), result.tradeCount());
+    }
+}
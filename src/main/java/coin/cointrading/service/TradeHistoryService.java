@@ -0,0 +1,160 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.TradeInfo;
+import coin.cointrading.domain.TradeMonthlySummary;
+import coin.cointrading.domain.User;
+import coin.cointrading.dto.TradeHistoryResponse;
+import coin.cointrading.dto.TradeInfoResponse;
+import coin.cointrading.dto.TradeSummaryResponse;
+import coin.cointrading.exception.CustomException;
+import coin.cointrading.exception.ErrorCode;
+import coin.cointrading.repository.TradeMonthlySummaryRepository;
+import coin.cointrading.repository.TradeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 유저 거래 기록 저장 / 조회
+ * 거래 기록은 (거래일, id) 커서로 페이지 단위 조회하고, 요약은 저장 시 갱신되는 월간 집계에서 읽는다.
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class TradeHistoryService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int BACKFILL_PAGE_SIZE = 500;
+
+    private final TradeRepository tradeRepository;
+    private final TradeMonthlySummaryRepository summaryRepository;
+
+    /**
+     * 거래 기록 저장 및 해당 월 집계 갱신
+     * 집계가 아직 없는 유저는 기존 거래 기록(방금 저장한 거래 포함)으로 전체 집계를 먼저 채운다
+     */
+    @Transactional
+    public TradeInfo saveTrade(TradeInfo tradeInfo) {
+        TradeInfo saved = tradeRepository.save(tradeInfo);
+        if (!summaryRepository.existsByUser(saved.getUser())) {
+            backfill(saved.getUser());
+            return saved;
+        }
+        String month = YearMonth.from(saved.getTradingDay()).toString();
+        TradeMonthlySummary summary = summaryRepository.findByUserAndTradeMonth(saved.getUser(), month)
+                .orElseGet(() -> new TradeMonthlySummary(saved.getUser(), month));
+        summary.add(saved);
+        summaryRepository.save(summary);
+        return saved;
+    }
+
+    /**
+     * 최신순 거래 기록 한 페이지
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지면 null
+     */
+    public TradeHistoryResponse getTrades(User user, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 조회
+        PageRequest page = PageRequest.ofSize(pageSize + 1);
+        List<TradeInfo> trades;
+        if (cursor == null || cursor.isBlank()) {
+            trades = tradeRepository.findLatest(user, page);
+        } else {
+            Cursor position = Cursor.parse(cursor);
+            trades = tradeRepository.findBefore(user, position.day(), position.id(), page);
+        }
+
+        String nextCursor = null;
+        if (trades.size() > pageSize) {
+            trades = trades.subList(0, pageSize);
+            TradeInfo last = trades.get(pageSize - 1);
+            nextCursor = new Cursor(last.getTradingDay(), last.getId()).toString();
+        }
+        return new TradeHistoryResponse(trades.stream().map(TradeHistoryService::toResponse).toList(), nextCursor);
+    }
+
+    /**
+     * 전체 / 월별 거래 집계, 집계가 없는 기존 거래 기록은 처음 조회할 때 한 번 채운다
+     */
+    @Transactional
+    public TradeSummaryResponse getSummary(User user) {
+        List<TradeMonthlySummary> months = summaryRepository.findByUserOrderByTradeMonthDesc(user);
+        if (months.isEmpty() && tradeRepository.existsByUser(user)) {
+            months = backfill(user);
+        }
+
+        int trades = 0, wins = 0;
+        double pnl = 0, logGrowth = 0;
+        List<TradeSummaryResponse.Month> rows = new ArrayList<>(months.size());
+        for (TradeMonthlySummary month : months) {
+            trades += month.getTrades();
+            wins += month.getWins();
+            pnl += month.getPnl();
+            logGrowth += month.getLogGrowth();
+            rows.add(new TradeSummaryResponse.Month(month.getTradeMonth(), month.getTrades(),
+                    winRate(month.getWins(), month.getTrades()), month.getPnl(), Math.expm1(month.getLogGrowth()) * 100));
+        }
+        return new TradeSummaryResponse(trades, winRate(wins, trades), pnl, Math.expm1(logGrowth) * 100, rows);
+    }
+
+    private List<TradeMonthlySummary> backfill(User user) {
+        Map<String, TradeMonthlySummary> months = new TreeMap<>(Comparator.reverseOrder());
+        PageRequest page = PageRequest.ofSize(BACKFILL_PAGE_SIZE);
+        List<TradeInfo> trades = tradeRepository.findLatest(user, page);
+        while (!trades.isEmpty()) {
+            for (TradeInfo trade : trades) {
+                String month = YearMonth.from(trade.getTradingDay()).toString();
+                months.computeIfAbsent(month, key -> new TradeMonthlySummary(user, key)).add(trade);
+            }
+            if (trades.size() < BACKFILL_PAGE_SIZE) break;
+            TradeInfo last = trades.get(trades.size() - 1);
+            trades = tradeRepository.findBefore(user, last.getTradingDay(), last.getId(), page);
+        }
+        return summaryRepository.saveAll(months.values());
+    }
+
+    private static double winRate(int wins, int trades) {
+        return trades == 0 ? 0 : (double) wins / trades * 100;
+    }
+
+    private static TradeInfoResponse toResponse(TradeInfo tradeInfo) {
+        return new TradeInfoResponse(
+                tradeInfo.getTradingDay().toString(),
+                tradeInfo.getTradeCoin(),
+                String.format("%.2f%%", tradeInfo.getReturnRate() * 100),
+                (int) tradeInfo.getBeforeMoney(),
+                (int) tradeInfo.getAfterMoney());
+    }
+
+    /**
+     * 페이지 커서, "거래일_id" 형식
+     */
+    private record Cursor(LocalDate day, long id) {
+
+        private static Cursor parse(String value) {
+            int separator = value.indexOf('_');
+            if (separator < 0) throw new CustomException(ErrorCode.COMMON_INVALID_CURSOR);
+            try {
+                return new Cursor(LocalDate.parse(value.substring(0, separator)), Long.parseLong(value.substring(separator + 1)));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new CustomException(ErrorCode.COMMON_INVALID_CURSOR);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return day + "_" + id;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.Coin;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 매매 경로 메트릭, Actuator(/actuator/prometheus)로 노출
+ * 태그는 코인 / 주문 종류 / 작업 이름처럼 값이 고정된 것만 사용해 유저 수가 늘어도 메트릭 수는 그대로다.
+ * 미터는 생성 시 모두 등록해 두고 기록 시에는 배열 인덱스로 찾는다.
+ */
+@Component
+public class TradingMetrics {
+
+    public enum OrderKind {
+        BUY, SELL, STOP
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Timer[] tickAge = new Timer[Coin.values().length];
+    private final Timer[] evaluation = new Timer[Coin.values().length];
+    private final Timer[][] orderLatency = new Timer[Coin.values().length][OrderKind.values().length];
+    private final Counter[][] orders = new Counter[OrderKind.values().length][2]; // [종류][0 성공, 1 실패]
+    private final AtomicLongArray lastTickAt = new AtomicLongArray(Coin.values().length);
+    private final ConcurrentHashMap<String, Timer> redisWrites = new ConcurrentHashMap<>();
+
+    public TradingMetrics(MeterRegistry meterRegistry, Semaphore upbitPermits) {
+        this.meterRegistry = meterRegistry;
+        for (Coin coin : Coin.values()) {
+            int i = coin.ordinal();
+            tickAge[i] = Timer.builder("trading.price.tick.age")
+                    .description("거래소 체결 시각부터 시세 수신까지 걸린 시간")
+                    .tag("coin", coin.name())
+                    .register(meterRegistry);
+            evaluation[i] = Timer.builder("trading.tick.evaluation")
+                    .description("시세 1건의 매수 / 손절 조건 평가 시간")
+                    .tag("coin", coin.name())
+                    .register(meterRegistry);
+            Gauge.builder("trading.price.tick.idle", lastTickAt, ticks -> idleSeconds(ticks.get(i)))
+                    .description("마지막 시세 수신 후 경과 시간")
+                    .baseUnit("seconds")
+                    .tag("coin", coin.name())
+                    .register(meterRegistry);
+            for (OrderKind kind : OrderKind.values()) {
+                orderLatency[i][kind.ordinal()] = Timer.builder("trading.order.latency")
+                        .description("돌파 / 손절 / 장 종료 감지부터 유저별 주문 응답까지 걸린 시간")
+                        .tag("coin", coin.name())
+                        .tag("kind", kind.name())
+                        .register(meterRegistry);
+            }
+        }
+        for (OrderKind kind : OrderKind.values()) {
+            orders[kind.ordinal()][0] = orderCounter(kind, "success");
+            orders[kind.ordinal()][1] = orderCounter(kind, "failure");
+        }
+
+        // 업비트 요청 허가 대기열 (유저별 주문 파이프라인은 가상 스레드라 실행기 자체에는 대기열이 없음)
+        Gauge.builder("trading.upbit.permits.waiting", upbitPermits, Semaphore::getQueueLength)
+                .description("업비트 요청 허가를 기다리는 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("trading.upbit.permits.available", upbitPermits, Semaphore::availablePermits)
+                .description("남은 업비트 동시 요청 허가 수")
+                .register(meterRegistry);
+    }
+
+    private Counter orderCounter(OrderKind kind, String result) {
+        return Counter.builder("trading.orders")
+                .description("유저별 주문 결과")
+                .tag("kind", kind.name())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static double idleSeconds(long lastTickAtMillis) {
+        return lastTickAtMillis == 0 ? Double.NaN : (System.currentTimeMillis() - lastTickAtMillis) / 1000.0;
+    }
+
+    /**
+     * 거래소 체결 시각(ms) 기준 시세 수신 지연, 서버 시계가 앞서 음수가 되면 0으로 기록
+     */
+    public void recordTickAge(Coin coin, long exchangeTimestampMillis) {
+        long age = Math.max(0, System.currentTimeMillis() - exchangeTimestampMillis);
+        tickAge[coin.ordinal()].record(age, TimeUnit.MILLISECONDS);
+    }
+
+    public void recordEvaluation(Coin coin, long nanos) {
+        evaluation[coin.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+        lastTickAt.set(coin.ordinal(), System.currentTimeMillis());
+    }
+
+    /**
+     * 유저 1명의 주문 결과 기록, 지연 시간은 성공한 주문만 기록
+     *
+     * @param triggeredAt 돌파 / 손절 / 장 종료를 감지한 시각 (System.nanoTime)
+     */
+    public void recordOrder(Coin coin, OrderKind kind, long triggeredAt, boolean success) {
+        if (success) {
+            orderLatency[coin.ordinal()][kind.ordinal()].record(System.nanoTime() - triggeredAt, TimeUnit.NANOSECONDS);
+        }
+        orders[kind.ordinal()][success ? 0 : 1].increment();
+    }
+
+    /**
+     * Redis 쓰기 시간, operation은 호출부에 고정된 이름만 사용
+     */
+    public void recordRedisWrite(String operation, long nanos) {
+        redisWrites.computeIfAbsent(operation, op -> Timer.builder("redis.write")
+                        .description("Redis 쓰기 / 파이프라인 왕복 시간")
+                        .tag("operation", op)
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -2,20 +2,28 @@ package coin.cointrading.service;
 
 import coin.cointrading.domain.AuthUser;
 import coin.cointrading.domain.Coin;
+import coin.cointrading.domain.MarketStateStore;
 import coin.cointrading.domain.TradeInfo;
 import coin.cointrading.domain.User;
+import coin.cointrading.dto.AccountResponse;
 import coin.cointrading.dto.OrderResponse;
+import coin.cointrading.dto.PriceTickEvent;
 import coin.cointrading.dto.TradingStatus;
+import coin.cointrading.dto.UserChangedEvent;
 import coin.cointrading.exception.CustomException;
 import coin.cointrading.exception.ErrorCode;
-import coin.cointrading.repository.TradeRepository;
 import coin.cointrading.repository.UserRepository;
+import coin.cointrading.util.UpbitCredentialCache;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -23,6 +31,10 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -30,16 +42,29 @@ import java.util.concurrent.ExecutorService;
 @Transactional(readOnly = true)
 public class TradingService {
 
+    private static final double MIN_ORDER_KRW = 5000; // 업비트 최소 주문 금액
+
     @Getter
     private final ConcurrentHashMap<String, TradingStatus> userStatusMap; // 유저 거래상태 저장 컬렉션
     private final ConcurrentHashMap<String, AuthUser> userAuthMap; // 유저 Auth정보 저장 컬렉션
+    private final ConcurrentHashMap<String, User> userSessionMap; // 프로그램 실행 시 조회한 유저 정보
     private final Set<String> runningUser; // 현재 프로그램을 실행중인 유저를 저장하는 컬렉션
     private final SchedulerControlService schedulerControlService;
     private final UpbitService upbitService;
-    private final RedisService redisService;
+    private final MarketStateStore marketStateStore;
     private final ExecutorService executor;
+    private final Semaphore upbitPermits;
     private final UserRepository userRepository;
-    private final TradeRepository tradeRepository;
+    private final TradeHistoryService tradeHistoryService;
+    private final UpbitCredentialCache upbitCredentialCache;
+    private final BalanceCache balanceCache;
+    private final TradingSessionJournal sessionJournal;
+    private final TradingMetrics tradingMetrics;
+    private final OrderTraceRecorder orderTraces;
+    private final ThreadLocal<MarketStateStore.Snapshot> snapshots = ThreadLocal.withInitial(MarketStateStore.Snapshot::new);
+    private final AtomicBoolean[] triggerInFlight = Stream.generate(AtomicBoolean::new)
+            .limit(Coin.values().length)
+            .toArray(AtomicBoolean[]::new); // 코인별 매수/손절 진행 여부
 
     /**
      * 프로그램 실행
@@ -49,11 +74,15 @@ public class TradingService {
     public void startTrading(AuthUser authUser, String strCoin) {
         Coin coin = Coin.valueOf(strCoin);
 
+        User user = getRequestUserByIdOrThrow(authUser);
+        upbitCredentialCache.register(user); // 주문 시 복호화하지 않도록 미리 준비
+        userSessionMap.put(authUser.getUserId(), user);
         initProgram(authUser, coin);
         runningUser.add(authUser.getUserId());
+        sessionJournal.mark(authUser.getUserId());
         log.info("==== {}의 프로그램이 실행되었습니다 =====", authUser.getUserId());
         log.info("선택 코인: {}", coin.getKoreanName());
-        String formattedPrice_Coin = String.format("%,.0f", redisService.getTargetPriceMap().get(coin));
+        String formattedPrice_Coin = String.format("%,.0f", marketStateStore.target(coin));
         log.info("금일 목표가 : {}원", formattedPrice_Coin);
     }
 
@@ -66,6 +95,10 @@ public class TradingService {
         runningUser.remove(authUser.getUserId());
         userAuthMap.remove(authUser.getUserId());
         userStatusMap.remove(authUser.getUserId());
+        userSessionMap.remove(authUser.getUserId());
+        upbitCredentialCache.evict(authUser.getUserId());
+        balanceCache.evict(authUser.getUserId());
+        sessionJournal.mark(authUser.getUserId());
         log.info("{}의 프로그램이 종료되었습니다.", authUser.getUserId());
     }
 
@@ -80,6 +113,97 @@ public class TradingService {
         else return "false"; // 실행 중 아님
     }
 
+    /**
+     * 권한 / API 키 변경 커밋 후 실행 중인 유저의 세션과 인증 정보를 다시 읽음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void refreshSession(UserChangedEvent event) {
+        String userId = event.userId();
+        if (!userSessionMap.containsKey(userId)) { // 프로그램 미실행 유저
+            return;
+        }
+
+        userRepository.findByUserId(userId).ifPresentOrElse(user -> {
+            upbitCredentialCache.register(user);
+            userSessionMap.put(userId, user);
+            userAuthMap.computeIfPresent(userId, (id, auth) -> new AuthUser(id, user.getUserNickname(), user.getRole()));
+            log.info("{}의 세션 정보가 갱신되었습니다.", userId);
+        }, () -> stopTrading(new AuthUser(userId, null, null))); // 탈퇴 등으로 유저가 없으면 프로그램 종료
+    }
+
+    /**
+     * 재시작 시 저장된 거래 상태 복구
+     * 저장된 세션과 유저 정보를 각각 한 번에 읽어 채우고, 보유 여부는 업비트 잔고로 다시 맞춘다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreSessions() {
+        Map<String, TradingStatus> sessions;
+        try {
+            sessions = sessionJournal.load();
+        } catch (Exception e) {
+            log.error("저장된 거래 상태 조회 실패: {}", e.getMessage());
+            return;
+        }
+        if (sessions.isEmpty()) return;
+
+        for (User user : userRepository.findByUserIdIn(sessions.keySet())) {
+            String userId = user.getUserId();
+            TradingStatus status = sessions.get(userId);
+            if (userStatusMap.putIfAbsent(userId, status) != null) continue; // 복구 전에 다시 실행한 유저
+            try {
+                upbitCredentialCache.register(user);
+            } catch (CustomException e) {
+                userStatusMap.remove(userId);
+                continue;
+            }
+            userSessionMap.put(userId, user);
+            userAuthMap.put(userId, new AuthUser(userId, user.getUserNickname(), user.getRole()));
+            runningUser.add(userId);
+            reconcileHold(user, status);
+        }
+
+        // 탈퇴 / 키 오류로 복구하지 못한 유저는 저장소에서도 삭제
+        sessions.keySet().stream()
+                .filter(userId -> !runningUser.contains(userId))
+                .forEach(sessionJournal::mark);
+        log.info("거래 상태 복구 완료: {}/{}명", sessions.keySet().stream().filter(runningUser::contains).count(), sessions.size());
+    }
+
+    /**
+     * 저장된 보유 여부를 실제 잔고와 비교해 수정, 잔고 조회 실패 시 저장된 값 유지
+     */
+    private void reconcileHold(User user, TradingStatus status) {
+        Coin coin = status.getSelectCoin();
+        withPermit(() -> upbitService.getAccount(user))
+                .thenAccept(accounts -> {
+                    boolean holding = holds(accounts, coin);
+                    if (status.getHold().getAndSet(holding) != holding) {
+                        log.info("{}의 {} 보유 여부를 잔고 기준으로 수정: {}", user.getUserId(), coin, holding);
+                        sessionJournal.mark(user.getUserId());
+                    }
+                })
+                .exceptionally(e -> {
+                    log.warn("{}의 잔고 확인 실패, 저장된 보유 여부 유지: {}", user.getUserId(), e.getMessage());
+                    return null;
+                });
+    }
+
+    /**
+     * 매도 가능한 금액(최소 주문 금액 이상)만큼 코인을 가지고 있는지 확인
+     * 시세 수신 전이면 평균 매수가로 평가
+     */
+    private boolean holds(List<AccountResponse> accounts, Coin coin) {
+        for (AccountResponse account : accounts) {
+            if (!coin.name().equals(account.getCurrency())) continue;
+            double price = marketStateStore.hasPrice(coin)
+                    ? marketStateStore.price(coin)
+                    : Double.parseDouble(account.getAvgBuyPrice());
+            return Double.parseDouble(account.getBalance()) * price >= MIN_ORDER_KRW;
+        }
+        return false;
+    }
+
     /**
      * 최초 실행 시 상태 및 Auth정보 서버에 추가
      *
@@ -105,61 +229,103 @@ public class TradingService {
     }
 
     /**
-     * 1초마다 코인 시세 확인 후 매수, 손절 진행
+     * 실행 중인 유저의 잔고 스냅샷 갱신, 주문 시 계좌 조회 왕복을 생략하기 위함
      */
-    @Scheduled(initialDelay = 10000, fixedDelay = 1000)
-    public void checkPrice() {
-        if (schedulerControlService.getIsProcessing()) {
-            return;
+    @Scheduled(initialDelay = 5000, fixedDelayString = "${upbit.balance-cache.refresh-ms:10000}")
+    public void refreshBalances() {
+        for (String userId : runningUser) {
+            User user = userSessionMap.get(userId);
+            if (user != null) {
+                refreshBalance(user);
+            }
         }
+    }
 
-        schedulerControlService.setIsProcessing(true); // 🔹 실행 시작 표시
+    /**
+     * 유저 1명의 잔고를 비동기로 조회해 캐시에 반영 (getAccount 내부에서 저장)
+     */
+    private void refreshBalance(User user) {
+        withPermit(() -> upbitService.getAccount(user))
+                .exceptionally(e -> {
+                    log.warn("{}의 잔고 갱신 실패: {}", user.getUserId(), e.getMessage());
+                    return null;
+                });
+    }
+
+    /**
+     * 시세 수신 시 해당 코인만 평가해 목표가 돌파 즉시 매수, 손절가 이탈 즉시 손절 진행
+     * 코인별 진행 플래그로 주문이 처리되는 동안 같은 코인의 중복 트리거를 막는다
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onPriceTick(PriceTickEvent event) {
+        if (schedulerControlService.getIsProcessing()) { // 목표가 갱신 중
+            return;
+        }
 
+        Coin coin = event.coin();
+        double currentPrice = event.price();
+        long start = System.nanoTime();
         try {
-            for (Coin coin : Coin.values()) {
-                Double currentPrice = redisService.getCurrentPriceMap().get(coin);
-                Double targetPrice = redisService.getTargetPriceMap().get(coin);
-                Boolean todayTradeCheck = redisService.getTodayTradeCheckMap().get(coin);
-                Boolean todayExecuted = redisService.getTodayExecutedCheckMap().get(coin);
-
-                // 조건 매수
-                if (!todayTradeCheck) {
-                    if (currentPrice >= targetPrice) {
-                        processBuy(coin)
-                                .thenRun(() -> schedulerControlService.setIsProcessing(false));  // 🔹 비동기 완료 후 해제
-                    }
-                }
+            MarketStateStore.Snapshot state = snapshots.get();
+            marketStateStore.read(coin, state); // 목표가와 플래그를 같은 시점으로 읽음
+            if (!state.hasTarget()) { // 목표가 준비 전
+                return;
+            }
+            double targetPrice = state.getTargetPrice();
 
-                // 손절
-                if (todayTradeCheck
-                        && currentPrice <= targetPrice * 0.95
-                        && !todayExecuted) {
-                    processExecute(coin);
-                } else {
-                    schedulerControlService.setIsProcessing(false);
+            // 조건 매수
+            if (!state.isTradedToday()) {
+                if (currentPrice >= targetPrice) {
+                    fire(coin, () -> processBuy(coin, event.receivedAt()));
                 }
+                return;
+            }
+
+            // 손절
+            if (currentPrice <= targetPrice * 0.95
+                    && !state.isStoppedToday()) {
+                fire(coin, () -> processExecute(coin, event.receivedAt()));
             }
         } catch (Exception e) {
-            log.error("🚨 checkPrice() 실행 중 오류 발생: {} 스케쥴링 중지", e.getMessage());
+            log.error("🚨 {} 시세 평가 중 오류 발생: {}", coin, e.getMessage());
+        } finally {
+            tradingMetrics.recordEvaluation(coin, System.nanoTime() - start);
+        }
+    }
+
+    private void fire(Coin coin, Supplier<CompletableFuture<Void>> process) {
+        AtomicBoolean inFlight = triggerInFlight[coin.ordinal()];
+        if (!inFlight.compareAndSet(false, true)) { // 이미 주문 처리 중
+            return;
+        }
+        try {
+            process.get().whenComplete((result, e) -> inFlight.set(false));
+        } catch (Exception e) {
+            inFlight.set(false);
+            throw e;
         }
     }
 
     /**
      * 조건에 부합 시 매수 진행
+     *
+     * @param tickAt 돌파 시세 수신 시각 (System.nanoTime)
      */
-    private CompletableFuture<Void> processBuy(Coin buyCoin) {
+    private CompletableFuture<Void> processBuy(Coin buyCoin, long tickAt) {
         log.info("====== 매수 로직 실행 중 ======");
         log.info("매수 종목: {}", buyCoin);
+        long triggeredAt = System.nanoTime();
 
         List<CompletableFuture<Void>> futures = runningUser.stream() // 실행 중인 유저를 돌면서 매수 진행
                 .map(userId -> {
                     TradingStatus status = userStatusMap.get(userId);
                     if (status.getSelectCoin().equals(buyCoin) // 유저가 선택한 코인 인지
-                            && !redisService.getTodayExecutedCheckMap().get(buyCoin) // 금일 손절 로직 실행 여부
+                            && !marketStateStore.stoppedToday(buyCoin) // 금일 손절 로직 실행 여부
                             && status.getOpMode().get() // 1일 후 거래
                             && !status.getHold().get()) { // 매수 여부
-                        User requestUser = getRequestUserByIdOrThrow(userAuthMap.get(userId));
-                        return executeAsyncBuy(requestUser, status);
+                        OrderTrace trace = orderTraces.begin(buyCoin, TradingMetrics.OrderKind.BUY, tickAt, triggeredAt);
+                        return executeAsyncBuy(userSessionMap.get(userId), status, triggeredAt, trace);
                     }
                     return null;
                 })
@@ -167,24 +333,33 @@ public class TradingService {
                 .toList();
 
         return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                .thenRun(() -> redisService.setTodayTrade(buyCoin, true));
+                .thenRun(() -> marketStateStore.setTradedToday(buyCoin, true));
     }
 
     /**
      * 비동기 처리로 Upbit 매수 API 요청 및 상태 변경
+     * 주문은 응답을 기다리며 스레드를 잡지 않고, 체결 후 처리만 executor에서 실행
      *
-     * @param requestUser 요청 유저
+     * @param requestUser 세션에 보관된 유저
      * @param status      유저 거래 상태
+     * @param triggeredAt 목표가 돌파 감지 시각 (System.nanoTime)
+     * @param trace       단계별 시각 기록
      */
-    private CompletableFuture<Void> executeAsyncBuy(User requestUser, TradingStatus status) {
-        return CompletableFuture.supplyAsync(() -> {  // 🔹 'return' 추가
-            try {
-                return upbitService.orderCoins("buy", requestUser, status.getSelectCoin());
-            } catch (Exception e) {
-                log.error(e.getMessage());
-                throw new CustomException(ErrorCode.UPBIT_ORDER_FAIL);
-            }
-        }, executor).thenAccept(result -> afterBuy(result, status, requestUser));
+    private CompletableFuture<Void> executeAsyncBuy(User requestUser, TradingStatus status, long triggeredAt, OrderTrace trace) {
+        Coin coin = status.getSelectCoin();
+        return withPermit(() -> {
+                    trace.mark(OrderTrace.Stage.PERMIT);
+                    return upbitService.orderCoins("buy", requestUser, coin, trace);
+                })
+                .whenComplete((order, e) -> tradingMetrics.recordOrder(coin, TradingMetrics.OrderKind.BUY, triggeredAt, e == null))
+                .exceptionally(e -> {
+                    log.error(e.getMessage());
+                    throw new CustomException(ErrorCode.UPBIT_ORDER_FAIL);
+                })
+                .thenAcceptAsync(result -> {
+                    afterBuy(result, status, requestUser);
+                    trace.mark(OrderTrace.Stage.DONE);
+                }, executor);
     }
 
     /**
@@ -192,101 +367,142 @@ public class TradingService {
      */
     @Scheduled(cron = "50 59 8 * * ?")
     public void processSell() {
+        long triggeredAt = System.nanoTime();
         for (String userId : runningUser) { // 실행중인 유저 확인
             TradingStatus status = userStatusMap.get(userId);
             if (status.getOpMode().get() // 동작 상태 확인
                     && status.getHold().get()) { // 매수 여부 확인
-                User requestUser = getRequestUserByIdOrThrow(userAuthMap.get(userId));
-                executeAsyncSell(requestUser, status);
+                executeAsyncSell(userSessionMap.get(userId), status, TradingMetrics.OrderKind.SELL, triggeredAt,
+                        orderTraces.begin(status.getSelectCoin(), TradingMetrics.OrderKind.SELL, triggeredAt, triggeredAt));
             }
         }
     }
 
     /**
      * 조건에 부합 시 손절 진행
+     *
+     * @param tickAt 손절가 이탈 시세 수신 시각 (System.nanoTime)
      */
-    private void processExecute(Coin coin) {
+    private CompletableFuture<Void> processExecute(Coin coin, long tickAt) {
         log.info("====== 손절 로직 실행 중 ======");
+        long triggeredAt = System.nanoTime();
 
         List<CompletableFuture<Void>> futures = runningUser.stream()
                 .map(userId -> {
                     TradingStatus status = userStatusMap.get(userId);
-                    if (status.getOpMode().get() && status.getHold().get()) {
-                        User requestUser = getRequestUserByIdOrThrow(userAuthMap.get(userId));
-                        return executeAsyncSell(requestUser, status);
+                    if (status.getSelectCoin().equals(coin) // 손절가를 이탈한 코인을 선택한 유저인지
+                            && status.getOpMode().get() && status.getHold().get()) {
+                        return executeAsyncSell(userSessionMap.get(userId), status, TradingMetrics.OrderKind.STOP, triggeredAt,
+                                orderTraces.begin(status.getSelectCoin(), TradingMetrics.OrderKind.STOP, tickAt, triggeredAt));
                     }
                     return null;
                 })
                 .filter(Objects::nonNull) // ✅ null을 제거하여 올바른 CompletableFuture 리스트 생성
                 .toList();
 
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                .thenRun(() -> redisService.setTodayExecuted(coin, true));
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenRun(() -> marketStateStore.setStoppedToday(coin, true));
     }
 
 
     /**
      * 비동기 처리로 Upbit 매도 API 요청 및 상태 변경
+     * 매도 주문 응답 후 주문 내역 조회를 이어서 요청
      *
-     * @param requestUser 로그인 유저
+     * @param requestUser 세션에 보관된 유저
      * @param status      거래 상태
+     * @param kind        장 종료 매도 / 손절
+     * @param triggeredAt 매도 시점 / 손절가 이탈 감지 시각 (System.nanoTime)
+     * @param trace       단계별 시각 기록
      */
-    private CompletableFuture<Void> executeAsyncSell(User requestUser, TradingStatus status) {
+    private CompletableFuture<Void> executeAsyncSell(User requestUser, TradingStatus status,
+                                                     TradingMetrics.OrderKind kind, long triggeredAt, OrderTrace trace) {
         log.info("====== 매도 로직 실행 중 ======");
-        return CompletableFuture.supplyAsync(
-                () -> {
+        Coin coin = status.getSelectCoin();
+        return withPermit(() -> {
+                    trace.mark(OrderTrace.Stage.PERMIT);
+                    return upbitService.orderCoins("sell", requestUser, coin, trace);
+                })
+                .whenComplete((order, e) -> tradingMetrics.recordOrder(coin, kind, triggeredAt, e == null))
+                .exceptionally(e -> {
+                    log.error(e.getMessage());
+                    throw new CustomException(ErrorCode.UPBIT_ORDER_FAIL);
+                })
+                .thenCompose(order -> withPermit(() -> upbitService.getOrders(requestUser, 2, coin))
+                        .exceptionally(e -> {
+                            // 매도는 체결됐으므로 상태는 정리하고 거래 기록만 누락
+                            log.error("{}의 매도 후 주문 내역 조회 실패, 거래 기록 누락: {}", requestUser.getUserId(), e.getMessage());
+                            return null;
+                        }))
+                .thenAcceptAsync(result -> {
+                    afterSell(result, status, requestUser);
+                    trace.mark(OrderTrace.Stage.DONE);
+                }, executor);
+    }
+
+    /**
+     * 업비트 동시 요청 상한 내에서 호출
+     * 허가를 기다리는 동안만 가상 스레드를 쓰고, 응답을 기다리는 동안에는 스레드를 잡지 않는다
+     */
+    private <T> CompletableFuture<T> withPermit(Supplier<CompletableFuture<T>> call) {
+        return CompletableFuture.runAsync(upbitPermits::acquireUninterruptibly, executor)
+                .thenCompose(ignored -> {
+                    CompletableFuture<T> future;
                     try {
-                        return upbitService.orderCoins("sell", requestUser, status.getSelectCoin());
-                    } catch (Exception e) {
-                        log.error(e.getMessage());
-                        throw new CustomException(ErrorCode.UPBIT_ORDER_FAIL);
+                        future = call.get();
+                    } catch (RuntimeException e) {
+                        future = CompletableFuture.failedFuture(e);
                     }
-                }, executor
-        ).thenCompose(orderResponse ->
-                CompletableFuture.supplyAsync(
-                        () -> {
-                            try {
-                                return upbitService.getOrders(requestUser, 2, status.getSelectCoin());
-                            } catch (Exception e) {
-                                log.error(e.getMessage());
-                                throw new CustomException(ErrorCode.UPBIT_ORDER_LIST_READ_FAIL);
-                            }
-                        }, executor
-                ).thenAccept(result -> afterSell(result, status, requestUser))
-        );
+                    return future.whenComplete((result, e) -> upbitPermits.release());
+                });
     }
 
     /**
      * 매수 처리 이후 상태 변경 및 매수금액 확인
      *
-     * @param result      거래 결과
+     * @param response    주문 결과
      * @param status      거래 상태
      * @param requestUser 로그인 유저
      */
-    private void afterBuy(Object result, TradingStatus status, User requestUser) {
-        OrderResponse response = (OrderResponse) result;
+    private void afterBuy(OrderResponse response, TradingStatus status, User requestUser) {
         status.getHold().set(true);  // 매수 완료 상태로 변경
+        sessionJournal.mark(requestUser.getUserId());
         double locked = Math.round(Double.parseDouble(response.getLocked()));
 
         String formatted_locked = String.format("%,.0f", locked);
         log.info("{}의 매수 금액: {}원(수수료 포함)", requestUser.getUserId(), formatted_locked);
+        refreshBalance(requestUser); // 체결 후 잔고 반영
     }
 
     /**
      * 매도 처리 후 상태 변경 및 수익률 확인
      * 주문 처리 완료 전 주문 API 요청 시 매도에 대한 주문이 없기에 매수 기준으로 수익률 기준
      *
-     * @param result      거래 결과
+     * @param orders      주문 내역, 조회에 실패했으면 null
      * @param status      거래 상태
      * @param requestUser 로그인 유저
      */
-    private void afterSell(Object result, TradingStatus status, User requestUser) {
+    private void afterSell(List<Map<String, Object>> orders, TradingStatus status, User requestUser) {
         status.getOpMode().set(false);
         status.getHold().set(false);
+        sessionJournal.mark(requestUser.getUserId());
+
+        if (orders != null) {
+            TradeInfo trade = toTradeInfo(requestUser, orders, marketStateStore.price(status.getSelectCoin()));
+            tradeHistoryService.saveTrade(trade);
 
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> orders = (List<Map<String, Object>>) result;
+            log.info("{}의 매도 수익률: {}", requestUser.getUserId(), String.format("%.1f%%", trade.getReturnRate()));
+        }
+        refreshBalance(requestUser); // 체결 후 잔고 반영
+    }
 
+    /**
+     * 최근 주문 내역의 매수 주문과 현재가로 거래 기록 생성
+     *
+     * @param orders       주문 내역 (최신순)
+     * @param currentPrice 매도 시점 가격
+     */
+    static TradeInfo toTradeInfo(User requestUser, List<Map<String, Object>> orders, double currentPrice) {
         Map<String, Object> order = orders.stream()
                 .filter(o -> "bid".equals(o.get("side")))
                 .findFirst()
@@ -301,23 +517,17 @@ public class TradingService {
         double buyPrice = executed_funds + paid_fee;
         double beforeMoney = (buyPrice * executed_volume) * 1.0005;
 
-        double currentPrice = redisService.getCurrentPriceMap().get(status.getSelectCoin());
         double sellPrice = (executed_volume * currentPrice) * 0.9995;
 
         double ror = (sellPrice - beforeMoney) / buyPrice * 100;
 
-
-        tradeRepository.save(
-                new TradeInfo(
-                        requestUser,
-                        LocalDate.now().minusDays(1),
-                        tradeCoin,
-                        ror,
-                        beforeMoney,
-                        sellPrice)
-        );
-
-        log.info("{}의 매도 수익률: {}", requestUser.getUserId(), String.format("%.1f%%", ror));
+        return new TradeInfo(
+                requestUser,
+                LocalDate.now().minusDays(1),
+                tradeCoin,
+                ror,
+                beforeMoney,
+                sellPrice);
     }
 
     private User getRequestUserByIdOrThrow(AuthUser authUser) {
@@ -329,7 +539,7 @@ public class TradingService {
      * 테스트 메서드들
      */
     public void asyncTest(AuthUser authUser) throws InterruptedException {
-        processBuy(userStatusMap.get(authUser.getUserId()).getSelectCoin()); // 비동기 매수 실행
+        processBuy(userStatusMap.get(authUser.getUserId()).getSelectCoin(), System.nanoTime()); // 비동기 매수 실행
         Thread.sleep(6000);
         log.info("쓰레드슬립");
         processSell();
@@ -339,6 +549,7 @@ public class TradingService {
         for (String userId : runningUser) {
             TradingStatus status = userStatusMap.get(userId);
             status.getOpMode().set(true);
+            sessionJournal.mark(userId);
             log.info("{}의 op_mode 변경완료: {}", userId, status.getOpMode().get());
         }
     }
@@ -347,6 +558,7 @@ public class TradingService {
         for (String userId : runningUser) {
             TradingStatus status = userStatusMap.get(userId);
             status.getHold().set(true);
+            sessionJournal.mark(userId);
             log.info("{}의 hold 변경완료: {}", userId, status.getHold().get());
         }
     }
@@ -354,7 +566,7 @@ public class TradingService {
     @Transactional
     public void addLog(AuthUser authUser) {
         User user = getRequestUserByIdOrThrow(authUser);
-        tradeRepository.save(new TradeInfo(user, LocalDate.now(), Coin.BTC.getKoreanName(), 0.022, 100000, 100000*1.022));
-        tradeRepository.save(new TradeInfo(user, LocalDate.now(), Coin.ETH.getKoreanName(), -0.032, 100000*1.022, 100000*1.022*0.968));
+        tradeHistoryService.saveTrade(new TradeInfo(user, LocalDate.now(), Coin.BTC.getKoreanName(), 0.022, 100000, 100000*1.022));
+        tradeHistoryService.saveTrade(new TradeInfo(user, LocalDate.now(), Coin.ETH.getKoreanName(), -0.032, 100000*1.022, 100000*1.022*0.968));
     }
 }
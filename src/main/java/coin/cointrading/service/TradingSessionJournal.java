@@ -0,0 +1,118 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.TradingStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실행 중인 유저의 거래 상태를 Redis 해시(trading:sessions)에 남기는 write-behind 저널
+ * 상태가 바뀐 유저만 표시해 두고 1초마다 파이프라인 1회로 반영, 재시작 시 HGETALL 1회로 전체를 읽는다.
+ * 값은 "코인|opMode|hold" (예: BTC|1|0), 인증 정보는 복구 시 DB에서 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TradingSessionJournal {
+
+    static final String KEY = "trading:sessions";
+    private static final byte[] RAW_KEY = RedisSerializer.string().serialize(KEY);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ConcurrentHashMap<String, TradingStatus> userStatusMap;
+    private final Set<String> runningUser;
+    private final TradingMetrics tradingMetrics;
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 상태가 바뀐 유저 표시, 다음 flush에서 현재 상태로 저장(실행 중이 아니면 삭제)
+     */
+    public void mark(String userId) {
+        dirty.add(userId);
+    }
+
+    /**
+     * 표시된 유저의 현재 상태를 한 번에 반영
+     * 반영 중 다시 표시된 유저는 다음 flush에서 최신 상태로 덮어쓴다
+     */
+    @Scheduled(fixedDelayString = "${trading.journal.flush-ms:1000}")
+    public void flush() {
+        if (dirty.isEmpty()) return;
+
+        Map<String, String> upserts = new HashMap<>();
+        Set<String> removals = new HashSet<>();
+        for (String userId : dirty) {
+            dirty.remove(userId);
+            TradingStatus status = userStatusMap.get(userId);
+            if (status != null && runningUser.contains(userId)) upserts.put(userId, encode(status));
+            else removals.add(userId);
+        }
+
+        RedisSerializer<String> serializer = RedisSerializer.string();
+        long start = System.nanoTime();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                upserts.forEach((userId, value) ->
+                        connection.hashCommands().hSet(RAW_KEY, serializer.serialize(userId), serializer.serialize(value)));
+                for (String userId : removals) {
+                    connection.hashCommands().hDel(RAW_KEY, serializer.serialize(userId));
+                }
+                return null;
+            });
+            tradingMetrics.recordRedisWrite("session_journal", System.nanoTime() - start);
+        } catch (Exception e) {
+            // 다음 flush에서 다시 시도
+            dirty.addAll(upserts.keySet());
+            dirty.addAll(removals);
+            log.warn("거래 상태 저장 실패 ({}명): {}", upserts.size() + removals.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 남은 변경분 반영
+     */
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    /**
+     * 저장된 전체 세션 조회, 형식이 잘못된 항목은 삭제 대상으로 표시하고 건너뜀
+     */
+    public Map<String, TradingStatus> load() {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(KEY);
+        Map<String, TradingStatus> sessions = new HashMap<>(entries.size() * 2);
+        entries.forEach((userId, value) -> {
+            TradingStatus status = decode(value.toString());
+            if (status != null) sessions.put(userId.toString(), status);
+            else mark(userId.toString());
+        });
+        return sessions;
+    }
+
+    static String encode(TradingStatus status) {
+        return status.getSelectCoin().name() + '|' + (status.getOpMode().get() ? '1' : '0') + '|' + (status.getHold().get() ? '1' : '0');
+    }
+
+    static TradingStatus decode(String value) {
+        String[] fields = value.split("\\|");
+        if (fields.length != 3) return null;
+        try {
+            return new TradingStatus(Coin.valueOf(fields[0]), "1".equals(fields[1]), "1".equals(fields[2]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package coin.cointrading.service;
 import coin.cointrading.domain.Coin;
 
 import java.io.IOException;
+import java.util.Map;
 
 public interface UpbitCandleService {
 
@@ -10,5 +11,7 @@ public interface UpbitCandleService {
 
     Double current(Coin coin) throws IOException;
 
+    Map<Coin, Double> currentAll() throws IOException;
+
     Double checkTarget(Coin coin) throws IOException;
 }
@@ -2,12 +2,25 @@ package coin.cointrading.service;
 
 import coin.cointrading.domain.Coin;
 import coin.cointrading.domain.User;
+import coin.cointrading.dto.AccountResponse;
+import coin.cointrading.dto.OrderResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface UpbitService {
 
-    Object getAccount(User requestUser) throws Exception;
+    CompletableFuture<List<AccountResponse>> getAccount(User requestUser);
+
+    CompletableFuture<OrderResponse> orderCoins(String decision, User requestUser, Coin selectCoin);
 
-    Object orderCoins(String decision, User requestUser, Coin selectCoin) throws Exception;
+    /**
+     * 단계별 시각을 trace에 기록하며 주문, 기본 구현은 기록 없이 주문
+     */
+    default CompletableFuture<OrderResponse> orderCoins(String decision, User requestUser, Coin selectCoin, OrderTrace trace) {
+        return orderCoins(decision, requestUser, selectCoin);
+    }
 
-    Object getOrders(User requestUser, int count, Coin selectCoin);
+    CompletableFuture<List<Map<String, Object>>> getOrders(User requestUser, int count, Coin selectCoin);
 }
@@ -4,27 +4,23 @@ import coin.cointrading.domain.AuthUser;
 import coin.cointrading.domain.Role;
 import coin.cointrading.domain.User;
 import coin.cointrading.dto.LoginRequest;
-import coin.cointrading.dto.TradeInfoResponse;
+import coin.cointrading.dto.TradeHistoryResponse;
+import coin.cointrading.dto.TradeSummaryResponse;
 import coin.cointrading.dto.UserSignupRequest;
 import coin.cointrading.exception.CustomException;
 import coin.cointrading.exception.ErrorCode;
-import coin.cointrading.repository.TradeRepository;
+import coin.cointrading.exception.UpbitApiException;
 import coin.cointrading.repository.UserRepository;
 import coin.cointrading.util.AES256Util;
 import coin.cointrading.util.JwtTokenProvider;
+import coin.cointrading.util.UpbitHttpClient;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -35,9 +31,9 @@ public class UserService {
     private final BCryptPasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
-    private final TradeRepository tradeRepository;
+    private final TradeHistoryService tradeHistoryService;
     private final AES256Util aes256Util;
-    private final RestTemplate restTemplate;
+    private final UpbitHttpClient upbitHttpClient;
     private final RedisService redisService;
 
     /**
@@ -102,16 +98,14 @@ public class UserService {
      */
     private void validateUpbitApiKey(UserSignupRequest request) {
         // API키 확인
-        String accountUrl = "https://api.upbit.com/v1/accounts";
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Content-Type", "application/json");
-
-        headers.set("Authorization", jwtTokenProvider.createAccountToken(request.getAccessKey(), request.getSecretKey()));
-        HttpEntity<?> entity = new HttpEntity<>(headers);
+        String token = jwtTokenProvider.createAccountToken(request.getAccessKey(), request.getSecretKey());
         try {
-            restTemplate.exchange(accountUrl, HttpMethod.GET, entity, String.class);
-        } catch (HttpClientErrorException e) {
-            String responseBody = e.getResponseBodyAsString();
+            UpbitHttpClient.await(upbitHttpClient.get("/v1/accounts", token, request.getAccessKey()));
+        } catch (UpbitApiException e) {
+            if (e.getStatusCode() >= 500) {
+                throw new RuntimeException("Upbit API 요청 실패: " + e.getMessage());
+            }
+            String responseBody = e.getResponseBody();
             if (responseBody.contains("invalid_")) {
                 throw new CustomException(ErrorCode.AUTH_INVALID_API_KEY);
             } else if (responseBody.contains("no_authorization_ip")) {
@@ -145,17 +139,22 @@ public class UserService {
                 .build().toString();
     }
 
-    public List<TradeInfoResponse> getMyPageData(AuthUser authUser) {
+    /**
+     * 마이 페이지 거래 기록
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지면 null
+     */
+    public TradeHistoryResponse getMyPageData(AuthUser authUser, String cursor, int size) {
+        User user = getRequestUserByIdOrThrow(authUser);
+        return tradeHistoryService.getTrades(user, cursor, size);
+    }
+
+    /**
+     * 마이 페이지 거래 집계 (총 손익, 복리 수익률, 월별)
+     */
+    @Transactional
+    public TradeSummaryResponse getMyPageSummary(AuthUser authUser) {
         User user = getRequestUserByIdOrThrow(authUser);
-        return tradeRepository.findByUserUserId(user.getUserId())
-                .stream()
-                .map(tradeInfo -> new TradeInfoResponse(
-                        tradeInfo.getTradingDay().toString(),
-                        tradeInfo.getTradeCoin(),
-                        String.format("%.2f%%", tradeInfo.getReturnRate() * 100),
-                        (int)tradeInfo.getBeforeMoney(),
-                        (int)tradeInfo.getAfterMoney()
-                )).toList();
+        return tradeHistoryService.getSummary(user);
     }
 
     private User getRequestUserByIdOrThrow(AuthUser authUser) {
@@ -1,87 +1,68 @@
 package coin.cointrading.service.impl;
 
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
 import coin.cointrading.domain.Coin;
 import coin.cointrading.dto.SimpleCandleDTO;
-import coin.cointrading.dto.UpbitCandle;
+import coin.cointrading.exception.CustomException;
+import coin.cointrading.exception.ErrorCode;
+import coin.cointrading.service.CandleStore;
 import coin.cointrading.service.UpbitCandleService;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
+import coin.cointrading.util.UpbitHttpClient;
+import coin.cointrading.util.UpbitJsonReader;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.Response;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
+import java.util.Map;
 
 @Service
 @Primary
 @RequiredArgsConstructor
 public class UpbitCandleServiceImpl implements UpbitCandleService {
 
-    private final OkHttpClient okHttpClient;
+    private static final String ALL_MARKETS = Coin.joinedMarketCodes();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final UpbitHttpClient upbitHttpClient;
+    private final CandleStore candleStore;
 
     @Override
     public String dayCandle(Coin coin) throws IOException {
-        Request request = new Request.Builder()
-                .url("https://api.upbit.com/v1/candles/days?market=KRW-" + coin + "&count=2")
-                .get()
-                .addHeader("accept", "application/json")
-                .build();
-
-        // try-with-resources 구문을 사용하여 자동으로 닫히도록 함
-        try (Response response = okHttpClient.newCall(request).execute()) {
-            String jsonResponse = response.body().string();
-
-            // Jackson을 이용한 JSON 파싱
-            ObjectMapper objectMapper = new ObjectMapper();
-            UpbitCandle[] candles = objectMapper.readValue(jsonResponse, UpbitCandle[].class);
-            SimpleCandleDTO[] filteredCandles = Arrays.stream(candles)
-                    .map(candle -> new SimpleCandleDTO(candle.getCandleDateTimeKst(), candle.getOpeningPrice(), candle.getHighPrice(), candle.getLowPrice(), candle.getTradePrice(), candle.getCandleAccTradeVolume()))
-                    .toArray(SimpleCandleDTO[]::new);
-
-            return objectMapper.writeValueAsString(filteredCandles);
-        }
+        CandleSeries.View candles = candleStore.load(coin, CandleInterval.DAY, 2);
+        return OBJECT_MAPPER.writeValueAsString(SimpleCandleDTO.newestFirst(candles));
     }
 
     @Override
     public Double current(Coin coin) throws IOException {
-        String serverUrl = "https://api.upbit.com";
-        Request request = new Request.Builder()
-                .url(serverUrl + "/v1/ticker?markets=KRW-" + coin)
-                .get()
-                .addHeader("accept", "application/json")
-                .build();
-
-        // try-with-resources를 사용하여 자동으로 response 닫기
-        try (Response response = okHttpClient.newCall(request).execute()) {
-            if (!response.isSuccessful()) throw new IOException("Unexpected code " + response);
-
-            assert response.body() != null;
-            String jsonResponse = response.body().string();
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode jsonNode = objectMapper.readTree(jsonResponse);
+        String jsonResponse = UpbitHttpClient.await(upbitHttpClient.quotation("/v1/ticker?markets=KRW-" + coin));
+        return UpbitJsonReader.tradePrice(jsonResponse);
+    }
 
-            // trade_price(현재 가격) 값 추출
-            return jsonNode.get(0).get("trade_price").asDouble();
-        }
+    /**
+     * 전체 코인 현재가를 한 번의 ticker 요청으로 조회
+     * markets 파라미터에 콤마로 연결한 마켓 코드를 넘겨 코인이 늘어도 요청 수는 1회로 유지
+     */
+    @Override
+    public Map<Coin, Double> currentAll() throws IOException {
+        String jsonResponse = UpbitHttpClient.await(upbitHttpClient.quotation("/v1/ticker?markets=" + ALL_MARKETS));
+        return UpbitJsonReader.tradePrices(jsonResponse);
     }
 
+    /**
+     * 전일 일봉 기준 목표가 (전일 종가 + 전일 변동폭 * 0.5)
+     *
+     * @throws CustomException 신규 상장 등으로 전일 일봉이 없을 때
+     */
     @Override
     public Double checkTarget(Coin coin) throws IOException {
-        String candle = dayCandle(coin);
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        List<JsonNode> candles = objectMapper.readValue(candle, new TypeReference<>() {});
-        JsonNode yesterday = candles.get(1);
-        double lowPrice = yesterday.get("low_price").asDouble();
-        double highPrice = yesterday.get("high_price").asDouble();
-        double targetPoint = (highPrice - lowPrice) * 0.5;
+        CandleSeries.View candles = candleStore.load(coin, CandleInterval.DAY, 2); // 시간순 (전일, 당일)
+        if (candles.size() < 2) throw new CustomException(ErrorCode.REDIS_TARGET_PRICE_NOT_FOUND);
+        int yesterday = 0;
+        double targetPoint = (candles.high(yesterday) - candles.low(yesterday)) * 0.5;
 
-        return yesterday.get("trade_price").asDouble() + targetPoint;
+        return candles.close(yesterday) + targetPoint;
     }
 }
@@ -4,23 +4,31 @@ import coin.cointrading.domain.Coin;
 import coin.cointrading.domain.User;
 import coin.cointrading.dto.AccountResponse;
 import coin.cointrading.dto.OrderResponse;
+import coin.cointrading.exception.UpbitApiException;
+import coin.cointrading.service.BalanceCache;
+import coin.cointrading.service.OrderTrace;
 import coin.cointrading.service.UpbitService;
 import coin.cointrading.util.JwtTokenProvider;
-import com.google.gson.Gson;
+import coin.cointrading.util.UpbitHttpClient;
+import coin.cointrading.util.UpbitRateLimiter.Priority;
+import coin.cointrading.util.UpbitRequestSigner;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -28,32 +36,67 @@ import java.util.Map;
 @Primary
 public class UpbitServiceImpl implements UpbitService {
 
-    private final String serverUrl = "https://api.upbit.com";
+    private static final TypeReference<List<AccountResponse>> ACCOUNTS = new TypeReference<>() {
+    };
+    private static final TypeReference<OrderResponse> ORDER = new TypeReference<>() {
+    };
+    private static final TypeReference<List<Map<String, Object>>> ORDERS = new TypeReference<>() {
+    };
+
+    private static final int MAX_READ_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+
     private final JwtTokenProvider jwtTokenProvider;
-    private final RestTemplate restTemplate;
+    private final UpbitHttpClient upbitHttpClient;
+    private final BalanceCache balanceCache;
+
+    @Override
+    public CompletableFuture<List<AccountResponse>> getAccount(User requestUser) {
+        return getAccount(requestUser, Priority.READ);
+    }
+
+    private CompletableFuture<List<AccountResponse>> getAccount(User requestUser, Priority priority) {
+        String token;
+        try {
+            token = jwtTokenProvider.createAccountToken(requestUser);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        BalanceCache.Lookup lookup = balanceCache.begin(requestUser.getUserId());
+        return upbitHttpClient.get("/v1/accounts", token, requestUser.getUpbitAccessKey(), priority, ACCOUNTS)
+                .thenApply(accounts -> {
+                    balanceCache.put(requestUser.getUserId(), lookup, accounts);
+                    return accounts;
+                });
+    }
 
     @Override
-    public List<AccountResponse> getAccount(User requestUser) throws Exception {
-        String accountUrl = serverUrl + "/v1/accounts";
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Content-Type", "application/json");
-
-        headers.set("Authorization", jwtTokenProvider.createAccountToken(requestUser));
-        HttpEntity<?> entity = new HttpEntity<>(headers);
-
-        return restTemplate.exchange(
-                accountUrl,
-                HttpMethod.GET,
-                entity,
-                new ParameterizedTypeReference<List<AccountResponse>>() {
-                }
-        ).getBody();
+    public CompletableFuture<OrderResponse> orderCoins(String decision, User requestUser, Coin selectCoin) {
+        return orderCoins(decision, requestUser, selectCoin, OrderTrace.NOOP);
     }
 
     @Override
-    public Object orderCoins(String decision, User requestUser, Coin selectCoin) throws Exception {
+    public CompletableFuture<OrderResponse> orderCoins(String decision, User requestUser, Coin selectCoin, OrderTrace trace) {
+        String side;
+        if ("buy".equals(decision)) side = "bid";
+        else if ("sell".equals(decision)) side = "ask";
+        else return CompletableFuture.completedFuture(null);
+
+        // 최근 잔고 스냅샷이 있으면 사용, 없거나 오래됐으면 실시간 조회 후 이어서 주문
+        CompletableFuture<List<AccountResponse>> account = balanceCache.getForOrder(requestUser.getUserId())
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> getAccount(requestUser, Priority.ORDER));
+
+        return account.thenCompose(accounts -> {
+                    trace.mark(OrderTrace.Stage.ACCOUNT);
+                    return postOrder(side, accounts, requestUser, selectCoin, trace);
+                })
+                .whenComplete((result, e) -> balanceCache.evict(requestUser.getUserId())); // 주문 이후 잔고는 다음 갱신으로 채움
+    }
 
-        List<AccountResponse> account = getAccount(requestUser);
+    private CompletableFuture<OrderResponse> postOrder(String side, List<AccountResponse> account, User requestUser, Coin selectCoin,
+                                                       OrderTrace trace) {
         AccountResponse KRW = new AccountResponse();
         AccountResponse coinAccount = new AccountResponse();
         for (AccountResponse accountResponse : account) {
@@ -61,11 +104,6 @@ public class UpbitServiceImpl implements UpbitService {
             if (accountResponse.getCurrency().equals(selectCoin.name())) coinAccount = accountResponse;
         }
 
-        String side;
-        if ("buy".equals(decision)) side = "bid";
-        else if ("sell".equals(decision)) side = "ask";
-        else return null;
-
         // 잔고 계산
         double balance = Math.floor(Double.parseDouble(KRW.getBalance()) * 0.9995);
         String price = Double.toString(balance);
@@ -80,23 +118,19 @@ public class UpbitServiceImpl implements UpbitService {
         if (side.equals("bid")) params.put("price", price);
         else params.put("volume", volume);
 
-        String orderUrl = serverUrl + "/v1/orders";
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Content-Type", "application/json");
-
-        headers.set("Authorization", jwtTokenProvider.createOrderToken(params, requestUser));
-        HttpEntity<String> entity = new HttpEntity<>(new Gson().toJson(params), headers);
-
-        return restTemplate.exchange(
-                orderUrl,
-                HttpMethod.POST,
-                entity,
-                new ParameterizedTypeReference<OrderResponse>() {
-                }).getBody();
+        String token;
+        try {
+            token = jwtTokenProvider.createOrderToken(params, requestUser);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        trace.mark(OrderTrace.Stage.SIGNED);
+        return upbitHttpClient.post("/v1/orders", UpbitRequestSigner.body(params), token, requestUser.getUpbitAccessKey(), ORDER)
+                .whenComplete((order, e) -> trace.mark(OrderTrace.Stage.SENT));
     }
 
     @Override
-    public Object getOrders(User requestUser, int count, Coin selectCoin) {
+    public CompletableFuture<List<Map<String, Object>>> getOrders(User requestUser, int count, Coin selectCoin) {
         HashMap<String, String> params = new HashMap<>();
         params.put("market", selectCoin.getMarketCode());
 
@@ -117,24 +151,40 @@ public class UpbitServiceImpl implements UpbitService {
 
         String queryString = String.join("&", queryElements.toArray(new String[0]));
 
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Content-Type", "application/json");
-
-            headers.set("Authorization", jwtTokenProvider.createGetOrderToken(queryString, requestUser));
-            HttpEntity<?> entity = new HttpEntity<>(headers);
-
-            return restTemplate.exchange(
-                    serverUrl + "/v1/orders/closed?" + queryString,
-                    HttpMethod.GET,
-                    entity,
-                    new ParameterizedTypeReference<List<Map<String, Object>>>() {
-                    }
-            ).getBody();
-        } catch (Exception e) {
-            log.info(e.getMessage());
-            return null;
-        }
+        return readWithRetry(() -> {
+            String token;
+            try {
+                token = jwtTokenProvider.createGetOrderToken(queryString, requestUser); // 재시도마다 새 nonce로 서명
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+            return upbitHttpClient.get("/v1/orders/closed?" + queryString, token, requestUser.getUpbitAccessKey(), Priority.ORDER, ORDERS);
+        }, 1);
+    }
+
+    /**
+     * 조회 요청은 멱등이므로 요청 제한(429), 서버 오류, 네트워크 오류 시 요청 제한기를 다시 거쳐 재시도
+     * 재시도 횟수를 넘기면 마지막 실패로 완료
+     */
+    private <T> CompletableFuture<T> readWithRetry(Supplier<CompletableFuture<T>> call, int attempt) {
+        return call.get()
+                .handle((result, e) -> {
+                    if (e == null) return CompletableFuture.completedFuture(result);
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (attempt >= MAX_READ_ATTEMPTS || !retryable(cause)) return CompletableFuture.<T>failedFuture(cause);
+
+                    log.warn("업비트 조회 재시도 {}/{}: {}", attempt, MAX_READ_ATTEMPTS - 1, cause.getMessage());
+                    Executor delayed = CompletableFuture.delayedExecutor(RETRY_BACKOFF_MILLIS * attempt, TimeUnit.MILLISECONDS);
+                    return CompletableFuture.runAsync(() -> {
+                            }, delayed)
+                            .thenCompose(ignored -> readWithRetry(call, attempt + 1));
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private static boolean retryable(Throwable cause) {
+        if (cause instanceof UpbitApiException api) return api.getStatusCode() == 429 || api.getStatusCode() >= 500;
+        return cause instanceof IOException; // 응답 파싱 실패(UncheckedIOException)는 재시도하지 않음
     }
 
 }
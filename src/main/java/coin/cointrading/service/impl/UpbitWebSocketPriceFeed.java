@@ -0,0 +1,170 @@
+package coin.cointrading.service.impl;
+
+import coin.cointrading.domain.Coin;
+import coin.cointrading.domain.MarketStateStore;
+import coin.cointrading.dto.PriceTickEvent;
+import coin.cointrading.service.PriceFeed;
+import coin.cointrading.service.TradingMetrics;
+import coin.cointrading.util.UpbitJsonReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okio.ByteString;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class UpbitWebSocketPriceFeed implements PriceFeed {
+
+    private static final long STALE_MILLIS = 5000; // 이 시간 동안 메시지가 없으면 끊긴 것으로 간주
+
+    private final OkHttpClient webSocketClient;
+    private final MarketStateStore marketStateStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TradingMetrics tradingMetrics;
+    private final String webSocketUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private volatile WebSocket webSocket;
+    private volatile boolean open;
+    private volatile long lastMessageAt;
+
+    public UpbitWebSocketPriceFeed(OkHttpClient okHttpClient,
+                                   MarketStateStore marketStateStore,
+                                   ApplicationEventPublisher eventPublisher,
+                                   TradingMetrics tradingMetrics,
+                                   @Value("${upbit.websocket.url:wss://api.upbit.com/websocket/v1}") String webSocketUrl) {
+        this.webSocketClient = okHttpClient.newBuilder()
+                .pingInterval(30, TimeUnit.SECONDS) // 유휴 연결 유지
+                .readTimeout(0, TimeUnit.SECONDS) // REST용 타임아웃은 스트림에 적용하지 않음
+                .callTimeout(0, TimeUnit.SECONDS)
+                .build();
+        this.marketStateStore = marketStateStore;
+        this.eventPublisher = eventPublisher;
+        this.tradingMetrics = tradingMetrics;
+        this.webSocketUrl = webSocketUrl;
+    }
+
+    /**
+     * 5초마다 연결 상태 확인 후 끊겨 있으면 재연결
+     */
+    @Scheduled(initialDelay = 3000, fixedDelay = 5000)
+    public void ensureConnected() {
+        if (!isConnected()) {
+            connect();
+        }
+    }
+
+    @Override
+    public synchronized void connect() {
+        if (webSocket != null) {
+            webSocket.cancel();
+        }
+        Request request = new Request.Builder()
+                .url(webSocketUrl)
+                .build();
+        webSocket = webSocketClient.newWebSocket(request, new PriceListener());
+    }
+
+    @PreDestroy
+    @Override
+    public synchronized void disconnect() {
+        if (webSocket != null) {
+            webSocket.close(1000, "shutdown");
+            webSocket = null;
+        }
+        open = false;
+    }
+
+    @Override
+    public boolean isConnected() {
+        return open && System.currentTimeMillis() - lastMessageAt < STALE_MILLIS;
+    }
+
+    /**
+     * 전체 코인의 ticker, trade 이벤트 구독 메시지
+     */
+    String subscribeMessage() {
+        ArrayNode message = objectMapper.createArrayNode();
+        message.addObject().put("ticket", UUID.randomUUID().toString());
+        for (String type : new String[]{"ticker", "trade"}) {
+            ArrayNode codes = message.addObject()
+                    .put("type", type)
+                    .put("isOnlyRealtime", true)
+                    .putArray("codes");
+            for (Coin coin : Coin.values()) {
+                codes.add(coin.getMarketCode());
+            }
+        }
+        return message.toString();
+    }
+
+    void handleMessage(String text) {
+        lastMessageAt = System.currentTimeMillis();
+        try {
+            UpbitJsonReader.Tick tick = UpbitJsonReader.tick(text);
+            if (tick == null) return; // 상태 메시지, 거래 대상이 아닌 코인 등은 무시
+
+            if (tick.tradeTimestamp() > 0) tradingMetrics.recordTickAge(tick.coin(), tick.tradeTimestamp());
+            marketStateStore.updatePrice(tick.coin(), tick.price());
+            eventPublisher.publishEvent(new PriceTickEvent(tick.coin(), tick.price()));
+        } catch (IOException e) {
+            log.warn("시세 메시지 파싱 실패: {}", e.getMessage());
+        }
+    }
+
+    private class PriceListener extends WebSocketListener {
+
+        @Override
+        public void onOpen(@NotNull WebSocket webSocket, @NotNull Response response) {
+            open = true;
+            lastMessageAt = System.currentTimeMillis();
+            webSocket.send(subscribeMessage());
+            log.info("🟢 시세 웹소켓 연결");
+        }
+
+        // 업비트는 시세를 바이너리 프레임으로 전송
+        @Override
+        public void onMessage(@NotNull WebSocket webSocket, @NotNull ByteString bytes) {
+            handleMessage(bytes.utf8());
+        }
+
+        @Override
+        public void onMessage(@NotNull WebSocket webSocket, @NotNull String text) {
+            handleMessage(text);
+        }
+
+        @Override
+        public void onClosing(@NotNull WebSocket webSocket, int code, @NotNull String reason) {
+            webSocket.close(1000, null); // 서버 종료 요청에 응답
+        }
+
+        @Override
+        public void onClosed(@NotNull WebSocket webSocket, int code, @NotNull String reason) {
+            if (webSocket != UpbitWebSocketPriceFeed.this.webSocket) return; // 교체된 이전 연결
+            open = false;
+            log.warn("🔴 시세 웹소켓 종료({}) - REST 폴링으로 전환", code);
+        }
+
+        @Override
+        public void onFailure(@NotNull WebSocket webSocket, @NotNull Throwable t, Response response) {
+            if (webSocket != UpbitWebSocketPriceFeed.this.webSocket) return; // 교체된 이전 연결
+            open = false;
+            log.warn("🔴 시세 웹소켓 오류 - REST 폴링으로 전환: {}", t.getMessage());
+        }
+    }
+}
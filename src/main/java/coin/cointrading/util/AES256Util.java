@@ -42,12 +42,16 @@ public class AES256Util {
 
     // 복호화
     public String decrypt(String encryptedData) throws Exception {
+        return new String(decryptToBytes(encryptedData));
+    }
+
+    // 복호화 (바이트 배열 반환, 사용 후 호출측에서 0으로 덮어쓸 수 있음)
+    public byte[] decryptToBytes(String encryptedData) throws Exception {
         Cipher cipher = Cipher.getInstance(ALGORITHM);
         SecretKeySpec secretKeySpec = new SecretKeySpec(KEY, ALGORITHM);
         cipher.init(Cipher.DECRYPT_MODE, secretKeySpec);
 
         byte[] decodedBytes = Base64.getDecoder().decode(encryptedData);
-        byte[] decryptedData = cipher.doFinal(decodedBytes);
-        return new String(decryptedData);
+        return cipher.doFinal(decodedBytes);
     }
 }
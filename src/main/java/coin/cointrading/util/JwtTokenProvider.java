@@ -13,10 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.*;
 
 @Component
@@ -25,7 +22,8 @@ public class JwtTokenProvider {
 
     @Value("${jwt.secret.key}")
     private String jwtSecretKey;
-    private final AES256Util aes256Util;
+    private final UpbitCredentialCache upbitCredentialCache;
+    private final UpbitRequestSigner upbitRequestSigner;
 
     public String createRefreshToken(String userId) {
         Algorithm algorithm = Algorithm.HMAC256(jwtSecretKey);  // 비밀 키로 서명
@@ -53,51 +51,22 @@ public class JwtTokenProvider {
     }
 
     public String createAccountToken(User user) throws Exception {
-        String accessKey  = aes256Util.decrypt(user.getUpbitAccessKey());
-        String secretKey = aes256Util.decrypt(user.getUpbitSecretKey());
-
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
-        String jwtToken = JWT.create()
-                .withClaim("access_key", accessKey)
-                .withClaim("nonce", UUID.randomUUID().toString())
-                .sign(algorithm);
-
-        return "Bearer " + jwtToken;
+        return upbitRequestSigner.sign(upbitCredentialCache.get(user));
     }
 
     public String createAccountToken(String accessKey, String secretKey) {
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
-        String jwtToken = JWT.create()
-                .withClaim("access_key", accessKey)
-                .withClaim("nonce", UUID.randomUUID().toString())
-                .sign(algorithm);
-
-        return "Bearer " + jwtToken;
+        return upbitRequestSigner.sign(UpbitCredential.of(accessKey, secretKey.getBytes(StandardCharsets.UTF_8)));
     }
 
-    public String createOrderToken(HashMap<String, String> params, User user) throws Exception {
-        String accessKey  = aes256Util.decrypt(user.getUpbitAccessKey());
-        String secretKey = aes256Util.decrypt(user.getUpbitSecretKey());
-
-        ArrayList<String> queryElements = new ArrayList<>();
-        for (Map.Entry<String, String> entity : params.entrySet()) {
-            queryElements.add(entity.getKey() + "=" + entity.getValue());
-        }
-
-        String queryString = String.join("&", queryElements.toArray(new String[0]));
-
-        String jwtToken = getJwtToken(queryString, secretKey, accessKey);
-
-        return "Bearer " + jwtToken;
+    /**
+     * 주문 토큰, 본문은 같은 순서로 만든 {@link UpbitRequestSigner#body}를 보내야 한다
+     */
+    public String createOrderToken(Map<String, String> params, User user) throws Exception {
+        return upbitRequestSigner.sign(upbitCredentialCache.get(user), params);
     }
 
     public String createGetOrderToken(String queryString, User user) throws Exception {
-        String accessKey  = aes256Util.decrypt(user.getUpbitAccessKey());
-        String secretKey = aes256Util.decrypt(user.getUpbitSecretKey());
-
-        String jwtToken = getJwtToken(queryString, secretKey, accessKey);
-
-        return "Bearer " + jwtToken;
+        return upbitRequestSigner.sign(upbitCredentialCache.get(user), queryString);
     }
 
     public DecodedJWT extractClaims(String token) {
@@ -114,19 +83,4 @@ public class JwtTokenProvider {
         }
     }
 
-    private static String getJwtToken(String queryString, String secretKey, String accessKey) throws NoSuchAlgorithmException {
-        MessageDigest md = MessageDigest.getInstance("SHA-512");
-        md.update(queryString.getBytes(StandardCharsets.UTF_8));
-
-        String queryHash = String.format("%0128x", new BigInteger(1, md.digest()));
-
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
-        return JWT.create()
-                .withClaim("access_key", accessKey)
-                .withClaim("nonce", UUID.randomUUID().toString())
-                .withClaim("query_hash", queryHash)
-                .withClaim("query_hash_alg", "SHA512")
-                .sign(algorithm);
-    }
-
 }
@@ -0,0 +1,29 @@
+package coin.cointrading.util;
+
+import java.security.MessageDigest;
+
+/**
+ * 복호화된 업비트 access key와 secret key로 미리 계산한 HMAC-SHA256 키 블록 (key ^ ipad, key ^ opad)
+ * secret key 원문은 보관하지 않는다, 서명은 {@link UpbitRequestSigner}
+ */
+public record UpbitCredential(String accessKey, byte[] innerPad, byte[] outerPad) {
+
+    private static final int BLOCK_SIZE = 64; // SHA-256 블록 크기
+
+    public static UpbitCredential of(String accessKey, byte[] secretKey) {
+        byte[] key = secretKey.length > BLOCK_SIZE ? UpbitRequestSigner.digest("SHA-256").digest(secretKey) : secretKey;
+        byte[] innerPad = new byte[BLOCK_SIZE];
+        byte[] outerPad = new byte[BLOCK_SIZE];
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            byte b = i < key.length ? key[i] : 0;
+            innerPad[i] = (byte) (b ^ 0x36);
+            outerPad[i] = (byte) (b ^ 0x5c);
+        }
+        return new UpbitCredential(accessKey, innerPad, outerPad);
+    }
+
+    @Override
+    public String toString() {
+        return "UpbitCredential[accessKey=****]";
+    }
+}
@@ -0,0 +1,60 @@
+package coin.cointrading.util;
+
+import coin.cointrading.domain.User;
+import coin.cointrading.exception.CustomException;
+import coin.cointrading.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로그램 실행 중인 유저의 업비트 인증 정보 캐시
+ * 주문 시점마다 AES 복호화와 HMAC 키 블록 계산을 반복하지 않도록 프로그램 실행 시 한 번만 만든다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UpbitCredentialCache {
+
+    private final AES256Util aes256Util;
+    private final ConcurrentHashMap<String, UpbitCredential> credentials = new ConcurrentHashMap<>();
+
+    /**
+     * 프로그램 실행 시 등록
+     */
+    public void register(User user) {
+        credentials.put(user.getUserId(), load(user));
+    }
+
+    /**
+     * 프로그램 종료 시 제거
+     */
+    public void evict(String userId) {
+        credentials.remove(userId);
+    }
+
+    /**
+     * 캐시에 없으면(프로그램 미실행 유저) 저장하지 않고 새로 만들어 반환
+     */
+    public UpbitCredential get(User user) {
+        UpbitCredential credential = credentials.get(user.getUserId());
+        return credential != null ? credential : load(user);
+    }
+
+    private UpbitCredential load(User user) {
+        byte[] secretKey = null;
+        try {
+            String accessKey = aes256Util.decrypt(user.getUpbitAccessKey());
+            secretKey = aes256Util.decryptToBytes(user.getUpbitSecretKey());
+            return UpbitCredential.of(accessKey, secretKey);
+        } catch (Exception e) {
+            log.error("{}의 API 키 복호화 실패: {}", user.getUserId(), e.getMessage());
+            throw new CustomException(ErrorCode.AUTH_INVALID_API_KEY);
+        } finally {
+            if (secretKey != null) Arrays.fill(secretKey, (byte) 0); // 복호화 원문은 바로 지움
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package coin.cointrading.util;
+
+import coin.cointrading.exception.UpbitApiException;
+import coin.cointrading.util.UpbitRateLimiter.Group;
+import coin.cointrading.util.UpbitRateLimiter.Priority;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 업비트 REST 호출이 공유하는 비동기 HTTP 계층
+ * 공용 OkHttpClient 커넥션 풀을 사용하고, 응답은 OkHttp 콜백 스레드에서 CompletableFuture로 완료된다
+ * 요청은 UpbitRateLimiter를 거쳐 업비트 요청 제한 안에서 나간다
+ * 응답 시간은 경로(쿼리 제외) / 응답 코드별로 upbit.http.requests에 기록한다 (요청 제한 대기 시간 제외)
+ */
+@Component
+public class UpbitHttpClient {
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private static final String QUOTATION_KEY = "server"; // 시세 요청 제한은 서버 IP 단위
+
+    private final OkHttpClient okHttpClient;
+    private final UpbitRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final String serverUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    public UpbitHttpClient(OkHttpClient okHttpClient,
+                           UpbitRateLimiter rateLimiter,
+                           MeterRegistry meterRegistry,
+                           @Value("${upbit.server-url:https://api.upbit.com}") String serverUrl) {
+        this.okHttpClient = okHttpClient;
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+        this.serverUrl = serverUrl;
+    }
+
+    /**
+     * 시세 GET 요청 (인증 없음)
+     */
+    public CompletableFuture<String> quotation(String pathAndQuery) {
+        Request request = request(pathAndQuery, null).get().build();
+        return rateLimiter.submit(Group.QUOTATION, QUOTATION_KEY, Priority.READ, () -> execute(request));
+    }
+
+    /**
+     * 계좌 / 주문 내역 GET 요청, access key 단위로 주문과 별도 요청 제한
+     *
+     * @param priority 주문에 딸린 조회는 ORDER로 같은 키의 일반 조회보다 먼저 나간다
+     */
+    public CompletableFuture<String> get(String pathAndQuery, String authorization, String accessKey, Priority priority) {
+        Request request = request(pathAndQuery, authorization).get().build();
+        return rateLimiter.submit(Group.EXCHANGE, accessKey, priority, () -> execute(request));
+    }
+
+    public CompletableFuture<String> get(String pathAndQuery, String authorization, String accessKey) {
+        return get(pathAndQuery, authorization, accessKey, Priority.READ);
+    }
+
+    public <T> CompletableFuture<T> get(String pathAndQuery, String authorization, String accessKey, Priority priority,
+                                        TypeReference<T> type) {
+        return get(pathAndQuery, authorization, accessKey, priority).thenApply(body -> parse(body, type));
+    }
+
+    public <T> CompletableFuture<T> get(String pathAndQuery, String authorization, String accessKey, TypeReference<T> type) {
+        return get(pathAndQuery, authorization, accessKey, Priority.READ, type);
+    }
+
+    /**
+     * 주문 POST 요청, access key 단위 주문 요청 제한
+     */
+    public <T> CompletableFuture<T> post(String path, String json, String authorization, String accessKey, TypeReference<T> type) {
+        Request request = request(path, authorization)
+                .post(RequestBody.create(json, JSON))
+                .build();
+        return rateLimiter.submit(Group.ORDER, accessKey, Priority.ORDER, () -> execute(request))
+                .thenApply(body -> parse(body, type));
+    }
+
+    /**
+     * 스케줄러 등 동기 호출부에서 결과 대기, 실패 원인은 IOException 그대로 전달
+     */
+    public static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("업비트 응답 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof UncheckedIOException io) throw io.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IOException(cause);
+        }
+    }
+
+    private Request.Builder request(String pathAndQuery, String authorization) {
+        Request.Builder builder = new Request.Builder()
+                .url(serverUrl + pathAndQuery)
+                .addHeader("accept", "application/json");
+        if (authorization != null) builder.addHeader("Authorization", authorization);
+        return builder;
+    }
+
+    private CompletableFuture<String> execute(Request request) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        Call call = okHttpClient.newCall(request);
+        long start = System.nanoTime();
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                record(request, call.isCanceled() ? "CANCELED" : "IO_ERROR", start);
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                record(request, String.valueOf(response.code()), start);
+                try (ResponseBody body = response.body()) {
+                    String text = body != null ? body.string() : "";
+                    if (response.isSuccessful()) future.complete(text);
+                    else future.completeExceptionally(new UpbitApiException(response.code(), text));
+                } catch (IOException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        future.whenComplete((result, e) -> {
+            if (future.isCancelled()) call.cancel(); // 호출부에서 취소하면 요청도 취소
+        });
+        return future;
+    }
+
+    /**
+     * 경로는 코드에 고정된 업비트 API 경로만 쓰이므로 태그 수가 제한된다
+     */
+    private void record(Request request, String status, long start) {
+        Timer.builder("upbit.http.requests")
+                .description("업비트 REST 응답 시간")
+                .tag("method", request.method())
+                .tag("endpoint", request.url().encodedPath())
+                .tag("status", status)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private <T> T parse(String body, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
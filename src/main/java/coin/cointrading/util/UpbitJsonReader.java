@@ -0,0 +1,177 @@
+package coin.cointrading.util;
+
+import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.UpbitCandlePage;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 업비트 시세 / 캔들 응답 스트리밍 파서
+ * 트리(JsonNode)나 DTO를 만들지 않고 필요한 필드만 원시 타입으로 읽고, 나머지 필드는 값을 만들지 않고 건너뛴다
+ * JsonFactory는 스레드 안전하므로 하나를 공유한다
+ */
+public final class UpbitJsonReader {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER)
+            .build();
+
+    private UpbitJsonReader() {
+    }
+
+    /**
+     * 웹소켓 시세 1건 (ticker / trade 공통 필드)
+     *
+     * @param tradeTimestamp 체결 시각 epoch ms, 없으면 0
+     */
+    public record Tick(Coin coin, double price, long tradeTimestamp) {
+    }
+
+    /**
+     * ticker 응답의 첫 번째 trade_price
+     */
+    public static double tradePrice(String json) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            expect(parser, parser.nextToken(), JsonToken.START_ARRAY);
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    if (field.equals("trade_price")) return parser.getValueAsDouble();
+                    parser.skipChildren();
+                }
+            }
+            throw new JsonParseException(parser, "trade_price 없음");
+        }
+    }
+
+    /**
+     * ticker 응답의 마켓별 trade_price, 거래 대상이 아닌 마켓은 제외
+     */
+    public static Map<Coin, Double> tradePrices(String json) throws IOException {
+        Map<Coin, Double> prices = new EnumMap<>(Coin.class);
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            expect(parser, parser.nextToken(), JsonToken.START_ARRAY);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                Coin coin = null;
+                double price = Double.NaN;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "market" -> coin = Coin.ofMarketCode(parser.getText());
+                        case "trade_price" -> price = parser.getValueAsDouble();
+                        default -> parser.skipChildren();
+                    }
+                }
+                if (coin != null && !Double.isNaN(price)) prices.put(coin, price);
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * 웹소켓 메시지(기본 필드명)에서 코드 / 체결가 / 체결 시각, 상태 메시지 등 시세가 아니면 null
+     */
+    public static Tick tick(String json) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return null;
+            Coin coin = null;
+            double price = Double.NaN;
+            long tradeTimestamp = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "code" -> coin = Coin.ofMarketCode(parser.getText());
+                    case "trade_price" -> price = parser.getValueAsDouble();
+                    case "trade_timestamp" -> tradeTimestamp = parser.getValueAsLong();
+                    default -> parser.skipChildren();
+                }
+            }
+            return coin == null || Double.isNaN(price) ? null : new Tick(coin, price, tradeTimestamp);
+        }
+    }
+
+    /**
+     * 캔들 응답(최신순)을 page 뒤에 추가
+     * 시각은 candle_date_time_utc(yyyy-MM-ddTHH:mm:ss)를 문자열로 만들지 않고 바로 epoch seconds로 바꾼다
+     *
+     * @return 이번 응답의 캔들 수
+     */
+    public static int readCandles(String json, UpbitCandlePage page) throws IOException {
+        int count = 0;
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            expect(parser, parser.nextToken(), JsonToken.START_ARRAY);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                long time = Long.MIN_VALUE;
+                double open = Double.NaN, high = Double.NaN, low = Double.NaN, close = Double.NaN, volume = 0;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "candle_date_time_utc" -> time = epochSecond(parser);
+                        case "opening_price" -> open = parser.getValueAsDouble();
+                        case "high_price" -> high = parser.getValueAsDouble();
+                        case "low_price" -> low = parser.getValueAsDouble();
+                        case "trade_price" -> close = parser.getValueAsDouble();
+                        case "candle_acc_trade_volume" -> volume = parser.getValueAsDouble();
+                        default -> parser.skipChildren();
+                    }
+                }
+                if (time == Long.MIN_VALUE) throw new JsonParseException(parser, "candle_date_time_utc 없음");
+                page.add(time, open, high, low, close, volume);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) throw new JsonParseException(parser, expected + " 필요, 실제 " + actual);
+    }
+
+    /**
+     * yyyy-MM-ddTHH:mm:ss → epoch seconds (UTC)
+     */
+    private static long epochSecond(JsonParser parser) throws IOException {
+        char[] text = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        if (parser.getTextLength() < 19) throw new JsonParseException(parser, "잘못된 캔들 시각: " + parser.getText());
+        int year = digits(parser, text, offset, 4);
+        int month = digits(parser, text, offset + 5, 2);
+        int day = digits(parser, text, offset + 8, 2);
+        int hour = digits(parser, text, offset + 11, 2);
+        int minute = digits(parser, text, offset + 14, 2);
+        int second = digits(parser, text, offset + 17, 2);
+        return epochDay(year, month, day) * 86_400 + hour * 3_600L + minute * 60L + second;
+    }
+
+    private static int digits(JsonParser parser, char[] text, int offset, int length) throws IOException {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (text[i] < '0' || text[i] > '9') throw new JsonParseException(parser, "잘못된 캔들 시각: " + parser.getText());
+            value = value * 10 + (text[i] - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 그레고리력 날짜의 epoch day (LocalDate.toEpochDay와 같은 계산)
+     */
+    private static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+}
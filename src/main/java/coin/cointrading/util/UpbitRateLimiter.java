@@ -0,0 +1,279 @@
+package coin.cointrading.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 업비트 요청 제한(초당 요청 수)에 맞춰 요청을 대기열에 넣고 속도를 맞추는 토큰 버킷 스케줄러
+ * 버킷은 API 그룹(시세 / 거래 조회 / 주문)과 키(서버 IP / 유저 access key)별로 따로 두고,
+ * 같은 버킷 안에서는 주문 경로의 요청이 일반 조회보다 먼저 나간다
+ * 한동안 쓰이지 않은 버킷은 주기적으로 정리한다 (거래를 멈춘 유저, 키 검증에만 쓰인 키)
+ */
+@Component
+public class UpbitRateLimiter {
+
+    /**
+     * 업비트 요청 제한 그룹
+     */
+    public enum Group {
+        QUOTATION, // 시세 조회, 서버 IP 기준
+        EXCHANGE,  // 계좌 / 주문 내역 등 주문 외 거래 API, access key 기준
+        ORDER      // 주문 생성, access key 기준
+    }
+
+    public enum Priority {
+        ORDER, // 주문 생성과 주문에 딸린 조회 (주문 전 잔고, 매도 후 주문 내역)
+        READ   // 주기적인 잔고 갱신 등 일반 조회
+    }
+
+    /**
+     * 지연 실행 추상화, 테스트에서는 가상 시계와 함께 직접 실행
+     */
+    interface Scheduler {
+        void schedule(Runnable task, long delayNanos);
+
+        default void shutdown() {
+        }
+    }
+
+    private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(5); // 이 시간 동안 요청이 없으면 버킷 정리
+
+    private static final Comparator<Pending<?>> QUEUE_ORDER = Comparator
+            .comparing((Pending<?> pending) -> pending.priority)
+            .thenComparingLong(pending -> pending.sequence);
+
+    private final Map<Group, Double> permitsPerSecond = new EnumMap<>(Group.class);
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<Group, AtomicInteger> queueDepth = new EnumMap<>(Group.class);
+    private final Map<Group, Map<Priority, Timer>> waitTimers = new EnumMap<>(Group.class);
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongSupplier clock;
+    private final Scheduler scheduler;
+
+    @Autowired
+    public UpbitRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${upbit.rate-limit.quotation-per-second:10}") double quotationPerSecond,
+                            @Value("${upbit.rate-limit.exchange-per-second:30}") double exchangePerSecond,
+                            @Value("${upbit.rate-limit.order-per-second:8}") double orderPerSecond) {
+        this(meterRegistry, quotationPerSecond, exchangePerSecond, orderPerSecond, System::nanoTime, timerScheduler());
+    }
+
+    UpbitRateLimiter(MeterRegistry meterRegistry, double quotationPerSecond, double exchangePerSecond, double orderPerSecond,
+                     LongSupplier clock, Scheduler scheduler) {
+        this.clock = clock;
+        this.scheduler = scheduler;
+        permitsPerSecond.put(Group.QUOTATION, quotationPerSecond);
+        permitsPerSecond.put(Group.EXCHANGE, exchangePerSecond);
+        permitsPerSecond.put(Group.ORDER, orderPerSecond);
+
+        // 태그는 그룹 / 우선순위만 사용해 유저 수와 무관하게 메트릭 수 고정
+        for (Group group : Group.values()) {
+            AtomicInteger depth = new AtomicInteger();
+            queueDepth.put(group, depth);
+            meterRegistry.gauge("upbit.ratelimit.queue.depth", Tags.of("group", group.name()), depth);
+
+            Map<Priority, Timer> timers = new EnumMap<>(Priority.class);
+            for (Priority priority : Priority.values()) {
+                timers.put(priority, Timer.builder("upbit.ratelimit.wait")
+                        .description("요청 제한으로 대기한 시간")
+                        .tag("group", group.name())
+                        .tag("priority", priority.name())
+                        .register(meterRegistry));
+            }
+            waitTimers.put(group, timers);
+        }
+    }
+
+    private static Scheduler timerScheduler() {
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("upbit-rate-limiter").daemon(true).factory());
+        return new Scheduler() {
+            @Override
+            public void schedule(Runnable task, long delayNanos) {
+                timer.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public void shutdown() {
+                timer.shutdownNow();
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * 토큰이 있으면 바로 호출, 없으면 대기열에 넣고 토큰이 차는 시점에 우선순위 순으로 호출
+     *
+     * @param key  버킷 키 (시세는 고정값, 거래는 access key)
+     * @param call 실제 요청, 토큰을 얻은 뒤에 실행된다
+     */
+    public <T> CompletableFuture<T> submit(Group group, String key, Priority priority, Supplier<CompletableFuture<T>> call) {
+        Pending<T> pending = new Pending<>(priority, sequence.getAndIncrement(), clock.getAsLong(), call);
+        String bucketKey = group + ":" + key;
+        Bucket bucket;
+        do {
+            bucket = buckets.computeIfAbsent(bucketKey, ignored -> new Bucket(group, permitsPerSecond.get(group)));
+        } while (!bucket.submit(pending)); // 정리된 버킷을 잡은 경우 새 버킷으로 다시 시도
+        return pending.result;
+    }
+
+    /**
+     * 대기 중인 요청이 없고 오래 쓰이지 않은 버킷 제거
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleBuckets() {
+        long now = clock.getAsLong();
+        buckets.forEach((key, bucket) -> {
+            if (bucket.retireIfIdle(now)) buckets.remove(key, bucket);
+        });
+    }
+
+    /**
+     * 현재 버킷 수 (그룹 x 키)
+     */
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    /**
+     * 현재 대기 중인 요청 수
+     */
+    public int queueDepth(Group group) {
+        return queueDepth.get(group).get();
+    }
+
+    private final class Bucket {
+        private final Group group;
+        private final double permitsPerNano;
+        private final double capacity; // 1초 분량까지 몰아서 허용
+        private final PriorityQueue<Pending<?>> queue = new PriorityQueue<>(QUEUE_ORDER);
+        private double tokens;
+        private long refilledAt;
+        private long lastSubmittedAt;
+        private boolean drainScheduled;
+        private boolean retired;
+
+        private Bucket(Group group, double permitsPerSecond) {
+            this.group = group;
+            this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = Math.max(1, permitsPerSecond);
+            this.tokens = capacity;
+            this.refilledAt = clock.getAsLong();
+            this.lastSubmittedAt = refilledAt;
+        }
+
+        /**
+         * @return 정리된 버킷이면 false (요청을 받지 않음)
+         */
+        private boolean submit(Pending<?> pending) {
+            boolean runNow;
+            synchronized (this) {
+                if (retired) return false;
+                lastSubmittedAt = clock.getAsLong();
+                refill();
+                runNow = queue.isEmpty() && tokens >= 1;
+                if (runNow) {
+                    tokens -= 1;
+                } else {
+                    queue.add(pending);
+                    queueDepth.get(group).incrementAndGet();
+                    scheduleDrain();
+                }
+            }
+            if (runNow) start(pending);
+            return true;
+        }
+
+        private synchronized boolean retireIfIdle(long now) {
+            if (!queue.isEmpty() || drainScheduled || now - lastSubmittedAt < IDLE_NANOS) return false;
+            retired = true;
+            return true;
+        }
+
+        private void drain() {
+            List<Pending<?>> ready = new ArrayList<>();
+            synchronized (this) {
+                drainScheduled = false;
+                refill();
+                while (tokens >= 1 && !queue.isEmpty()) {
+                    tokens -= 1;
+                    ready.add(queue.poll());
+                }
+                queueDepth.get(group).addAndGet(-ready.size());
+                if (!queue.isEmpty()) scheduleDrain();
+            }
+            ready.forEach(this::start);
+        }
+
+        private void refill() {
+            long now = clock.getAsLong();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * permitsPerNano);
+            refilledAt = now;
+        }
+
+        // lock 보유 상태에서 호출, 다음 토큰이 차는 시점에 한 번만 예약
+        private void scheduleDrain() {
+            if (drainScheduled) return;
+            drainScheduled = true;
+            long delayNanos = (long) Math.ceil((1 - tokens) / permitsPerNano);
+            scheduler.schedule(this::drain, Math.max(0, delayNanos));
+        }
+
+        private void start(Pending<?> pending) {
+            waitTimers.get(group).get(pending.priority).record(clock.getAsLong() - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+            pending.start();
+        }
+    }
+
+    private static final class Pending<T> {
+        private final Priority priority;
+        private final long sequence;
+        private final long enqueuedAt;
+        private final Supplier<CompletableFuture<T>> call;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private Pending(Priority priority, long sequence, long enqueuedAt, Supplier<CompletableFuture<T>> call) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.enqueuedAt = enqueuedAt;
+            this.call = call;
+        }
+
+        private void start() {
+            try {
+                call.get().whenComplete((value, e) -> {
+                    if (e != null) result.completeExceptionally(e);
+                    else result.complete(value);
+                });
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
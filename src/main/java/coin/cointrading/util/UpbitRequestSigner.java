@@ -0,0 +1,349 @@
+package coin.cointrading.util;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 업비트 API 인증 토큰(JWT, HS256) 서명기
+ * 다이제스트와 버퍼를 재사용해 서명 1회에 결과 문자열 외에는 객체를 만들지 않는다
+ * <ul>
+ *     <li>query_hash: 파라미터를 키 순으로 정렬한 쿼리 문자열의 SHA-512 hex, 주문 본문({@link #body})도 같은 순서</li>
+ *     <li>HMAC: 인증 정보에 미리 계산해 둔 ipad / opad 키 블록으로 SHA-256 두 번 (RFC 2104)</li>
+ *     <li>nonce: 실행마다 다른 무작위 접두어 + 증가 카운터, UUID 생성 없이 요청마다 고유</li>
+ * </ul>
+ * 주문은 요청마다 새 가상 스레드에서 서명되므로 ThreadLocal 대신 작업 버퍼 풀을 쓴다
+ */
+@Component
+public class UpbitRequestSigner {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BASE64_URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BEARER = "Bearer ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEADER = base64Url("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.US_ASCII));
+    private static final int MAX_PARAMS = 8;
+
+    private final AtomicReferenceArray<Buffers> pool;
+    private final byte[] noncePrefix = new byte[17]; // 16자리 hex + '-'
+    private final AtomicLong nonceCounter = new AtomicLong();
+
+    public UpbitRequestSigner() {
+        pool = new AtomicReferenceArray<>(Math.max(8, Runtime.getRuntime().availableProcessors() * 2));
+        long prefix = new SecureRandom().nextLong();
+        for (int i = 0; i < 16; i++) {
+            noncePrefix[i] = HEX[(int) (prefix >>> (60 - i * 4)) & 0xf];
+        }
+        noncePrefix[16] = '-';
+    }
+
+    /**
+     * 파라미터 없는 요청 (계좌 조회 등)
+     */
+    public String sign(UpbitCredential credential) {
+        Buffers buffers = acquire();
+        try {
+            return buffers.token(credential, false);
+        } finally {
+            release(buffers);
+        }
+    }
+
+    /**
+     * 주문 등 본문 파라미터가 있는 요청, 키 순으로 정렬해 query_hash 계산
+     */
+    public String sign(UpbitCredential credential, Map<String, String> params) {
+        if (params.size() > MAX_PARAMS) throw new IllegalArgumentException("파라미터는 최대 " + MAX_PARAMS + "개");
+        Buffers buffers = acquire();
+        try {
+            buffers.sortedQuery(params);
+            return buffers.token(credential, true);
+        } finally {
+            release(buffers);
+        }
+    }
+
+    /**
+     * 이미 만든 쿼리 문자열로 서명 (states[] 처럼 같은 키가 반복되는 조회), URL에도 같은 문자열을 써야 한다
+     */
+    public String sign(UpbitCredential credential, String query) {
+        Buffers buffers = acquire();
+        try {
+            buffers.query(query);
+            return buffers.token(credential, true);
+        } finally {
+            release(buffers);
+        }
+    }
+
+    /**
+     * {@link #sign(UpbitCredential, Map)}과 같은 순서의 JSON 본문
+     */
+    public static String body(Map<String, String> params) {
+        StringBuilder body = new StringBuilder("{");
+        new TreeMap<>(params).forEach((key, value) -> {
+            if (body.length() > 1) body.append(',');
+            appendJsonString(body, key);
+            body.append(':');
+            appendJsonString(body, value);
+        });
+        return body.append('}').toString();
+    }
+
+    private Buffers acquire() {
+        int start = (int) (Thread.currentThread().threadId() % pool.length());
+        for (int i = 0; i < pool.length(); i++) {
+            Buffers buffers = pool.getAndSet((start + i) % pool.length(), null);
+            if (buffers != null) return buffers;
+        }
+        return new Buffers(); // 풀이 비어 있으면 새로 만들고 반납 시 빈 자리에 넣음
+    }
+
+    private void release(Buffers buffers) {
+        int start = (int) (Thread.currentThread().threadId() % pool.length());
+        for (int i = 0; i < pool.length(); i++) {
+            if (pool.compareAndSet((start + i) % pool.length(), null, buffers)) return;
+        }
+    }
+
+    /**
+     * 서명 1회에 쓰는 다이제스트와 버퍼, 한 번에 한 스레드만 사용
+     */
+    private final class Buffers {
+        private final MessageDigest sha512 = digest("SHA-512");
+        private final MessageDigest sha256 = digest("SHA-256");
+        private final byte[] hash = new byte[64];
+        private final byte[] mac = new byte[32];
+        private final String[] keys = new String[MAX_PARAMS];
+        private final String[] values = new String[MAX_PARAMS];
+        private byte[] query = new byte[256];
+        private int queryLength;
+        private byte[] payload = new byte[256];
+        private int payloadLength;
+        private byte[] token = new byte[512];
+        private int tokenLength;
+
+        private void sortedQuery(Map<String, String> params) {
+            int n = 0;
+            for (Map.Entry<String, String> entry : params.entrySet()) {
+                String key = entry.getKey();
+                String value = entry.getValue();
+                int i = n++;
+                for (; i > 0 && keys[i - 1].compareTo(key) > 0; i--) { // 삽입 정렬 (파라미터 수가 적음)
+                    keys[i] = keys[i - 1];
+                    values[i] = values[i - 1];
+                }
+                keys[i] = key;
+                values[i] = value;
+            }
+
+            queryLength = 0;
+            for (int i = 0; i < n; i++) {
+                if (i > 0) queryByte('&');
+                queryString(keys[i]);
+                queryByte('=');
+                queryString(values[i]);
+                keys[i] = null;
+                values[i] = null;
+            }
+        }
+
+        private void query(String query) {
+            queryLength = 0;
+            queryString(query);
+        }
+
+        private String token(UpbitCredential credential, boolean withQuery) {
+            // payload: {"access_key":"..","nonce":"..","query_hash":"..","query_hash_alg":"SHA512"}
+            payloadLength = 0;
+            payloadAscii("{\"access_key\":");
+            payloadJsonString(credential.accessKey());
+            payloadAscii(",\"nonce\":\"");
+            ensurePayload(17 + 16 + 1);
+            System.arraycopy(noncePrefix, 0, payload, payloadLength, noncePrefix.length);
+            payloadLength += noncePrefix.length;
+            payloadHex(nonceCounter.incrementAndGet());
+            payload[payloadLength++] = '"';
+            if (withQuery) {
+                sha512.update(query, 0, queryLength);
+                finish(sha512, hash);
+                payloadAscii(",\"query_hash\":\"");
+                ensurePayload(hash.length * 2 + 1);
+                for (byte b : hash) {
+                    payload[payloadLength++] = HEX[(b >> 4) & 0xf];
+                    payload[payloadLength++] = HEX[b & 0xf];
+                }
+                payloadAscii("\",\"query_hash_alg\":\"SHA512\"");
+            }
+            payloadAscii("}");
+
+            // "Bearer " + header.payload.signature
+            ensureToken(BEARER.length + HEADER.length + 1 + base64UrlLength(payloadLength) + 1 + base64UrlLength(mac.length));
+            System.arraycopy(BEARER, 0, token, 0, BEARER.length);
+            System.arraycopy(HEADER, 0, token, BEARER.length, HEADER.length);
+            tokenLength = BEARER.length + HEADER.length;
+            token[tokenLength++] = '.';
+            tokenLength = encodeBase64Url(payload, payloadLength, token, tokenLength);
+
+            sha256.update(credential.innerPad());
+            sha256.update(token, BEARER.length, tokenLength - BEARER.length);
+            finish(sha256, mac);
+            sha256.update(credential.outerPad());
+            sha256.update(mac);
+            finish(sha256, mac);
+
+            token[tokenLength++] = '.';
+            tokenLength = encodeBase64Url(mac, mac.length, token, tokenLength);
+            return new String(token, 0, tokenLength, StandardCharsets.ISO_8859_1);
+        }
+
+        private void queryByte(int b) {
+            if (queryLength == query.length) query = Arrays.copyOf(query, query.length * 2);
+            query[queryLength++] = (byte) b;
+        }
+
+        /**
+         * UTF-8로 기록 (서버는 본문 문자열의 UTF-8 바이트로 해시를 비교)
+         */
+        private void queryString(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    queryByte(c);
+                } else if (c < 0x800) {
+                    queryByte(0xc0 | (c >> 6));
+                    queryByte(0x80 | (c & 0x3f));
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    queryByte(0xf0 | (codePoint >> 18));
+                    queryByte(0x80 | ((codePoint >> 12) & 0x3f));
+                    queryByte(0x80 | ((codePoint >> 6) & 0x3f));
+                    queryByte(0x80 | (codePoint & 0x3f));
+                } else {
+                    queryByte(0xe0 | (c >> 12));
+                    queryByte(0x80 | ((c >> 6) & 0x3f));
+                    queryByte(0x80 | (c & 0x3f));
+                }
+            }
+        }
+
+        private void payloadAscii(String value) {
+            ensurePayload(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                payload[payloadLength++] = (byte) value.charAt(i);
+            }
+        }
+
+        /**
+         * access key는 영숫자지만 따옴표 / 역슬래시 / 제어 문자는 이스케이프, 비 ASCII는 \\uXXXX
+         */
+        private void payloadJsonString(String value) {
+            ensurePayload(2 + value.length() * 6);
+            payload[payloadLength++] = '"';
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    payload[payloadLength++] = '\\';
+                    payload[payloadLength++] = (byte) c;
+                } else if (c < 0x20 || c >= 0x7f) {
+                    payload[payloadLength++] = '\\';
+                    payload[payloadLength++] = 'u';
+                    for (int shift = 12; shift >= 0; shift -= 4) {
+                        payload[payloadLength++] = HEX[(c >> shift) & 0xf];
+                    }
+                } else {
+                    payload[payloadLength++] = (byte) c;
+                }
+            }
+            payload[payloadLength++] = '"';
+        }
+
+        private void payloadHex(long value) {
+            for (int shift = 60; shift >= 0; shift -= 4) {
+                payload[payloadLength++] = HEX[(int) (value >>> shift) & 0xf];
+            }
+        }
+
+        private void ensurePayload(int extra) {
+            if (payloadLength + extra > payload.length) {
+                payload = Arrays.copyOf(payload, Math.max(payload.length * 2, payloadLength + extra));
+            }
+        }
+
+        private void ensureToken(int length) {
+            if (length > token.length) token = Arrays.copyOf(token, Math.max(token.length * 2, length));
+        }
+    }
+
+    private static void finish(MessageDigest digest, byte[] into) {
+        try {
+            digest.digest(into, 0, into.length);
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static MessageDigest digest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int base64UrlLength(int length) {
+        return (length * 4 + 2) / 3;
+    }
+
+    /**
+     * base64url (패딩 없음)으로 dst[offset]부터 기록, 기록 후 위치 반환
+     */
+    private static int encodeBase64Url(byte[] src, int length, byte[] dst, int offset) {
+        int i = 0;
+        for (; i + 3 <= length; i += 3) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+            dst[offset++] = BASE64_URL[bits >>> 18];
+            dst[offset++] = BASE64_URL[(bits >>> 12) & 0x3f];
+            dst[offset++] = BASE64_URL[(bits >>> 6) & 0x3f];
+            dst[offset++] = BASE64_URL[bits & 0x3f];
+        }
+        int remaining = length - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xff) << 16;
+            dst[offset++] = BASE64_URL[bits >>> 18];
+            dst[offset++] = BASE64_URL[(bits >>> 12) & 0x3f];
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8;
+            dst[offset++] = BASE64_URL[bits >>> 18];
+            dst[offset++] = BASE64_URL[(bits >>> 12) & 0x3f];
+            dst[offset++] = BASE64_URL[(bits >>> 6) & 0x3f];
+        }
+        return offset;
+    }
+
+    private static byte[] base64Url(byte[] src) {
+        byte[] dst = new byte[base64UrlLength(src.length)];
+        encodeBase64Url(src, src.length, dst, 0);
+        return dst;
+    }
+
+    private static void appendJsonString(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') out.append('\\').append(c);
+            else if (c < 0x20) out.append(String.format("\\u%04x", (int) c));
+            else out.append(c);
+        }
+        out.append('"');
+    }
+}
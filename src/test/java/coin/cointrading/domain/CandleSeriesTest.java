@@ -0,0 +1,51 @@
+package coin.cointrading.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CandleSeriesTest {
+
+    private static final long DAY = 86_400;
+
+    @Test
+    void range_slicesByBinarySearchWithoutCopying() {
+        // given - 초기 용량보다 많이 추가해 배열 교체가 일어나도록
+        CandleSeries series = new CandleSeries(4);
+        for (int day = 0; day < 10; day++) {
+            series.append(day * DAY, day, day + 1, day - 1, day + 0.5, 10);
+        }
+        CandleSeries.View before = series.last(3);
+
+        // when
+        CandleSeries.View range = series.range(3 * DAY, 6 * DAY);
+        series.append(10 * DAY, 10, 11, 9, 10.5, 10);
+
+        // then
+        assertThat(range.size()).isEqualTo(3);
+        assertThat(range.time(0)).isEqualTo(3 * DAY);
+        assertThat(range.close(2)).isEqualTo(5.5);
+        assertThat(range.range(4 * DAY + 1, 100 * DAY).time(0)).isEqualTo(5 * DAY);
+        assertThat(before.size()).isEqualTo(3); // 이후 추가분은 기존 뷰에 보이지 않음
+        assertThat(before.time(2)).isEqualTo(9 * DAY);
+        assertThat(series.size()).isEqualTo(11);
+    }
+
+    @Test
+    void append_updatesInProgressCandleAndRejectsOlderTime() {
+        // given
+        CandleSeries series = new CandleSeries();
+        series.append(DAY, 100, 110, 90, 105, 1);
+        series.append(2 * DAY, 105, 106, 104, 105, 1);
+
+        // when
+        series.append(2 * DAY, 105, 120, 100, 118, 3);
+
+        // then
+        assertThat(series.size()).isEqualTo(2);
+        assertThat(series.view().high(1)).isEqualTo(120);
+        assertThat(series.view().kstDay(0)).isEqualTo("1970-01-02");
+        assertThatThrownBy(() -> series.append(0, 1, 1, 1, 1, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,83 @@
+package coin.cointrading.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarketStateStoreTest {
+
+    private final MarketStateStore store = new MarketStateStore();
+
+    @Test
+    void emptyStore_hasNoPriceOrTarget() {
+        // when
+        MarketStateStore.Snapshot snapshot = store.snapshot(Coin.BTC);
+
+        // then
+        assertThat(store.hasPrice(Coin.BTC)).isFalse();
+        assertThat(Double.isNaN(store.price(Coin.BTC))).isTrue();
+        assertThat(snapshot.hasTarget()).isFalse();
+        assertThat(snapshot.isTradedToday()).isFalse();
+    }
+
+    @Test
+    void resetDay_setsTargetAndClearsFlags() {
+        // given
+        store.resetDay(Coin.ETH, 1000d);
+        store.setTradedToday(Coin.ETH, true);
+        store.setStoppedToday(Coin.ETH, true);
+
+        // when
+        store.resetDay(Coin.ETH, 2000d);
+
+        // then
+        MarketStateStore.Snapshot snapshot = store.snapshot(Coin.ETH);
+        assertThat(snapshot.getTargetPrice()).isEqualTo(2000d);
+        assertThat(snapshot.isTradedToday()).isFalse();
+        assertThat(snapshot.isStoppedToday()).isFalse();
+        assertThat(store.tradedToday(Coin.BTC)).isFalse();
+    }
+
+    @Test
+    void updatePrice_isPerCoin() {
+        // when
+        store.updatePrice(Coin.XRP, 3000d);
+
+        // then
+        assertThat(store.price(Coin.XRP)).isEqualTo(3000d);
+        assertThat(store.priceUpdatedAt(Coin.XRP)).isPositive();
+        assertThat(store.hasPrice(Coin.BTC)).isFalse();
+    }
+
+    @Test
+    void read_neverSeesTornTargetAndFlags() throws InterruptedException {
+        // given - 목표가 1은 항상 매수 전, 목표가 2는 항상 매수 후 상태로만 기록
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> torn = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            while (running.get()) {
+                store.resetDay(Coin.BTC, 1d);
+                store.resetDay(Coin.BTC, 2d);
+                store.setTradedToday(Coin.BTC, true);
+            }
+        });
+
+        // when
+        writer.start();
+        MarketStateStore.Snapshot snapshot = new MarketStateStore.Snapshot();
+        for (int i = 0; i < 200_000 && torn.get() == null; i++) {
+            store.read(Coin.BTC, snapshot);
+            if (snapshot.getTargetPrice() == 1d && snapshot.isTradedToday()) {
+                torn.set("target=1, traded=true @ version " + snapshot.getVersion());
+            }
+        }
+        running.set(false);
+        writer.join();
+
+        // then
+        assertThat(torn.get()).isNull();
+    }
+}
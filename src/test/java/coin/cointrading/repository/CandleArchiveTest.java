@@ -0,0 +1,68 @@
+package coin.cointrading.repository;
+
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
+import coin.cointrading.domain.Coin;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CandleArchiveTest {
+
+    private static final long DAY = 86_400;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void save_appendsOnlyNewerCandlesAndLoadsThemBack() throws IOException {
+        // given
+        CandleArchive archive = new CandleArchive(directory.toString());
+        archive.save(Coin.BTC, CandleInterval.DAY, series(1, 5).view());
+
+        // when - 4~7일 전달, 겹치는 4~5일은 다시 쓰지 않음
+        archive.save(Coin.BTC, CandleInterval.DAY, series(4, 7).view());
+        CandleSeries loaded = archive.load(Coin.BTC, CandleInterval.DAY);
+
+        // then
+        assertThat(loaded.size()).isEqualTo(7);
+        assertThat(loaded.view().time(0)).isEqualTo(DAY);
+        assertThat(loaded.view().close(6)).isEqualTo(7.5);
+        assertThat(archive.load(Coin.ETH, CandleInterval.DAY).size()).isZero();
+    }
+
+    @Test
+    void save_rewritesWhenOlderHistoryArrivesAndSkipsTornRecord() throws IOException {
+        // given - 마지막 레코드가 기록 도중 끊긴 파일
+        CandleArchive archive = new CandleArchive(directory.toString());
+        archive.save(Coin.XRP, CandleInterval.MINUTE_1, series(5, 6).view());
+        Path file = directory.resolve("KRW-XRP.minute_1.candles");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(CandleArchive.HEADER_BYTES + CandleArchive.RECORD_BYTES + 20);
+        }
+        assertThat(archive.load(Coin.XRP, CandleInterval.MINUTE_1).size()).isEqualTo(1);
+
+        // when
+        archive.save(Coin.XRP, CandleInterval.MINUTE_1, series(1, 6).view());
+
+        // then
+        CandleSeries loaded = archive.load(Coin.XRP, CandleInterval.MINUTE_1);
+        assertThat(loaded.size()).isEqualTo(6);
+        assertThat(loaded.view().time(0)).isEqualTo(DAY);
+        assertThat(loaded.view().time(5)).isEqualTo(6 * DAY);
+    }
+
+    private CandleSeries series(int fromDay, int toDay) {
+        CandleSeries series = new CandleSeries();
+        for (int day = fromDay; day <= toDay; day++) {
+            series.append(day * DAY, day, day + 1, day - 1, day + 0.5, 10);
+        }
+        return series;
+    }
+}
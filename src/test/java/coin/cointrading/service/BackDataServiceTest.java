@@ -0,0 +1,101 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.BackData;
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.repository.BackDataRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BackDataServiceTest {
+
+    @Mock
+    private BackDataRepository backDataRepository;
+    @Mock
+    private CandleStore candleStore;
+    @Mock
+    private ExecutorService executor;
+
+    private ConcurrentHashMap<Coin, List<BackData>> backDataMap;
+    private BackDataService backDataService;
+
+    @BeforeEach
+    void setUp() {
+        backDataMap = new ConcurrentHashMap<>();
+        backDataService = new BackDataService(backDataRepository, candleStore, backDataMap, executor, new ReturnRateAggregates());
+    }
+
+    @Test
+    void ingest_insertsOnlyMissingDaysInOneBatch() {
+        // given - 시간순 캔들 6일, 2025-01-03만 저장되지 않은 상태
+        CandleSeries candles = new CandleSeries();
+        append(candles, "2025-01-01", 100, 110, 90);
+        append(candles, "2025-01-02", 100, 110, 90);
+        append(candles, "2025-01-03", 120, 130, 100);
+        append(candles, "2025-01-04", 100, 110, 90);
+        append(candles, "2025-01-05", 100, 110, 90);
+        append(candles, "2025-01-06", 100, 110, 90);
+        when(backDataRepository.findDaysBetween(eq("BTC"), anyString(), anyString()))
+                .thenReturn(List.of("2025-01-06", "2025-01-05", "2025-01-04", "2025-01-02"));
+        BackData cached = new BackData("2025-01-02", "BTC", "O", 1.0);
+        backDataMap.put(Coin.BTC, new ArrayList<>(List.of(cached)));
+
+        // when
+        int added = backDataService.ingest(Coin.BTC, candles.view());
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BackData>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(backDataRepository).insertAll(inserted.capture());
+        assertThat(added).isEqualTo(1);
+        assertThat(inserted.getValue()).extracting(BackData::getDay).containsExactly("2025-01-03");
+        assertThat(inserted.getValue().get(0).getTradingStatus()).isEqualTo("O"); // 고가 130 >= 목표가 110
+
+        assertThat(backDataMap.get(Coin.BTC)).extracting(BackData::getDay).containsExactly("2025-01-03", "2025-01-02");
+    }
+
+    @Test
+    void warmUp_marksCoinReadyEvenWhenUpbitFails() throws IOException {
+        // given
+        when(backDataRepository.findLatestData(any(), eq("ETH"))).thenReturn(List.of());
+        when(candleStore.load(Coin.ETH, CandleInterval.DAY, 200)).thenThrow(new IOException("timeout"));
+        when(candleStore.series(Coin.ETH, CandleInterval.DAY)).thenReturn(new CandleSeries()); // 로컬 보관 캔들 없음
+        BackData saved = new BackData("2025-01-02", "ETH", "O", 1.0);
+        when(backDataRepository.findByCoinAndTradingStatusOrderByDayDesc("ETH", "O")).thenReturn(List.of(saved));
+        assertThat(backDataService.isReady(Coin.ETH)).isFalse();
+
+        // when
+        backDataService.warmUp(Coin.ETH);
+
+        // then
+        assertThat(backDataService.isReady(Coin.ETH)).isTrue();
+        assertThat(backDataService.isReady(Coin.BTC)).isFalse();
+        assertThat(backDataMap.get(Coin.ETH)).containsExactly(saved);
+    }
+
+    private void append(CandleSeries candles, String day, double tradePrice, double highPrice, double lowPrice) {
+        long time = LocalDate.parse(day).atStartOfDay().toEpochSecond(ZoneOffset.UTC); // KST 09:00
+        candles.append(time, tradePrice, highPrice, lowPrice, tradePrice, 1);
+    }
+}
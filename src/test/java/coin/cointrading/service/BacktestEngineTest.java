@@ -0,0 +1,52 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.BacktestParams;
+import coin.cointrading.dto.BacktestResult;
+import coin.cointrading.dto.BacktestTrade;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class BacktestEngineTest {
+
+    private static final long DAY = 86_400;
+    private static final long HOUR = 3_600;
+
+    @Test
+    void run_replaysBreakoutStopLossAndCloseWithFees() {
+        // given - 1일차: 목표가 110 돌파 후 장 종료 매도, 2일차: 목표가 123.5 돌파 후 손절가 117.325 이탈
+        CandleSeries candles = new CandleSeries();
+        candles.append(0, 100, 110, 90, 100, 1);
+        candles.append(DAY, 100, 105, 99, 104, 1);
+        candles.append(DAY + HOUR, 104, 112, 106, 111, 1);
+        candles.append(2 * DAY - 60, 114, 116, 113, 115, 1); // 08:59 캔들
+        candles.append(2 * DAY, 120, 124, 121, 123, 1);
+        candles.append(2 * DAY + HOUR, 119, 119, 110, 112, 1);
+        candles.append(2 * DAY + 2 * HOUR, 112, 130, 112, 129, 1); // 손절 후 재매수 없음
+
+        // when
+        BacktestResult result = BacktestEngine.run(Coin.BTC, CandleInterval.MINUTE_1, candles.view(), BacktestParams.LIVE);
+
+        // then
+        assertThat(result.trades()).extracting(BacktestTrade::exit)
+                .containsExactly(BacktestTrade.Exit.CLOSE, BacktestTrade.Exit.STOP);
+        BacktestTrade close = result.trades().get(0);
+        assertThat(close.day()).isEqualTo("1970-01-02");
+        assertThat(close.entryPrice()).isEqualTo(110);
+        assertThat(close.exitPrice()).isEqualTo(115);
+        BacktestTrade stop = result.trades().get(1);
+        assertThat(stop.entryPrice()).isEqualTo(123.5);
+        assertThat(stop.exitPrice()).isCloseTo(117.325, within(1e-9));
+
+        double equity = (115 * 0.9995) / (110 * 1.0005) * (117.325 * 0.9995) / (123.5 * 1.0005);
+        assertThat(result.totalReturn()).isCloseTo((equity - 1) * 100, within(1e-9));
+        assertThat(result.equityCurve()).extracting(BacktestResult.EquityPoint::day)
+                .containsExactly("1970-01-02", "1970-01-03");
+        assertThat(result.maxDrawdown()).isLessThan(0);
+        assertThat(result.winRate()).isEqualTo(50);
+    }
+}
@@ -0,0 +1,76 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.BacktestParams;
+import coin.cointrading.dto.BacktestResult;
+import coin.cointrading.exception.CustomException;
+import coin.cointrading.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BacktestServiceTest {
+
+    private static final long DAY = 86_400;
+
+    @Mock
+    private CandleStore candleStore;
+
+    @Test
+    void run_rejectsRangeOutsideStoredCandles() {
+        // given - 1분봉은 보관된 캔들 없음, 일봉은 2025-01-01 ~ 2025-01-10
+        BacktestService backtestService = new BacktestService(candleStore, Executors.newVirtualThreadPerTaskExecutor());
+        when(candleStore.series(Coin.BTC, CandleInterval.MINUTE_1)).thenReturn(new CandleSeries());
+        when(candleStore.series(Coin.BTC, CandleInterval.DAY)).thenReturn(days(LocalDate.of(2025, 1, 1), 10));
+
+        // when & then
+        assertThatThrownBy(() -> backtestService.run(Coin.BTC, CandleInterval.MINUTE_1,
+                LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 5), BacktestParams.LIVE))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.BACKTEST_CANDLE_NOT_COVERED));
+        assertThatThrownBy(() -> backtestService.run(Coin.BTC, CandleInterval.DAY,
+                LocalDate.of(2024, 12, 1), LocalDate.of(2025, 1, 5), BacktestParams.LIVE))
+                .hasMessageContaining("2025-01-01 ~ 2025-01-10");
+        assertThatThrownBy(() -> backtestService.run(Coin.BTC, CandleInterval.DAY, // 첫 거래일 전날 캔들 없음
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 5), BacktestParams.LIVE))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.BACKTEST_CANDLE_NOT_COVERED));
+        assertThatThrownBy(() -> backtestService.run(Coin.BTC, CandleInterval.DAY,
+                LocalDate.of(2025, 1, 5), LocalDate.of(2025, 1, 2), BacktestParams.LIVE))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.BACKTEST_INVALID_RANGE));
+    }
+
+    @Test
+    void run_readsStoredRange() {
+        // given
+        BacktestService backtestService = new BacktestService(candleStore, Executors.newVirtualThreadPerTaskExecutor());
+        when(candleStore.series(Coin.BTC, CandleInterval.DAY)).thenReturn(days(LocalDate.of(2025, 1, 1), 10));
+
+        // when - 종료일 당일 캔들은 아직 없어도 허용
+        BacktestResult result = backtestService.run(Coin.BTC, CandleInterval.DAY,
+                LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 11), BacktestParams.LIVE);
+
+        // then
+        assertThat(result.candles()).isEqualTo(10);
+    }
+
+    private CandleSeries days(LocalDate first, int count) {
+        CandleSeries series = new CandleSeries();
+        for (int i = 0; i < count; i++) {
+            series.append((first.toEpochDay() + i) * DAY, 100, 110, 90, 100, 1);
+        }
+        return series;
+    }
+}
@@ -0,0 +1,68 @@
+package coin.cointrading.service;
+
+import coin.cointrading.dto.AccountResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BalanceCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final BalanceCache balanceCache = new BalanceCache(meterRegistry, 30_000, now::get);
+
+    @Test
+    void getForOrder_countsHitStaleAndMiss() {
+        // given
+        List<AccountResponse> accounts = List.of(new AccountResponse("KRW", "1000000.0", "0.0", "0", false, "KRW"));
+        balanceCache.put("test", balanceCache.begin("test"), accounts);
+
+        // when
+        now.addAndGet(10_000);
+        boolean fresh = balanceCache.getForOrder("test").isPresent();
+        now.addAndGet(25_000);
+        boolean stale = balanceCache.getForOrder("test").isEmpty();
+        boolean missing = balanceCache.getForOrder("other").isEmpty();
+
+        // then
+        assertThat(fresh).isTrue();
+        assertThat(stale).isTrue();
+        assertThat(missing).isTrue();
+        assertThat(lookups("hit")).isEqualTo(1);
+        assertThat(lookups("stale")).isEqualTo(1);
+        assertThat(lookups("miss")).isEqualTo(1);
+        assertThat(meterRegistry.get("upbit.balance.cache.age").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void put_dropsLookupStartedBeforeEvict() {
+        // given
+        List<AccountResponse> before = List.of(new AccountResponse("KRW", "1000000.0", "0.0", "0", false, "KRW"));
+        List<AccountResponse> after = List.of(new AccountResponse("BTC", "0.01", "0.0", "100000000", false, "KRW"));
+        BalanceCache.Lookup stale = balanceCache.begin("test");
+
+        // when - 조회 중 주문 후 evict, 이후 늦게 도착한 응답
+        balanceCache.evict("test");
+        now.addAndGet(1_000);
+        balanceCache.put("test", stale, before);
+        boolean dropped = balanceCache.getForOrder("test").isEmpty();
+        BalanceCache.Lookup fresh = balanceCache.begin("test");
+        now.addAndGet(1_000);
+        balanceCache.put("test", fresh, after);
+        balanceCache.put("test", new BalanceCache.Lookup(fresh.generation(), fresh.startedAt() - 500), before); // 더 먼저 시작된 조회
+
+        // then - 스냅샷 시각은 조회 시작 시점
+        assertThat(dropped).isTrue();
+        assertThat(balanceCache.getForOrder("test")).contains(after);
+        now.addAndGet(29_500);
+        assertThat(balanceCache.getForOrder("test")).isEmpty();
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("upbit.balance.cache.lookups").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,125 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.repository.CandleArchive;
+import coin.cointrading.util.UpbitHttpClient;
+import coin.cointrading.util.UpbitRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.StringJoiner;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CandleBackfillTest {
+
+    private static final long LISTED_DAYS_AGO = 450;
+
+    @TempDir
+    Path directory;
+
+    private MockWebServer server;
+    private UpbitRateLimiter rateLimiter;
+    private CandleStore candleStore;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new CandleDispatcher());
+        server.start();
+        rateLimiter = new UpbitRateLimiter(new SimpleMeterRegistry(), 1_000, 1_000, 1_000);
+        UpbitHttpClient httpClient = new UpbitHttpClient(new OkHttpClient(), rateLimiter, new SimpleMeterRegistry(),
+                server.url("").toString().replaceAll("/$", ""));
+        candleStore = new CandleStore(httpClient, new CandleArchive(directory.toString()));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        rateLimiter.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    void fill_pagesBackToListingAndStopsAskingAfterwards() throws IOException {
+        // given - 일봉 3년 보관 설정, 450일 전 상장
+        CandleBackfill backfill = new CandleBackfill(candleStore, Executors.newVirtualThreadPerTaskExecutor(), true, 3, 1, 0);
+
+        // when
+        backfill.fill(Coin.BTC, CandleInterval.DAY);
+        int requests = server.getRequestCount();
+        backfill.fill(Coin.BTC, CandleInterval.DAY);
+
+        // then - 상장일부터 오늘까지, 보관 파일에도 마감된 캔들 저장
+        CandleSeries.View candles = candleStore.series(Coin.BTC, CandleInterval.DAY).view();
+        assertThat(candles.size()).isEqualTo(LISTED_DAYS_AGO + 1);
+        assertThat(candles.time(0)).isEqualTo(today() - LISTED_DAYS_AGO * 86_400);
+        assertThat(new CandleArchive(directory.toString()).load(Coin.BTC, CandleInterval.DAY).size()).isEqualTo(LISTED_DAYS_AGO);
+        assertThat(server.getRequestCount() - requests).isEqualTo(1); // 두 번째 실행은 최신 분량만
+    }
+
+    @Test
+    void fill_keepsMinuteHistoryWithinHorizon() throws IOException {
+        // given - 1분봉 1일 보관 설정
+        CandleBackfill backfill = new CandleBackfill(candleStore, Executors.newVirtualThreadPerTaskExecutor(), true, 3, 1, 0);
+
+        // when
+        backfill.fill(Coin.ETH, CandleInterval.MINUTE_1);
+
+        // then
+        CandleSeries.View candles = candleStore.series(Coin.ETH, CandleInterval.MINUTE_1).view();
+        long horizon = today() - 86_400;
+        assertThat(candles.time(0)).isLessThanOrEqualTo(horizon).isGreaterThan(horizon - 200 * 60);
+        for (int i = 1; i < candles.size(); i++) {
+            assertThat(candles.time(i) - candles.time(i - 1)).isEqualTo(60);
+        }
+    }
+
+    private static long today() {
+        return Instant.now().getEpochSecond() / 86_400 * 86_400;
+    }
+
+    /**
+     * to 이전(없으면 현재까지) 캔들을 최신순으로 count개, 상장 시점 이전은 없음
+     */
+    private static class CandleDispatcher extends Dispatcher {
+        @NotNull
+        @Override
+        public MockResponse dispatch(@NotNull RecordedRequest request) {
+            HttpUrl url = request.getRequestUrl();
+            long step = url.encodedPath().contains("minutes") ? 60 : 86_400;
+            long listedAt = today() - LISTED_DAYS_AGO * 86_400;
+            String to = url.queryParameter("to");
+            long before = to == null ? Instant.now().getEpochSecond() + 1
+                    : LocalDateTime.parse(to.substring(0, to.length() - 1)).toEpochSecond(ZoneOffset.UTC);
+            long time = (before - 1) / step * step;
+
+            StringJoiner body = new StringJoiner(",", "[", "]");
+            for (int i = 0; i < Integer.parseInt(url.queryParameter("count")) && time >= listedAt; i++, time -= step) {
+                String utc = LocalDateTime.ofEpochSecond(time, 0, ZoneOffset.UTC).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+                body.add("""
+                        {"candle_date_time_utc":"%s","opening_price":1,"high_price":2,"low_price":0.5,"trade_price":1.5,\
+                        "candle_acc_trade_volume":3}""".formatted(utc));
+            }
+            return new MockResponse().setHeader("Content-Type", "application/json").setBody(body.toString());
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.AuthUser;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.domain.MarketStateStore;
+import coin.cointrading.domain.Role;
+import coin.cointrading.domain.User;
+import coin.cointrading.dto.AccountResponse;
+import coin.cointrading.dto.OrderResponse;
+import coin.cointrading.dto.PriceTickEvent;
+import coin.cointrading.dto.TradingStatus;
+import coin.cointrading.repository.UserRepository;
+import coin.cointrading.util.UpbitCredentialCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 목표가 돌파 시점부터 마지막 유저의 주문 전송까지 걸리는 시간 측정
+ * 업비트는 요청당 고정 지연을 주는 로컬 스텁으로 대체 (./gradlew benchmark)
+ */
+@Tag("benchmark")
+class OrderFanOutBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderFanOutBenchmarkTest.class);
+
+    private static final long UPBIT_LATENCY_MILLIS = 20; // 요청 1회 왕복 시간
+    private static final int MAX_CONCURRENT_REQUESTS = 30;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1000})
+    void breakoutToLastOrder(int users) throws Exception {
+        int runs = users >= 1000 ? 10 : 30;
+        report("fixed pool(10)", users, measure(users, runs, () -> Executors.newFixedThreadPool(10)));
+        long[] virtual = report("virtual thread", users, measure(users, runs, Executors::newVirtualThreadPerTaskExecutor));
+
+        // 동시 요청 한도만큼씩 (계좌 조회 + 주문) 왕복을 이어 보내는 시간의 1.5배 + 100ms 이내
+        long rounds = (users + MAX_CONCURRENT_REQUESTS - 1) / MAX_CONCURRENT_REQUESTS;
+        long boundMillis = rounds * 2 * UPBIT_LATENCY_MILLIS * 3 / 2 + 100;
+        assertThat(percentile(virtual, 99) / 1_000_000).isLessThanOrEqualTo(boundMillis);
+    }
+
+    private long[] measure(int users, int runs, Supplier<ExecutorService> executorFactory) throws Exception {
+        long[] samples = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            try (ExecutorService executor = executorFactory.get()) {
+                samples[run] = breakoutOnce(users, executor);
+            }
+        }
+        return samples;
+    }
+
+    private long breakoutOnce(int users, ExecutorService executor) throws Exception {
+        ConcurrentHashMap<String, TradingStatus> userStatusMap = new ConcurrentHashMap<>();
+        ConcurrentHashMap<String, AuthUser> userAuthMap = new ConcurrentHashMap<>();
+        ConcurrentHashMap<String, User> userSessionMap = new ConcurrentHashMap<>();
+        Set<String> runningUser = ConcurrentHashMap.newKeySet();
+        MarketStateStore marketStateStore = new MarketStateStore();
+        marketStateStore.resetDay(Coin.BTC, 100d);
+
+        for (int i = 0; i < users; i++) {
+            String userId = "user" + i;
+            TradingStatus status = new TradingStatus(Coin.BTC);
+            status.getOpMode().set(true);
+            userStatusMap.put(userId, status);
+            userAuthMap.put(userId, new AuthUser(userId, userId, Role.USER));
+            userSessionMap.put(userId, new User(userId, "password", "nickName", "secretKey", "accessKey", Role.USER));
+            runningUser.add(userId);
+        }
+
+        StubUpbitService upbitService = new StubUpbitService();
+        TradingService tradingService = new TradingService(
+                userStatusMap,
+                userAuthMap,
+                userSessionMap,
+                runningUser,
+                new SchedulerControlService(),
+                upbitService,
+                marketStateStore,
+                executor,
+                new Semaphore(MAX_CONCURRENT_REQUESTS, true),
+                mock(UserRepository.class),
+                mock(TradeHistoryService.class),
+                mock(UpbitCredentialCache.class),
+                mock(BalanceCache.class),
+                mock(TradingSessionJournal.class),
+                new TradingMetrics(new SimpleMeterRegistry(), new Semaphore(1)),
+                new OrderTraceRecorder(users)
+        );
+
+        long breakoutAt = System.nanoTime();
+        tradingService.onPriceTick(new PriceTickEvent(Coin.BTC, 100d));
+        // 주문이 하나라도 실패하면 완료 표시가 남지 않으므로 제한 시간 후 실패 (측정값은 스텁의 마지막 주문 시각)
+        await().atMost(Duration.ofSeconds(30)).pollInterval(Duration.ofMillis(5))
+                .until(() -> marketStateStore.tradedToday(Coin.BTC));
+
+        assertThat(upbitService.orders.get()).as("주문 누락").isEqualTo(users);
+        return upbitService.lastOrderSentAt.get() - breakoutAt;
+    }
+
+    private long[] report(String mode, int users, long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        log.info("[fan-out] {} users={} runs={} p50={}ms p99={}ms",
+                mode, users, samples.length, percentile(sorted, 50) / 1_000_000, percentile(sorted, 99) / 1_000_000);
+        return sorted;
+    }
+
+    private long percentile(long[] sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    /**
+     * 계좌 조회 + 주문 전송을 각각 고정 지연 후 완료되는 future로 흉내내는 업비트 스텁
+     */
+    private static class StubUpbitService implements UpbitService {
+        private static final Executor UPBIT = CompletableFuture.delayedExecutor(UPBIT_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+
+        private final AtomicInteger orders = new AtomicInteger();
+        private final AtomicLong lastOrderSentAt = new AtomicLong();
+
+        @Override
+        public CompletableFuture<List<AccountResponse>> getAccount(User requestUser) {
+            return CompletableFuture.supplyAsync(List::of, UPBIT);
+        }
+
+        @Override
+        public CompletableFuture<OrderResponse> orderCoins(String decision, User requestUser, Coin selectCoin) {
+            return getAccount(requestUser).thenCompose(account -> {
+                lastOrderSentAt.accumulateAndGet(System.nanoTime(), Math::max);
+                orders.incrementAndGet();
+                return CompletableFuture.supplyAsync(
+                        () -> new OrderResponse(selectCoin.getMarketCode(), "bid", "100", null, "1", "100"), UPBIT);
+            });
+        }
+
+        @Override
+        public CompletableFuture<List<Map<String, Object>>> getOrders(User requestUser, int count, Coin selectCoin) {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
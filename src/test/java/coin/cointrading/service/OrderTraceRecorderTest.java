@@ -0,0 +1,37 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.OrderTraceReport;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderTraceRecorderTest {
+
+    @Test
+    void report_keepsLatestTracesAndIgnoresMarksOnOverwrittenSlots() {
+        // given - 4칸 버퍼에 6건 기록
+        OrderTraceRecorder recorder = new OrderTraceRecorder(4);
+        OrderTrace first = recorder.begin(Coin.BTC, TradingMetrics.OrderKind.BUY, 0, 1_000);
+        OrderTrace last = null;
+        for (int i = 1; i < 6; i++) {
+            last = recorder.begin(Coin.ETH, TradingMetrics.OrderKind.STOP, i * 10_000L, i * 10_000L + 2_000);
+        }
+
+        // when
+        first.mark(OrderTrace.Stage.DONE); // 덮어쓴 기록
+        last.mark(OrderTrace.Stage.PERMIT);
+        last.mark(OrderTrace.Stage.DONE);
+        OrderTraceReport report = recorder.report(2);
+
+        // then
+        assertThat(report.capacity()).isEqualTo(4);
+        assertThat(report.recorded()).isEqualTo(6);
+        assertThat(report.traces()).extracting(OrderTraceReport.Trace::sequence).containsExactly(5L, 4L);
+        assertThat(report.traces().get(0).stages()).containsOnlyKeys("DETECT", "PERMIT", "DONE");
+        assertThat(report.traces().get(0).stages().get("DETECT")).isEqualTo(2.0);
+        assertThat(report.traces().get(1).stages()).containsOnlyKeys("DETECT");
+        assertThat(report.stages().get("DETECT").count()).isEqualTo(4);
+        assertThat(report.stages().get("TOTAL").count()).isEqualTo(1);
+    }
+}
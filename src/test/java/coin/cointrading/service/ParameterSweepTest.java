@@ -0,0 +1,94 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.BacktestParams;
+import coin.cointrading.dto.BacktestResult;
+import coin.cointrading.dto.SweepRequest;
+import coin.cointrading.exception.CustomException;
+import coin.cointrading.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParameterSweepTest {
+
+    @Test
+    void run_matchesSequentialBacktestForEveryCombination() {
+        // given - 코인별 200일 일봉, 기본 격자 9 x 10
+        Map<Coin, CandleSeries.View> candles = new EnumMap<>(Coin.class);
+        SplittableRandom random = new SplittableRandom(7);
+        for (Coin coin : Coin.values()) {
+            CandleSeries series = new CandleSeries();
+            double price = 100;
+            for (int day = 0; day < 200; day++) {
+                double next = price * (1 + (random.nextDouble() - 0.5) * 0.1);
+                series.append(day * 86_400L, price, Math.max(price, next) * 1.02, Math.min(price, next) * 0.98, next, 1);
+                price = next;
+            }
+            candles.put(coin, series.view());
+        }
+        List<BacktestParams> grid = SweepService.grid(new SweepRequest());
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        // when
+        List<BacktestResult> results = ParameterSweep.run(pool, CandleInterval.DAY, candles, grid);
+        pool.shutdown();
+
+        // then
+        assertThat(grid).hasSize(90);
+        assertThat(grid.get(0).k()).isEqualTo(0.1);
+        assertThat(grid.get(89)).extracting(BacktestParams::k, BacktestParams::stopRatio).containsExactly(0.9, 0.99);
+        assertThat(results).hasSize(Coin.values().length * grid.size());
+        for (int i = 0; i < results.size(); i++) {
+            Coin coin = Coin.values()[i / grid.size()];
+            BacktestResult expected = BacktestEngine.run(coin, CandleInterval.DAY, candles.get(coin), grid.get(i % grid.size()));
+            assertThat(results.get(i).coin()).isEqualTo(coin);
+            assertThat(results.get(i).totalReturn()).isEqualTo(expected.totalReturn());
+            assertThat(results.get(i).sharpe()).isEqualTo(expected.sharpe());
+            assertThat(results.get(i).tradeCount()).isEqualTo(expected.trades().size());
+        }
+    }
+
+    @Test
+    void grid_rejectsInvalidRanges() {
+        // given - 간격 0, 최소 > 최대, 손절 비율 1 이상, 조합 수 초과
+        List<SweepRequest> requests = List.of(
+                request(0.1, 0.9, 0, 0.9, 0.99, 0.01),
+                request(0.9, 0.1, 0.1, 0.9, 0.99, 0.01),
+                request(0.1, 0.9, 0.1, 0.9, 1.2, 0.01),
+                request(0.1, 0.9, 0.1, 0.9, 0.99, -0.01),
+                request(0, 1, 1e-300, 0.9, 0.99, 0.01),
+                request(0, 1, 0.001, 0.5, 0.99, 0.001));
+
+        // when & then
+        for (SweepRequest request : requests) {
+            assertThatThrownBy(() -> SweepService.grid(request))
+                    .isInstanceOfSatisfying(CustomException.class,
+                            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SWEEP_INVALID_REQUEST));
+        }
+    }
+
+    @Test
+    void grid_staysWithinMaximum() {
+        // when - 간격으로 나누어떨어지지 않는 범위
+        List<BacktestParams> grid = SweepService.grid(request(0.1, 0.55, 0.1, 0.9, 0.95, 0.02));
+
+        // then
+        assertThat(grid).extracting(BacktestParams::k).containsOnly(0.1, 0.2, 0.3, 0.4, 0.5);
+        assertThat(grid).extracting(BacktestParams::stopRatio).containsOnly(0.9, 0.92, 0.94);
+        assertThat(grid).hasSize(15);
+    }
+
+    private SweepRequest request(double minK, double maxK, double stepK, double minStop, double maxStop, double stepStop) {
+        return new SweepRequest(CandleInterval.DAY, null, null, minK, maxK, stepK, minStop, maxStop, stepStop);
+    }
+}
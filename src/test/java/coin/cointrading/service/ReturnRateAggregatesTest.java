@@ -0,0 +1,81 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.BackData;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.ReturnRateResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ReturnRateAggregatesTest {
+
+    private final ReturnRateAggregates aggregates = new ReturnRateAggregates();
+
+    @Test
+    void add_appendsNewDaysAndChangesEtag() {
+        // given
+        aggregates.replace(Coin.BTC, List.of(
+                backData("2025-01-02", -5.0),
+                backData("2025-01-01", 10.0)));
+        ReturnRateResponse before = aggregates.get(Coin.BTC, 7);
+        String etag = aggregates.etag(Coin.BTC, 7);
+
+        // when
+        BackData added = backData("2025-01-03", 2.0);
+        aggregates.add(Coin.BTC, List.of(added), List.of(added, backData("2025-01-02", -5.0), backData("2025-01-01", 10.0)));
+
+        // then
+        ReturnRateResponse.Summary lastTwo = aggregates.get(Coin.BTC, 2).summary();
+        assertThat(lastTwo.tradedDays()).isEqualTo(2);
+        assertThat(lastTwo.fromDay()).isEqualTo("2025-01-02");
+        assertThat(lastTwo.cumulativeReturn()).isCloseTo((0.95 * 1.02 - 1) * 100, within(1e-9));
+        assertThat(lastTwo.winRate()).isEqualTo(50);
+        assertThat(lastTwo.averageReturn()).isCloseTo(-1.5, within(1e-9));
+
+        ReturnRateResponse all = aggregates.get(Coin.BTC, 7);
+        assertThat(all.summary().tradedDays()).isEqualTo(3);
+        assertThat(all.rows()).extracting(ReturnRateResponse.Row::day).containsExactly("2025-01-03", "2025-01-02", "2025-01-01");
+        assertThat(all.windows().get(30).cumulativeReturn()).isCloseTo((1.1 * 0.95 * 1.02 - 1) * 100, within(1e-9));
+        assertThat(before.rows()).hasSize(2); // 이전 응답은 이전 스냅샷 그대로
+        assertThat(aggregates.etag(Coin.BTC, 7)).isNotEqualTo(etag);
+        assertThat(aggregates.get(Coin.ETH, 7).summary().tradedDays()).isZero();
+    }
+
+    @Test
+    void add_rebuildsWhenOlderDayArrives() {
+        // given
+        aggregates.replace(Coin.XRP, List.of(backData("2025-01-03", 1.0)));
+
+        // when
+        BackData older = backData("2025-01-01", 3.0);
+        aggregates.add(Coin.XRP, List.of(older), List.of(backData("2025-01-03", 1.0), older));
+
+        // then
+        assertThat(aggregates.get(Coin.XRP, 7).rows()).extracting(ReturnRateResponse.Row::day)
+                .containsExactly("2025-01-03", "2025-01-01");
+    }
+
+    @Test
+    void etag_dependsOnlyOnContent() {
+        // given - 재기동한 다른 인스턴스에 같은 데이터
+        ReturnRateAggregates restarted = new ReturnRateAggregates();
+        aggregates.replace(Coin.BTC, List.of(backData("2025-01-01", 10.0), backData("2025-01-02", -5.0)));
+        aggregates.replace(Coin.BTC, List.of(backData("2025-01-01", 10.0), backData("2025-01-02", -5.0)));
+        restarted.replace(Coin.BTC, List.of(backData("2025-01-02", -5.0), backData("2025-01-01", 10.0)));
+        String etag = aggregates.etag(Coin.BTC, 7);
+
+        // when - 같은 날짜 수 / 마지막 날짜에 수익률만 다른 데이터
+        restarted.replace(Coin.ETH, List.of(backData("2025-01-01", 10.0), backData("2025-01-02", -4.0)));
+
+        // then
+        assertThat(restarted.etag(Coin.BTC, 7)).isEqualTo(etag);
+        assertThat(restarted.etag(Coin.ETH, 7)).isNotEqualTo(etag.replace("BTC", "ETH"));
+    }
+
+    private BackData backData(String day, double returnRate) {
+        return new BackData(day, "BTC", "O", returnRate);
+    }
+}
@@ -0,0 +1,144 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.Role;
+import coin.cointrading.domain.TradeInfo;
+import coin.cointrading.domain.TradeMonthlySummary;
+import coin.cointrading.domain.User;
+import coin.cointrading.dto.TradeHistoryResponse;
+import coin.cointrading.dto.TradeInfoResponse;
+import coin.cointrading.dto.TradeSummaryResponse;
+import coin.cointrading.exception.CustomException;
+import coin.cointrading.repository.TradeMonthlySummaryRepository;
+import coin.cointrading.repository.TradeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TradeHistoryServiceTest {
+
+    @Mock
+    private TradeRepository tradeRepository;
+    @Mock
+    private TradeMonthlySummaryRepository summaryRepository;
+
+    private TradeHistoryService tradeHistoryService;
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        tradeHistoryService = new TradeHistoryService(tradeRepository, summaryRepository);
+        user = new User("test", "password", "nickName", "secretKey", "accessKey", Role.USER);
+    }
+
+    @Test
+    void getTrades_returnsCursorOfLastRowWhenMoreRowsExist() {
+        // given - 2건 요청, 다음 페이지 확인용 1건 추가 조회
+        when(tradeRepository.findBefore(eq(user), eq(LocalDate.parse("2025-01-05")), eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(
+                        trade(9L, "2025-01-05", 100_000, 102_000),
+                        trade(7L, "2025-01-04", 102_000, 99_000),
+                        trade(6L, "2025-01-04", 99_000, 99_500)));
+
+        // when
+        TradeHistoryResponse response = tradeHistoryService.getTrades(user, "2025-01-05_10", 2);
+
+        // then
+        assertThat(response.trades()).extracting(TradeInfoResponse::getTradingDay).containsExactly("2025-01-05", "2025-01-04");
+        assertThat(response.nextCursor()).isEqualTo("2025-01-04_7");
+        assertThatThrownBy(() -> tradeHistoryService.getTrades(user, "2025-01-05", 2)).isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    void getSummary_backfillsMonthlyRowsFromTradeHistory() {
+        // given
+        when(summaryRepository.findByUserOrderByTradeMonthDesc(user)).thenReturn(List.of());
+        when(tradeRepository.existsByUser(user)).thenReturn(true);
+        when(tradeRepository.findLatest(eq(user), any(Pageable.class))).thenReturn(List.of(
+                trade(3L, "2025-02-01", 110_000, 99_000),
+                trade(2L, "2025-01-31", 100_000, 110_000),
+                trade(1L, "2025-01-02", 100_000, 100_000)));
+        when(summaryRepository.saveAll(any())).thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+
+        // when
+        TradeSummaryResponse summary = tradeHistoryService.getSummary(user);
+
+        // then
+        assertThat(summary.trades()).isEqualTo(3);
+        assertThat(summary.totalPnl()).isEqualTo(-1_000);
+        assertThat(summary.compoundReturn()).isCloseTo((1.1 * 0.9 - 1) * 100, within(1e-9));
+        assertThat(summary.months()).extracting(TradeSummaryResponse.Month::month).containsExactly("2025-02", "2025-01");
+        assertThat(summary.months().get(1).winRate()).isEqualTo(50);
+    }
+
+    @Test
+    void saveTrade_addsTradeToMonthlySummary() {
+        // given
+        TradeMonthlySummary january = new TradeMonthlySummary(user, "2025-01");
+        TradeInfo trade = trade(1L, "2025-01-31", 100_000, 105_000);
+        when(tradeRepository.save(trade)).thenReturn(trade);
+        when(summaryRepository.existsByUser(user)).thenReturn(true);
+        when(summaryRepository.findByUserAndTradeMonth(user, "2025-01")).thenReturn(Optional.of(january));
+
+        // when
+        tradeHistoryService.saveTrade(trade);
+
+        // then
+        assertThat(january.getTrades()).isEqualTo(1);
+        assertThat(january.getWins()).isEqualTo(1);
+        assertThat(january.getPnl()).isEqualTo(5_000);
+    }
+
+    @Test
+    void saveTrade_backfillsExistingTradesBeforeFirstSummary() {
+        // given - 집계 도입 전 거래 2건(1월, 2월) 보유, 2월에 새 거래 저장
+        List<TradeMonthlySummary> stored = new ArrayList<>();
+        TradeInfo trade = trade(3L, "2025-02-03", 99_000, 108_900);
+        when(tradeRepository.save(trade)).thenReturn(trade);
+        when(summaryRepository.existsByUser(user)).thenReturn(false);
+        when(tradeRepository.findLatest(eq(user), any(Pageable.class))).thenReturn(List.of(
+                trade,
+                trade(2L, "2025-02-01", 110_000, 99_000),
+                trade(1L, "2025-01-31", 100_000, 110_000)));
+        when(summaryRepository.saveAll(any())).thenAnswer(invocation -> {
+            invocation.<Iterable<TradeMonthlySummary>>getArgument(0).forEach(stored::add);
+            return List.copyOf(stored);
+        });
+        when(summaryRepository.findByUserOrderByTradeMonthDesc(user)).thenAnswer(invocation -> List.copyOf(stored));
+
+        // when
+        tradeHistoryService.saveTrade(trade);
+        TradeSummaryResponse summary = tradeHistoryService.getSummary(user);
+
+        // then - 새 거래가 한 번만 반영되고 이전 거래도 모두 집계
+        assertThat(summary.trades()).isEqualTo(3);
+        assertThat(summary.totalPnl()).isEqualTo(8_900);
+        assertThat(summary.months()).extracting(TradeSummaryResponse.Month::month).containsExactly("2025-02", "2025-01");
+        assertThat(summary.months().get(0).trades()).isEqualTo(2);
+        verify(summaryRepository, never()).findByUserAndTradeMonth(any(), any());
+    }
+
+    private TradeInfo trade(long id, String day, double before, double after) {
+        TradeInfo trade = new TradeInfo(user, LocalDate.parse(day), "비트코인", after / before - 1, before, after);
+        ReflectionTestUtils.setField(trade, "id", id);
+        return trade;
+    }
+}
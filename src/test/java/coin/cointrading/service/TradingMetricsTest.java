@@ -0,0 +1,36 @@
+package coin.cointrading.service;
+
+import coin.cointrading.domain.Coin;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TradingMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TradingMetrics tradingMetrics = new TradingMetrics(meterRegistry, new Semaphore(30));
+
+    @Test
+    void recordOrder_meterCountDoesNotGrowWithUsers() {
+        // given
+        tradingMetrics.recordOrder(Coin.BTC, TradingMetrics.OrderKind.BUY, System.nanoTime(), true);
+        int meters = meterRegistry.getMeters().size();
+
+        // when - 유저 1000명의 매수 / 손절 주문
+        long triggeredAt = System.nanoTime();
+        for (int user = 0; user < 1000; user++) {
+            tradingMetrics.recordOrder(Coin.BTC, TradingMetrics.OrderKind.BUY, triggeredAt, user % 10 != 0);
+            tradingMetrics.recordOrder(Coin.ETH, TradingMetrics.OrderKind.STOP, triggeredAt, true);
+        }
+
+        // then
+        assertThat(meterRegistry.getMeters()).hasSize(meters);
+        assertThat(meterRegistry.get("trading.orders").tag("kind", "BUY").tag("result", "failure").counter().count())
+                .isEqualTo(100);
+        assertThat(meterRegistry.get("trading.order.latency").tag("coin", "BTC").tag("kind", "BUY").timer().count())
+                .isEqualTo(901);
+    }
+}
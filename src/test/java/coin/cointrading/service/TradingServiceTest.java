@@ -2,10 +2,14 @@ package coin.cointrading.service;
 
 import coin.cointrading.domain.AuthUser;
 import coin.cointrading.domain.Coin;
+import coin.cointrading.domain.MarketStateStore;
 import coin.cointrading.domain.Role;
+import coin.cointrading.domain.User;
+import coin.cointrading.dto.PriceTickEvent;
 import coin.cointrading.dto.TradingStatus;
-import coin.cointrading.repository.TradeRepository;
+import coin.cointrading.dto.UserChangedEvent;
 import coin.cointrading.repository.UserRepository;
+import coin.cointrading.util.UpbitCredentialCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,14 +17,17 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -32,23 +39,33 @@ class TradingServiceTest {
     @Spy
     private ConcurrentHashMap<String, AuthUser> userAuthMap; // 유저 Auth정보 저장 컬렉션
     @Spy
+    private ConcurrentHashMap<String, User> userSessionMap;
+    @Spy
     private Set<String> runningUser;
     @Mock
     private SchedulerControlService schedulerControlService;
     @Mock
     private UpbitService upbitService;
-    @Mock
-    private RedisService redisService;
+    private MarketStateStore marketStateStore;
     @Mock
     private ExecutorService executor;
     @Mock
     private UserRepository userRepository;
     @Mock
-    private TradeRepository tradeRepository;
+    private TradeHistoryService tradeHistoryService;
+    @Mock
+    private UpbitCredentialCache upbitCredentialCache;
+    @Mock
+    private BalanceCache balanceCache;
+    @Mock
+    private TradingSessionJournal sessionJournal;
+    @Mock
+    private TradingMetrics tradingMetrics;
 
     TradingService tradingService;
 
     private AuthUser authUser;
+    private User user;
     private String strCoin;
     private Coin coin;
 
@@ -56,31 +73,46 @@ class TradingServiceTest {
     void setup() {
         userAuthMap = spy(new ConcurrentHashMap<>());
         userStatusMap = spy(new ConcurrentHashMap<>());
+        userSessionMap = spy(new ConcurrentHashMap<>());
         runningUser = spy(ConcurrentHashMap.newKeySet());
+        marketStateStore = new MarketStateStore();
 
         tradingService = new TradingService(
                 userStatusMap,
                 userAuthMap,
+                userSessionMap,
                 runningUser,
                 schedulerControlService,
                 upbitService,
-                redisService,
+                marketStateStore,
                 executor,
+                new Semaphore(30),
                 userRepository,
-                tradeRepository
+                tradeHistoryService,
+                upbitCredentialCache,
+                balanceCache,
+                sessionJournal,
+                tradingMetrics,
+                new OrderTraceRecorder(16)
         );
 
         authUser = new AuthUser("test", "nickName", Role.USER);
+        user = new User("test", "password", "nickName", "secretKey", "accessKey", Role.USER);
         strCoin = "BTC";
         coin = Coin.valueOf(strCoin);
     }
 
     @Test
     void startTrading_success() {
-        // give & when
+        // given
+        when(userRepository.findByUserId(authUser.getUserId())).thenReturn(Optional.of(user));
+
+        // when
         tradingService.startTrading(authUser, strCoin);
 
         // then
+        verify(upbitCredentialCache).register(user);
+        assertThat(userSessionMap.get("test")).isEqualTo(user);
         verify(userAuthMap).putIfAbsent(eq(authUser.getUserId()), any(AuthUser.class));
         assertThat(userAuthMap.get("test")).isEqualTo(authUser);
 
@@ -94,6 +126,7 @@ class TradingServiceTest {
     @Test
     void stopTrading_success() {
         // given
+        when(userRepository.findByUserId(authUser.getUserId())).thenReturn(Optional.of(user));
         tradingService.startTrading(authUser, strCoin);
         assertThat(userAuthMap.get("test")).isEqualTo(authUser);
         assertThat(userStatusMap.get("test").getSelectCoin()).isEqualTo(coin);
@@ -111,6 +144,9 @@ class TradingServiceTest {
 
         verify(userStatusMap).remove(authUser.getUserId());
         assertThat(userStatusMap.get("test")).isNull();
+
+        verify(upbitCredentialCache).evict(authUser.getUserId());
+        assertThat(userSessionMap.get("test")).isNull();
     }
 
     @Test
@@ -146,103 +182,163 @@ class TradingServiceTest {
     }
 
     @Test
-    void checkPrice_underTargetPrice() {
+    void onPriceTick_beforeTargetPrice_isIgnored() {
         // given
-        Map<Coin, Double> currentPriceMap = new HashMap<>();
-        currentPriceMap.put(Coin.BTC, 10000d);
-        currentPriceMap.put(Coin.ETH, 1000d);
-        currentPriceMap.put(Coin.XRP, 100d);
-        Map<Coin, Double> targetPriceMap = new HashMap<>();
-        targetPriceMap.put(Coin.BTC, 20000d);
-        targetPriceMap.put(Coin.ETH, 2000d);
-        targetPriceMap.put(Coin.XRP, 200d);
-
-        Map<Coin, Boolean> todayTradeCheckMap = new HashMap<>();
-        todayTradeCheckMap.put(Coin.BTC, false);
-        todayTradeCheckMap.put(Coin.ETH, false);
-        todayTradeCheckMap.put(Coin.XRP, false);
-
-        when(redisService.getCurrentPriceMap()).thenReturn(currentPriceMap);
-        when(redisService.getTargetPriceMap()).thenReturn(targetPriceMap);
-        when(redisService.getTodayTradeCheckMap()).thenReturn(todayTradeCheckMap);
         when(schedulerControlService.getIsProcessing()).thenReturn(false);
 
         // when
-        tradingService.checkPrice();
+        tradingService.onPriceTick(new PriceTickEvent(Coin.BTC, 10000d));
 
         // then
-        verify(redisService, never()).setTodayTrade(eq(Coin.ETH), eq(true));
-        verify(redisService, never()).setTodayTrade(eq(Coin.XRP), eq(true));
-        verify(redisService, never()).setTodayTrade(eq(Coin.BTC), eq(true));
+        assertThat(marketStateStore.tradedToday(Coin.BTC)).isFalse();
     }
 
     @Test
-    void checkPrice_overTargetPrice_triggersProcessBuy() {
+    void onPriceTick_underTargetPrice() {
         // given
-        Map<Coin, Double> currentPriceMap = new HashMap<>();
-        currentPriceMap.put(Coin.BTC, 20000d);
-        currentPriceMap.put(Coin.ETH, 2000d);
-        currentPriceMap.put(Coin.XRP, 200d);
-        Map<Coin, Double> targetPriceMap = new HashMap<>();
-        targetPriceMap.put(Coin.BTC, 20000d);
-        targetPriceMap.put(Coin.ETH, 2000d);
-        targetPriceMap.put(Coin.XRP, 200d);
-
-        Map<Coin, Boolean> todayTradeCheckMap = new HashMap<>();
-        todayTradeCheckMap.put(Coin.BTC, false);
-        todayTradeCheckMap.put(Coin.ETH, false);
-        todayTradeCheckMap.put(Coin.XRP, false);
-
-        when(redisService.getCurrentPriceMap()).thenReturn(currentPriceMap);
-        when(redisService.getTargetPriceMap()).thenReturn(targetPriceMap);
-        when(redisService.getTodayTradeCheckMap()).thenReturn(todayTradeCheckMap);
+        marketStateStore.resetDay(Coin.BTC, 20000d);
+        marketStateStore.resetDay(Coin.ETH, 2000d);
+        marketStateStore.resetDay(Coin.XRP, 200d);
+
         when(schedulerControlService.getIsProcessing()).thenReturn(false);
 
         // when
-        tradingService.checkPrice();
+        tradingService.onPriceTick(new PriceTickEvent(Coin.BTC, 10000d));
+        tradingService.onPriceTick(new PriceTickEvent(Coin.ETH, 1000d));
+        tradingService.onPriceTick(new PriceTickEvent(Coin.XRP, 100d));
 
         // then
-        verify(redisService).setTodayTrade(eq(Coin.BTC), eq(true));
-        verify(redisService).setTodayTrade(eq(Coin.ETH), eq(true));
-        verify(redisService).setTodayTrade(eq(Coin.XRP), eq(true));
+        assertThat(marketStateStore.tradedToday(Coin.BTC)).isFalse();
+        assertThat(marketStateStore.tradedToday(Coin.ETH)).isFalse();
+        assertThat(marketStateStore.tradedToday(Coin.XRP)).isFalse();
     }
 
     @Test
-    void checkPrice_underExecutePrice_triggersStopLoss() {
+    void onPriceTick_overTargetPrice_triggersProcessBuy() {
         // given
-        Map<Coin, Double> currentPriceMap = new HashMap<>();
-        currentPriceMap.put(Coin.BTC, 9500d);
-        currentPriceMap.put(Coin.ETH, 950d);
-        currentPriceMap.put(Coin.XRP, 95d);
-        Map<Coin, Double> targetPriceMap = new HashMap<>();
-        targetPriceMap.put(Coin.BTC, 10000d);
-        targetPriceMap.put(Coin.ETH, 1000d);
-        targetPriceMap.put(Coin.XRP, 100d);
-
-        Map<Coin, Boolean> todayTradeCheckMap = new HashMap<>();
-        todayTradeCheckMap.put(Coin.BTC, true);
-        todayTradeCheckMap.put(Coin.ETH, true);
-        todayTradeCheckMap.put(Coin.XRP, true);
-
-        Map<Coin, Boolean> todayExecutedCheckMap = new HashMap<>();
-        todayExecutedCheckMap.put(Coin.BTC, false);
-        todayExecutedCheckMap.put(Coin.ETH, false);
-        todayExecutedCheckMap.put(Coin.XRP, false);
-
-
-
-        when(redisService.getCurrentPriceMap()).thenReturn(currentPriceMap);
-        when(redisService.getTargetPriceMap()).thenReturn(targetPriceMap);
-        when(redisService.getTodayTradeCheckMap()).thenReturn(todayTradeCheckMap);
-        when(redisService.getTodayExecutedCheckMap()).thenReturn(todayExecutedCheckMap);
+        marketStateStore.resetDay(Coin.BTC, 20000d);
+        marketStateStore.resetDay(Coin.ETH, 2000d);
+        marketStateStore.resetDay(Coin.XRP, 200d);
+
         when(schedulerControlService.getIsProcessing()).thenReturn(false);
 
         // when
-        tradingService.checkPrice();
+        tradingService.onPriceTick(new PriceTickEvent(Coin.BTC, 20000d));
+        tradingService.onPriceTick(new PriceTickEvent(Coin.ETH, 2000d));
+        tradingService.onPriceTick(new PriceTickEvent(Coin.XRP, 200d));
+
+        // then
+        assertThat(marketStateStore.tradedToday(Coin.BTC)).isTrue();
+        assertThat(marketStateStore.tradedToday(Coin.ETH)).isTrue();
+        assertThat(marketStateStore.tradedToday(Coin.XRP)).isTrue();
+    }
+
+    @Test
+    void onPriceTick_underExecutePrice_triggersStopLoss() {
+        // given
+        for (Coin c : Coin.values()) {
+            marketStateStore.resetDay(c, c == Coin.BTC ? 10000d : c == Coin.ETH ? 1000d : 100d);
+            marketStateStore.setTradedToday(c, true);
+        }
+
+        when(schedulerControlService.getIsProcessing()).thenReturn(false);
+
+        // when
+        tradingService.onPriceTick(new PriceTickEvent(Coin.BTC, 9500d));
+        tradingService.onPriceTick(new PriceTickEvent(Coin.ETH, 950d));
+        tradingService.onPriceTick(new PriceTickEvent(Coin.XRP, 95d));
+
+        // then
+        assertThat(marketStateStore.stoppedToday(Coin.BTC)).isTrue();
+        assertThat(marketStateStore.stoppedToday(Coin.ETH)).isTrue();
+        assertThat(marketStateStore.stoppedToday(Coin.XRP)).isTrue();
+    }
+
+    @Test
+    void onPriceTick_underExecutePrice_sellsOnlyUsersHoldingThatCoin() {
+        // given - BTC를 보유한 유저
+        when(userRepository.findByUserId(authUser.getUserId())).thenReturn(Optional.of(user));
+        tradingService.startTrading(authUser, strCoin);
+        userStatusMap.get(authUser.getUserId()).getOpMode().set(true);
+        userStatusMap.get(authUser.getUserId()).getHold().set(true);
+        marketStateStore.resetDay(Coin.ETH, 1000d);
+        marketStateStore.setTradedToday(Coin.ETH, true);
+
+        when(schedulerControlService.getIsProcessing()).thenReturn(false);
+
+        // when - ETH만 손절가 이탈
+        tradingService.onPriceTick(new PriceTickEvent(Coin.ETH, 950d));
+
+        // then
+        verify(executor, never()).execute(any(Runnable.class));
+        assertThat(userStatusMap.get(authUser.getUserId()).getHold().get()).isTrue();
+        assertThat(marketStateStore.stoppedToday(Coin.ETH)).isTrue();
+    }
+
+    @Test
+    void onPriceTick_whileBuyInFlight_doesNotTriggerAgain() {
+        // given
+        when(userRepository.findByUserId(authUser.getUserId())).thenReturn(Optional.of(user));
+        tradingService.startTrading(authUser, strCoin);
+        userStatusMap.get(authUser.getUserId()).getOpMode().set(true);
+        marketStateStore.resetDay(Coin.BTC, 20000d);
+
+        when(schedulerControlService.getIsProcessing()).thenReturn(false);
+
+        // when - executor 목이 주문을 실행하지 않아 첫 매수가 끝나지 않은 상태
+        tradingService.onPriceTick(new PriceTickEvent(Coin.BTC, 20000d));
+        tradingService.onPriceTick(new PriceTickEvent(Coin.BTC, 20100d));
+
+        // then
+        verify(executor, times(1)).execute(any(Runnable.class));
+        assertThat(marketStateStore.tradedToday(Coin.BTC)).isFalse();
+    }
+
+    @Test
+    void refreshSession_reloadsRunningUser() {
+        // given
+        when(userRepository.findByUserId(authUser.getUserId())).thenReturn(Optional.of(user));
+        tradingService.startTrading(authUser, strCoin);
+        User changed = new User("test", "password", "nickName", "secretKey", "accessKey", Role.ADMIN);
+        when(userRepository.findByUserId(authUser.getUserId())).thenReturn(Optional.of(changed));
+
+        // when
+        tradingService.refreshSession(new UserChangedEvent("test"));
+
+        // then
+        assertThat(userSessionMap.get("test")).isEqualTo(changed);
+        assertThat(userAuthMap.get("test").getRole()).isEqualTo(Role.ADMIN);
+        verify(upbitCredentialCache).register(changed);
+    }
+
+    @Test
+    void refreshSession_ignoresUserNotRunning() {
+        // when
+        tradingService.refreshSession(new UserChangedEvent("other"));
+
+        // then
+        verify(userRepository, never()).findByUserId(anyString());
+    }
+
+    @Test
+    void restoreSessions_rebuildsJournaledUsersAndDropsMissingOnes() {
+        // given
+        when(sessionJournal.load()).thenReturn(Map.of(
+                "test", new TradingStatus(Coin.ETH, true, true),
+                "deleted", new TradingStatus(Coin.BTC, false, false)));
+        when(userRepository.findByUserIdIn(any())).thenReturn(List.of(user));
+
+        // when
+        tradingService.restoreSessions();
 
         // then
-        verify(redisService).setTodayExecuted(eq(Coin.BTC), eq(true));
-        verify(redisService).setTodayExecuted(eq(Coin.ETH), eq(true));
-        verify(redisService).setTodayExecuted(eq(Coin.XRP), eq(true));
+        assertThat(runningUser).containsExactly("test");
+        assertThat(userStatusMap.get("test").getSelectCoin()).isEqualTo(Coin.ETH);
+        assertThat(userStatusMap.get("test").getHold().get()).isTrue();
+        assertThat(userAuthMap.get("test").getRole()).isEqualTo(Role.USER);
+        assertThat(userSessionMap.get("test")).isEqualTo(user);
+        verify(upbitCredentialCache).register(user);
+        verify(sessionJournal).mark("deleted");
+        verify(sessionJournal, never()).mark("test");
     }
-}
\ No newline at end of file
+}
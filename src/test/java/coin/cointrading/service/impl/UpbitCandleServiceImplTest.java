@@ -0,0 +1,45 @@
+package coin.cointrading.service.impl;
+
+import coin.cointrading.domain.CandleInterval;
+import coin.cointrading.domain.CandleSeries;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.exception.CustomException;
+import coin.cointrading.exception.ErrorCode;
+import coin.cointrading.service.CandleStore;
+import coin.cointrading.util.UpbitHttpClient;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UpbitCandleServiceImplTest {
+
+    @Mock
+    private UpbitHttpClient upbitHttpClient;
+    @Mock
+    private CandleStore candleStore;
+
+    @Test
+    void checkTarget_usesYesterdayAndRejectsMissingHistory() throws Exception {
+        // given - BTC는 전일 / 당일 일봉, ETH는 상장 당일 일봉만
+        UpbitCandleServiceImpl candleService = new UpbitCandleServiceImpl(upbitHttpClient, candleStore);
+        CandleSeries btc = new CandleSeries();
+        btc.append(0, 100, 120, 90, 110, 1);
+        btc.append(86_400, 110, 130, 105, 125, 1);
+        CandleSeries eth = new CandleSeries();
+        eth.append(86_400, 100, 120, 90, 110, 1);
+        when(candleStore.load(Coin.BTC, CandleInterval.DAY, 2)).thenReturn(btc.view());
+        when(candleStore.load(Coin.ETH, CandleInterval.DAY, 2)).thenReturn(eth.view());
+
+        // when & then
+        assertThat(candleService.checkTarget(Coin.BTC)).isEqualTo(110 + (120 - 90) * 0.5);
+        assertThatThrownBy(() -> candleService.checkTarget(Coin.ETH))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.REDIS_TARGET_PRICE_NOT_FOUND));
+    }
+}
@@ -3,32 +3,37 @@ package coin.cointrading.service.impl;
 import coin.cointrading.domain.User;
 import coin.cointrading.dto.AccountResponse;
 import coin.cointrading.dto.OrderResponse;
+import coin.cointrading.exception.UpbitApiException;
+import coin.cointrading.service.BalanceCache;
 import coin.cointrading.util.JwtTokenProvider;
+import coin.cointrading.util.UpbitHttpClient;
+import coin.cointrading.util.UpbitRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentMatchers;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static coin.cointrading.domain.Coin.BTC;
 import static coin.cointrading.domain.Coin.ETH;
 import static coin.cointrading.domain.Role.USER;
 import static java.util.Map.entry;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(MockitoExtension.class)
 class UpbitServiceImplTest {
@@ -36,11 +41,11 @@ class UpbitServiceImplTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
-    @Mock
-    private RestTemplate restTemplate;
-
-    @InjectMocks
-    coin.cointrading.service.impl.UpbitServiceImpl upbitService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MockWebServer server;
+    private BalanceCache balanceCache;
+    private UpbitRateLimiter rateLimiter;
+    private UpbitServiceImpl upbitService;
 
     private User requestUser;
     private List<AccountResponse> accountList;
@@ -48,7 +53,14 @@ class UpbitServiceImplTest {
     private OrderResponse sellOrderResponse;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        String serverUrl = server.url("").toString().replaceAll("/$", "");
+        balanceCache = new BalanceCache(new SimpleMeterRegistry(), 30000);
+        rateLimiter = new UpbitRateLimiter(new SimpleMeterRegistry(), 10, 30, 8);
+        upbitService = new UpbitServiceImpl(jwtTokenProvider, new UpbitHttpClient(new OkHttpClient(), rateLimiter, new SimpleMeterRegistry(), serverUrl), balanceCache);
+
         requestUser = new User("test1", "password", "nickName", "secretKey", "accessKey", USER);
 
         accountList = new ArrayList<>();
@@ -64,47 +76,46 @@ class UpbitServiceImplTest {
         sellOrderResponse = new OrderResponse("KRW-BTC", "ask", null, String.valueOf(volume), "0", String.valueOf(volume));
     }
 
+    @AfterEach
+    void tearDown() throws IOException {
+        rateLimiter.shutdown();
+        server.shutdown();
+    }
+
+    private void enqueueJson(Object body) throws IOException {
+        server.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody(objectMapper.writeValueAsString(body)));
+    }
+
     @Test
     void getAccount_success() throws Exception {
         // given
-        when(restTemplate.exchange(
-                anyString(),
-                eq(HttpMethod.GET),
-                any(HttpEntity.class),
-                ArgumentMatchers.<ParameterizedTypeReference<List<AccountResponse>>>any()
-        )).thenReturn(new ResponseEntity<>(accountList, HttpStatus.OK));
+        enqueueJson(accountList);
 
         // when
-        List<AccountResponse> result = upbitService.getAccount(requestUser);
+        List<AccountResponse> result = upbitService.getAccount(requestUser).get();
 
         // then
         assertThat(result.get(0).getCurrency()).isEqualTo("KRW");
         assertThat(result.get(0).getBalance()).isEqualTo("1000000.0");
         assertThat(result.get(1).getCurrency()).isEqualTo("BTC");
         assertThat(result.get(1).getBalance()).isEqualTo("2.0");
+        assertThat(server.takeRequest().getPath()).isEqualTo("/v1/accounts");
+        assertThat(balanceCache.getForOrder(requestUser.getUserId())).isPresent();
     }
 
     @Test
     void orderCoins_success() throws Exception {
         // given
-        when(restTemplate.exchange(
-                anyString(),
-                eq(HttpMethod.GET),
-                any(HttpEntity.class),
-                ArgumentMatchers.<ParameterizedTypeReference<List<AccountResponse>>>any()
-        )).thenReturn(new ResponseEntity<>(accountList, HttpStatus.OK));
-
-        when(restTemplate.exchange(
-                anyString(),
-                eq(HttpMethod.POST),
-                any(HttpEntity.class),
-                ArgumentMatchers.<ParameterizedTypeReference<OrderResponse>>any()
-        )).thenReturn(new ResponseEntity<>(buyOrderResponse, HttpStatus.OK))
-                .thenReturn(new ResponseEntity<>(sellOrderResponse, HttpStatus.OK));
+        enqueueJson(accountList);
+        enqueueJson(buyOrderResponse);
+        enqueueJson(accountList);
+        enqueueJson(sellOrderResponse);
 
         // when
-        OrderResponse buyOrderResult = (OrderResponse) upbitService.orderCoins("buy", requestUser, BTC);
-        OrderResponse sellOrderResult = (OrderResponse) upbitService.orderCoins("sell", requestUser, BTC);
+        OrderResponse buyOrderResult = upbitService.orderCoins("buy", requestUser, BTC).get();
+        OrderResponse sellOrderResult = upbitService.orderCoins("sell", requestUser, BTC).get();
 
         // then
         assertThat(buyOrderResult.getMarket()).isEqualTo("KRW-BTC");
@@ -116,7 +127,44 @@ class UpbitServiceImplTest {
     }
 
     @Test
-    void getOrder_success() {
+    void orderCoins_usesCachedBalance() throws Exception {
+        // given
+        balanceCache.put(requestUser.getUserId(), balanceCache.begin(requestUser.getUserId()), accountList);
+        enqueueJson(buyOrderResponse);
+
+        // when
+        upbitService.orderCoins("buy", requestUser, BTC).get();
+
+        // then
+        RecordedRequest request = server.takeRequest();
+        assertThat(request.getMethod()).isEqualTo("POST");
+        assertThat(request.getPath()).isEqualTo("/v1/orders");
+        assertThat(server.getRequestCount()).isEqualTo(1); // 계좌 조회 없음
+        assertThat(balanceCache.getForOrder(requestUser.getUserId())).isEmpty(); // 주문 후 제거
+    }
+
+    @Test
+    void orderCoins_dropsRefreshStartedBeforeOrder() throws Exception {
+        // given - 주문 전 잔고를 돌려주는 백그라운드 갱신이 주문보다 늦게 응답
+        balanceCache.put(requestUser.getUserId(), balanceCache.begin(requestUser.getUserId()), accountList);
+        server.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setHeadersDelay(300, TimeUnit.MILLISECONDS)
+                .setBody(objectMapper.writeValueAsString(accountList)));
+        enqueueJson(buyOrderResponse);
+
+        // when
+        CompletableFuture<List<AccountResponse>> refresh = upbitService.getAccount(requestUser);
+        assertThat(server.takeRequest().getPath()).isEqualTo("/v1/accounts");
+        upbitService.orderCoins("buy", requestUser, BTC).get();
+        refresh.get();
+
+        // then - 주문 이후 실시간 조회 전까지 캐시 사용 안 함
+        assertThat(balanceCache.getForOrder(requestUser.getUserId())).isEmpty();
+    }
+
+    @Test
+    void getOrder_success() throws Exception {
         // given
         List<Map<String, Object>> orders = new ArrayList<>();
         Map<String, Object> order1 = Map.ofEntries(
@@ -154,15 +202,10 @@ class UpbitServiceImplTest {
         orders.add(order1);
         orders.add(order2);
 
-        when(restTemplate.exchange(
-                anyString(),
-                eq(HttpMethod.GET),
-                any(HttpEntity.class),
-                ArgumentMatchers.<ParameterizedTypeReference<List<Map<String, Object>>>>any()
-        )).thenReturn(new ResponseEntity<>(orders, HttpStatus.OK));
+        enqueueJson(orders);
 
         // when
-        List<Map<String, Object>> resultList = (List<Map<String, Object>>) upbitService.getOrders(requestUser, 2, ETH);
+        List<Map<String, Object>> resultList = upbitService.getOrders(requestUser, 2, ETH).get();
         Map<String, Object> buyResult = resultList.get(0);
         Map<String, Object> sellResult = resultList.get(1);
 
@@ -178,4 +221,30 @@ class UpbitServiceImplTest {
         assertThat(sellResult.get("locked")).isEqualTo("0.00200688");
     }
 
+    @Test
+    void getOrders_retriesThrottledLookup() throws Exception {
+        // given - 첫 조회는 요청 제한(429)
+        server.enqueue(new MockResponse().setResponseCode(429)
+                .setBody("{\"error\":{\"name\":\"too_many_requests\"}}"));
+        enqueueJson(List.of(Map.of("side", "bid", "market", "KRW-ETH")));
+
+        // when
+        List<Map<String, Object>> result = upbitService.getOrders(requestUser, 2, ETH).get();
+
+        // then
+        assertThat(result).extracting(order -> order.get("side")).containsExactly("bid");
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getOrders_failsAfterRetries() {
+        // given
+        for (int i = 0; i < 3; i++) server.enqueue(new MockResponse().setResponseCode(429));
+
+        // when & then
+        assertThatThrownBy(() -> upbitService.getOrders(requestUser, 2, ETH).get())
+                .hasCauseInstanceOf(UpbitApiException.class);
+        assertThat(server.getRequestCount()).isEqualTo(3);
+    }
+
 }
\ No newline at end of file
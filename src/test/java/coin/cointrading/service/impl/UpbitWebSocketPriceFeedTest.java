@@ -0,0 +1,141 @@
+package coin.cointrading.service.impl;
+
+import coin.cointrading.domain.Coin;
+import coin.cointrading.domain.MarketStateStore;
+import coin.cointrading.dto.PriceTickEvent;
+import coin.cointrading.service.TradingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.ByteString;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class UpbitWebSocketPriceFeedTest {
+
+    private MockWebServer server;
+    private MarketStateStore marketStateStore;
+    private final List<Object> publishedEvents = new CopyOnWriteArrayList<>();
+    private UpbitWebSocketPriceFeed priceFeed;
+    private final AtomicReference<WebSocket> serverSocket = new AtomicReference<>();
+    private final AtomicReference<String> subscription = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        marketStateStore = new MarketStateStore();
+        String url = server.url("/websocket/v1").toString().replace("http", "ws");
+        priceFeed = new UpbitWebSocketPriceFeed(new OkHttpClient(), marketStateStore, publishedEvents::add,
+                new TradingMetrics(new SimpleMeterRegistry(), new Semaphore(1)), url);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        priceFeed.disconnect();
+        server.shutdown();
+    }
+
+    private void enqueueUpgrade() {
+        server.enqueue(new MockResponse().withWebSocketUpgrade(new WebSocketListener() {
+            @Override
+            public void onOpen(@NotNull WebSocket webSocket, @NotNull Response response) {
+                serverSocket.set(webSocket);
+            }
+
+            @Override
+            public void onMessage(@NotNull WebSocket webSocket, @NotNull String text) {
+                subscription.set(text);
+            }
+
+            @Override
+            public void onClosing(@NotNull WebSocket webSocket, int code, @NotNull String reason) {
+                webSocket.close(1000, null);
+            }
+        }));
+    }
+
+    @Test
+    void connect_subscribesAllMarkets() {
+        // given
+        enqueueUpgrade();
+
+        // when
+        priceFeed.connect();
+
+        // then
+        await().atMost(Duration.ofSeconds(3)).until(() -> subscription.get() != null);
+        for (Coin coin : Coin.values()) {
+            assertThat(subscription.get()).contains(coin.getMarketCode());
+        }
+        assertThat(subscription.get()).contains("ticker").contains("trade");
+    }
+
+    @Test
+    void binaryTicker_updatesMarketState() {
+        // given
+        enqueueUpgrade();
+        priceFeed.connect();
+        await().atMost(Duration.ofSeconds(3)).until(() -> serverSocket.get() != null);
+
+        // when
+        serverSocket.get().send(ByteString.encodeUtf8("{\"type\":\"ticker\",\"code\":\"KRW-BTC\",\"trade_price\":150000000.0}"));
+        serverSocket.get().send("{\"type\":\"trade\",\"code\":\"KRW-ETH\",\"trade_price\":5000000.0}");
+
+        // then
+        await().atMost(Duration.ofSeconds(3)).until(() -> marketStateStore.hasPrice(Coin.ETH));
+        assertThat(marketStateStore.price(Coin.BTC)).isEqualTo(150000000.0);
+        assertThat(marketStateStore.price(Coin.ETH)).isEqualTo(5000000.0);
+        assertThat(publishedEvents)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("receivedAt")
+                .containsExactly(
+                        new PriceTickEvent(Coin.BTC, 150000000.0),
+                        new PriceTickEvent(Coin.ETH, 5000000.0));
+        assertThat(priceFeed.isConnected()).isTrue();
+    }
+
+    @Test
+    void unknownMarket_isIgnored() {
+        // when
+        priceFeed.handleMessage("{\"type\":\"ticker\",\"code\":\"KRW-DOGE\",\"trade_price\":100.0}");
+        priceFeed.handleMessage("{\"status\":\"UP\"}");
+
+        // then
+        for (Coin coin : Coin.values()) {
+            assertThat(marketStateStore.hasPrice(coin)).isFalse();
+        }
+        assertThat(publishedEvents).isEmpty();
+    }
+
+    @Test
+    void serverClose_fallsBackToPolling() {
+        // given
+        enqueueUpgrade();
+        priceFeed.connect();
+        await().atMost(Duration.ofSeconds(3)).until(() -> serverSocket.get() != null);
+        serverSocket.get().send("{\"type\":\"ticker\",\"code\":\"KRW-XRP\",\"trade_price\":3000.0}");
+        await().atMost(Duration.ofSeconds(3)).until(priceFeed::isConnected);
+
+        // when
+        serverSocket.get().close(1001, "going away");
+
+        // then
+        await().atMost(Duration.ofSeconds(3)).until(() -> !priceFeed.isConnected());
+    }
+}
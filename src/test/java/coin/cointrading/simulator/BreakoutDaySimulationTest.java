@@ -0,0 +1,225 @@
+package coin.cointrading.simulator;
+
+import coin.cointrading.config.UpbitApiConfig;
+import coin.cointrading.domain.AuthUser;
+import coin.cointrading.domain.Coin;
+import coin.cointrading.domain.MarketStateStore;
+import coin.cointrading.domain.Role;
+import coin.cointrading.domain.User;
+import coin.cointrading.dto.OrderTraceReport;
+import coin.cointrading.dto.PriceTickEvent;
+import coin.cointrading.dto.TradingStatus;
+import coin.cointrading.repository.UserRepository;
+import coin.cointrading.service.BalanceCache;
+import coin.cointrading.service.OrderTraceRecorder;
+import coin.cointrading.service.SchedulerControlService;
+import coin.cointrading.service.TradeHistoryService;
+import coin.cointrading.service.TradingMetrics;
+import coin.cointrading.service.TradingService;
+import coin.cointrading.service.TradingSessionJournal;
+import coin.cointrading.service.impl.UpbitServiceImpl;
+import coin.cointrading.util.JwtTokenProvider;
+import coin.cointrading.util.UpbitCredential;
+import coin.cointrading.util.UpbitCredentialCache;
+import coin.cointrading.util.UpbitHttpClient;
+import coin.cointrading.util.UpbitRateLimiter;
+import coin.cointrading.util.UpbitRequestSigner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 시뮬레이터 위에서 돌파 / 손절이 있는 하루를 다수 유저로 재생 (./gradlew benchmark)
+ * 실제 UpbitServiceImpl / UpbitHttpClient / 요청 제한 / JWT 서명을 그대로 쓰고, 시세는 ticker 폴링으로 받는다
+ */
+@Tag("benchmark")
+class BreakoutDaySimulationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BreakoutDaySimulationTest.class);
+
+    private static final int USERS = 1000;
+    private static final double TARGET = 110;
+    private static final Duration STEP = Duration.ofMillis(300);
+    private static final Duration STALL = Duration.ofSeconds(10); // 진행이 없으면 대기 종료
+    private static final Duration BOUND = Duration.ofSeconds(30); // 매수 / 손절 각각 전체 유저 완료까지
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void breakoutAndStopWithInjectedLatency() throws Exception {
+        assertCompleted(replay(0));
+    }
+
+    @Test
+    void breakoutAndStopWithInjectedThrottle() throws Exception {
+        // 429로 실패한 매수는 다음 시세에서 다시 주문되고, 체결 내역 조회는 재시도하므로
+        // 거래 기록 누락은 조회가 재시도까지 모두 429를 받은 경우뿐 (요청당 2%, 3회 연속 확률 0.0008%)
+        assertCompleted(replay(0.02));
+    }
+
+    private void assertCompleted(Result result) {
+        assertThat(result.holders()).isEqualTo(USERS);
+        assertThat(result.fills()).isEqualTo(2 * USERS);
+        assertThat(result.failedLookups()).isLessThanOrEqualTo(3);
+        assertThat(result.trades() + result.failedLookups()).isEqualTo(USERS);
+        assertThat(result.buy()).isLessThan(BOUND);
+        assertThat(result.stop()).isLessThan(BOUND);
+    }
+
+    private Result replay(double throttleRate) throws Exception {
+        try (UpbitSimulator simulator = new UpbitSimulator();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            simulator.latency(Duration.ofMillis(5), Duration.ofMillis(30))
+                    .throttle(throttleRate)
+                    .script(Coin.BTC, UpbitSimulator.PricePath.steps(STEP, 100, 104, 108, 111, 113))
+                    .start();
+
+            ConcurrentHashMap<String, TradingStatus> userStatusMap = new ConcurrentHashMap<>();
+            ConcurrentHashMap<String, AuthUser> userAuthMap = new ConcurrentHashMap<>();
+            ConcurrentHashMap<String, User> userSessionMap = new ConcurrentHashMap<>();
+            Set<String> runningUser = ConcurrentHashMap.newKeySet();
+            for (int i = 0; i < USERS; i++) {
+                String userId = "user" + i;
+                simulator.account("access" + i, "secret" + i, 1_000_000);
+                TradingStatus status = new TradingStatus(Coin.BTC);
+                status.getOpMode().set(true);
+                userStatusMap.put(userId, status);
+                userAuthMap.put(userId, new AuthUser(userId, userId, Role.USER));
+                userSessionMap.put(userId, new User(userId, "password", "nickName", "secret" + i, "access" + i, Role.USER));
+                runningUser.add(userId);
+            }
+
+            UpbitCredentialCache credentialCache = mock(UpbitCredentialCache.class);
+            when(credentialCache.get(any())).thenAnswer(invocation -> {
+                User user = invocation.getArgument(0);
+                return UpbitCredential.of(user.getUpbitAccessKey(), user.getUpbitSecretKey().getBytes(StandardCharsets.UTF_8));
+            });
+            AtomicInteger trades = new AtomicInteger();
+            TradeHistoryService tradeHistoryService = mock(TradeHistoryService.class);
+            doAnswer(invocation -> trades.incrementAndGet()).when(tradeHistoryService).saveTrade(any());
+
+            UpbitRateLimiter rateLimiter = new UpbitRateLimiter(new SimpleMeterRegistry(), 10, 30, 8);
+            UpbitHttpClient upbitHttpClient = new UpbitHttpClient(new UpbitApiConfig().okHttpClient(), rateLimiter,
+                    new SimpleMeterRegistry(), simulator.url());
+            BalanceCache balanceCache = new BalanceCache(new SimpleMeterRegistry(), 30000);
+            MarketStateStore marketStateStore = new MarketStateStore();
+            marketStateStore.resetDay(Coin.BTC, TARGET);
+            Semaphore upbitPermits = new Semaphore(30, true);
+            OrderTraceRecorder orderTraces = new OrderTraceRecorder(2 * USERS);
+
+            // 재시도를 모두 소진한 체결 내역 조회 수
+            AtomicInteger failedLookups = new AtomicInteger();
+            UpbitServiceImpl upbitService = new UpbitServiceImpl(new JwtTokenProvider(credentialCache, new UpbitRequestSigner()),
+                    upbitHttpClient, balanceCache) {
+                @Override
+                public CompletableFuture<List<Map<String, Object>>> getOrders(User requestUser, int count, Coin selectCoin) {
+                    return super.getOrders(requestUser, count, selectCoin).whenComplete((orders, e) -> {
+                        if (e != null) failedLookups.incrementAndGet();
+                    });
+                }
+            };
+
+            TradingService tradingService = new TradingService(
+                    userStatusMap,
+                    userAuthMap,
+                    userSessionMap,
+                    runningUser,
+                    new SchedulerControlService(),
+                    upbitService,
+                    marketStateStore,
+                    executor,
+                    upbitPermits,
+                    mock(UserRepository.class),
+                    tradeHistoryService,
+                    credentialCache,
+                    balanceCache,
+                    mock(TradingSessionJournal.class),
+                    new TradingMetrics(new SimpleMeterRegistry(), upbitPermits),
+                    orderTraces
+            );
+
+            // 시세 폴링 (웹소켓 미사용 시 앱의 ticker 폴링과 같은 흐름)
+            Thread poller = Thread.ofVirtual().start(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    try {
+                        String json = UpbitHttpClient.await(upbitHttpClient.quotation("/v1/ticker?markets=" + Coin.BTC.getMarketCode()));
+                        double price = objectMapper.readTree(json).get(0).get("trade_price").asDouble();
+                        marketStateStore.updatePrice(Coin.BTC, price);
+                        tradingService.onPriceTick(new PriceTickEvent(Coin.BTC, price));
+                        Thread.sleep(STEP.toMillis() / 2);
+                    } catch (InterruptedException e) {
+                        return;
+                    } catch (Exception ignored) {
+                        // 429 등은 다음 폴링에서 다시 시도
+                    }
+                }
+            });
+
+            try {
+                long start = System.nanoTime();
+                await(() -> (int) userStatusMap.values().stream().filter(status -> status.getHold().get()).count());
+                Duration buy = Duration.ofNanos(System.nanoTime() - start);
+                int holders = (int) userStatusMap.values().stream().filter(status -> status.getHold().get()).count();
+
+                // 손절가(목표가 * 0.95 = 104.5) 이탈
+                simulator.script(Coin.BTC, UpbitSimulator.PricePath.steps(STEP, 109, 106, 104));
+                start = System.nanoTime();
+                await(() -> trades.get() + failedLookups.get());
+                Duration stop = Duration.ofNanos(System.nanoTime() - start);
+
+                OrderTraceReport report = orderTraces.report(0);
+                log.info("[simulation] users={} throttle={} buy={}ms stop={}ms holders={} trades={} failedLookups={} requests={} throttled={} fills={}",
+                        USERS, throttleRate, buy.toMillis(), stop.toMillis(), holders, trades.get(), failedLookups.get(),
+                        simulator.requests(), simulator.throttled(), simulator.filledOrders());
+                report.stages().forEach((stage, stats) -> log.info("[simulation]   {} n={} p50={}us p99={}us max={}us",
+                        stage, stats.count(), Math.round(stats.p50()), Math.round(stats.p99()), Math.round(stats.max())));
+                return new Result(holders, trades.get(), failedLookups.get(), simulator.filledOrders(), buy, stop);
+            } finally {
+                poller.interrupt();
+                poller.join();
+                rateLimiter.shutdown();
+            }
+        }
+    }
+
+    /**
+     * 완료 수가 전체 유저 수에 도달하거나 STALL 동안 늘지 않을 때까지 대기
+     */
+    private void await(IntSupplier completed) throws InterruptedException {
+        int last = -1;
+        long changedAt = System.nanoTime();
+        while (completed.getAsInt() < USERS && System.nanoTime() - changedAt < STALL.toNanos()) {
+            int current = completed.getAsInt();
+            if (current != last) {
+                last = current;
+                changedAt = System.nanoTime();
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private record Result(int holders, int trades, int failedLookups, int fills, Duration buy, Duration stop) {
+    }
+}
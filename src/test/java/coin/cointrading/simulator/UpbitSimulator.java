@@ -0,0 +1,524 @@
+package coin.cointrading.simulator;
+
+import coin.cointrading.domain.Coin;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 업비트 거래소 시뮬레이터 (MockWebServer 위에서 동작)
+ * /v1/ticker, /v1/candles/days, /v1/accounts, /v1/orders, /v1/orders/closed 를 흉내 낸다.
+ * <ul>
+ *     <li>가격: 코인별 가격 경로(PricePath)를 등록 시점부터 재생, 시장가 주문은 그 시점 가격에 즉시 체결</li>
+ *     <li>장애 주입: 응답 지연(최소 ~ 최대 사이 균등 분포), 일정 비율 429 응답</li>
+ *     <li>인증: 등록된 secret key로 JWT 서명을 검증하고, 쿼리 / 주문 본문이 있으면 query_hash(SHA512)도 비교</li>
+ * </ul>
+ * 테스트에서 직접 띄우거나 ./gradlew upbitSimulator 로 단독 실행 후 UPBIT_SERVER_URL 로 앱을 연결한다.
+ * 웹소켓 시세는 제공하지 않으므로 앱은 ticker 폴링으로 동작한다.
+ */
+public class UpbitSimulator extends Dispatcher implements Closeable {
+
+    private static final double FEE = 0.0005;
+    private static final int MAX_ORDERS_PER_ACCOUNT = 100;
+
+    private final MockWebServer server = new MockWebServer();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Coin, Script> scripts = new ConcurrentHashMap<>();
+    private final Map<Coin, List<DayCandle>> dayCandles = new EnumMap<>(Coin.class);
+    private final ConcurrentHashMap<String, Account> accounts = new ConcurrentHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger throttled = new AtomicInteger();
+    private final AtomicInteger filled = new AtomicInteger();
+    private volatile long minLatencyMillis;
+    private volatile long maxLatencyMillis;
+    private volatile double throttleRate;
+    private volatile double provisionKrw = Double.NaN; // 미등록 access key 자동 개설 (단독 실행용)
+
+    public UpbitSimulator() {
+        for (Coin coin : Coin.values()) {
+            scripts.put(coin, new Script(PricePath.constant(1), System.currentTimeMillis()));
+            dayCandles.put(coin, new CopyOnWriteArrayList<>());
+        }
+        server.setDispatcher(this);
+    }
+
+    /**
+     * 시간(경로 등록 후 경과 ms)에 따른 가격
+     */
+    @FunctionalInterface
+    public interface PricePath {
+        double price(long elapsedMillis);
+
+        static PricePath constant(double price) {
+            return elapsed -> price;
+        }
+
+        /**
+         * step 간격마다 다음 가격으로 바뀌고 마지막 가격은 유지
+         */
+        static PricePath steps(Duration step, double... prices) {
+            long stepMillis = step.toMillis();
+            return elapsed -> prices[(int) Math.min(prices.length - 1, elapsed / stepMillis)];
+        }
+
+        /**
+         * 고정 시드 랜덤 워크, 1초마다 표준편차 volatility 비율로 움직임
+         */
+        static PricePath randomWalk(double start, double volatility, long seed) {
+            SplittableRandom random = new SplittableRandom(seed);
+            List<Double> prices = new ArrayList<>(List.of(start));
+            return elapsed -> {
+                int second = (int) (elapsed / 1000);
+                synchronized (prices) {
+                    while (prices.size() <= second) {
+                        prices.add(prices.getLast() * (1 + (random.nextDouble() - 0.5) * 2 * volatility));
+                    }
+                    return prices.get(second);
+                }
+            };
+        }
+    }
+
+    private record Script(PricePath path, long since) {
+    }
+
+    public record DayCandle(LocalDate day, double open, double high, double low, double close) {
+    }
+
+    public UpbitSimulator start() throws IOException {
+        return start(0);
+    }
+
+    public UpbitSimulator start(int port) throws IOException {
+        server.start(port);
+        return this;
+    }
+
+    /**
+     * 앱의 upbit.server-url 로 넘길 주소 (끝의 / 제외)
+     */
+    public String url() {
+        return server.url("").toString().replaceAll("/$", "");
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    public UpbitSimulator price(Coin coin, double price) {
+        return script(coin, PricePath.constant(price));
+    }
+
+    /**
+     * 가격 경로 교체, 경과 시간은 교체 시점부터 센다
+     */
+    public UpbitSimulator script(Coin coin, PricePath path) {
+        scripts.put(coin, new Script(path, System.currentTimeMillis()));
+        return this;
+    }
+
+    public UpbitSimulator dayCandle(Coin coin, LocalDate day, double open, double high, double low, double close) {
+        dayCandles.get(coin).add(new DayCandle(day, open, high, low, close));
+        return this;
+    }
+
+    public UpbitSimulator latency(Duration min, Duration max) {
+        this.minLatencyMillis = min.toMillis();
+        this.maxLatencyMillis = Math.max(min.toMillis(), max.toMillis());
+        return this;
+    }
+
+    /**
+     * 전체 요청 중 rate 비율을 429 too_many_requests 로 응답
+     */
+    public UpbitSimulator throttle(double rate) {
+        this.throttleRate = rate;
+        return this;
+    }
+
+    public UpbitSimulator account(String accessKey, String secretKey, double krw) {
+        accounts.put(accessKey, new Account(Algorithm.HMAC256(secretKey), krw));
+        return this;
+    }
+
+    /**
+     * 등록되지 않은 access key로 요청이 오면 krw 잔고로 계좌를 만들고 서명 검증은 생략 (단독 실행용)
+     */
+    public UpbitSimulator autoProvision(double krw) {
+        this.provisionKrw = krw;
+        return this;
+    }
+
+    public double balance(String accessKey, String currency) {
+        Account account = accounts.get(accessKey);
+        if (account == null) return 0;
+        synchronized (account) {
+            return account.balances.getOrDefault(currency, 0d);
+        }
+    }
+
+    public int requests() {
+        return requests.get();
+    }
+
+    public int throttled() {
+        return throttled.get();
+    }
+
+    public int filledOrders() {
+        return filled.get();
+    }
+
+    public double currentPrice(Coin coin) {
+        Script script = scripts.get(coin);
+        return script.path().price(System.currentTimeMillis() - script.since());
+    }
+
+    @NotNull
+    @Override
+    public MockResponse dispatch(@NotNull RecordedRequest request) {
+        requests.incrementAndGet();
+        MockResponse response = route(request);
+        if (maxLatencyMillis > 0) {
+            long delay = minLatencyMillis == maxLatencyMillis
+                    ? minLatencyMillis
+                    : ThreadLocalRandom.current().nextLong(minLatencyMillis, maxLatencyMillis + 1);
+            response.setHeadersDelay(delay, TimeUnit.MILLISECONDS);
+        }
+        return response;
+    }
+
+    private MockResponse route(RecordedRequest request) {
+        if (throttleRate > 0 && ThreadLocalRandom.current().nextDouble() < throttleRate) {
+            throttled.incrementAndGet();
+            return error(429, "too_many_requests", "Too many API requests.");
+        }
+
+        HttpUrl url = request.getRequestUrl();
+        String path = url == null ? "" : url.encodedPath();
+        try {
+            return switch (request.getMethod() + " " + path) {
+                case "GET /v1/ticker" -> ticker(url);
+                case "GET /v1/candles/days" -> candles(url);
+                case "GET /v1/accounts" -> authenticated(request, null, this::accounts);
+                case "POST /v1/orders" -> order(request);
+                case "GET /v1/orders/closed" -> authenticated(request, url.query(), account -> closedOrders(account, url));
+                default -> error(404, "not_found", path);
+            };
+        } catch (RuntimeException | JsonProcessingException e) {
+            return error(400, "invalid_parameter", String.valueOf(e.getMessage()));
+        }
+    }
+
+    private MockResponse ticker(HttpUrl url) throws JsonProcessingException {
+        String markets = url.queryParameter("markets");
+        if (markets == null) return error(400, "invalid_parameter", "markets");
+        long now = System.currentTimeMillis();
+        List<Map<String, Object>> tickers = new ArrayList<>();
+        for (String market : markets.split(",")) {
+            Coin coin = Coin.ofMarketCode(market.trim());
+            if (coin == null) return error(404, "market_not_found", market);
+            Map<String, Object> ticker = new LinkedHashMap<>();
+            ticker.put("market", market.trim());
+            ticker.put("trade_price", currentPrice(coin));
+            ticker.put("trade_timestamp", now);
+            ticker.put("timestamp", now);
+            tickers.add(ticker);
+        }
+        return json(200, tickers);
+    }
+
+    private MockResponse candles(HttpUrl url) throws JsonProcessingException {
+        Coin coin = Coin.ofMarketCode(String.valueOf(url.queryParameter("market")));
+        if (coin == null) return error(404, "market_not_found", url.queryParameter("market"));
+        int count = url.queryParameter("count") != null ? Integer.parseInt(url.queryParameter("count")) : 1;
+        String to = url.queryParameter("to");
+        // to(UTC, 미포함) 이전에 시작한 캔들만, 형식은 yyyy-MM-ddTHH:mm:ss[Z] 또는 yyyy-MM-dd HH:mm:ss
+        LocalDateTime before = to != null ? LocalDateTime.parse(to.substring(0, 19).replace(' ', 'T')) : LocalDateTime.MAX;
+
+        List<Map<String, Object>> candles = dayCandles.get(coin).stream()
+                .filter(candle -> candle.day().atStartOfDay().isBefore(before))
+                .sorted(Comparator.comparing(DayCandle::day).reversed())
+                .limit(count)
+                .map(candle -> {
+                    Map<String, Object> body = new LinkedHashMap<>();
+                    body.put("market", coin.getMarketCode());
+                    body.put("candle_date_time_utc", candle.day() + "T00:00:00");
+                    body.put("candle_date_time_kst", candle.day() + "T09:00:00");
+                    body.put("opening_price", candle.open());
+                    body.put("high_price", candle.high());
+                    body.put("low_price", candle.low());
+                    body.put("trade_price", candle.close());
+                    body.put("timestamp", candle.day().atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli());
+                    body.put("candle_acc_trade_price", 0d);
+                    body.put("candle_acc_trade_volume", 0d);
+                    return body;
+                })
+                .toList();
+        return json(200, candles);
+    }
+
+    private MockResponse accounts(Account account) throws JsonProcessingException {
+        List<Map<String, Object>> body = new ArrayList<>();
+        synchronized (account) {
+            account.balances.forEach((currency, balance) -> {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("currency", currency);
+                entry.put("balance", plain(balance));
+                entry.put("locked", "0");
+                entry.put("avg_buy_price", plain(account.avgBuyPrices.getOrDefault(currency, 0d)));
+                entry.put("avg_buy_price_modified", false);
+                entry.put("unit_currency", "KRW");
+                body.add(entry);
+            });
+        }
+        return json(200, body);
+    }
+
+    private MockResponse order(RecordedRequest request) throws JsonProcessingException {
+        Map<String, String> params = objectMapper.readValue(request.getBody().readUtf8(), new TypeReference<LinkedHashMap<String, String>>() {
+        });
+        // 본문 필드 순서 그대로 쿼리 문자열을 만들어 query_hash 비교 (클라이언트와 같은 규칙)
+        String query = params.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining("&"));
+        return authenticated(request, query, account -> placeOrder(account, params));
+    }
+
+    private MockResponse placeOrder(Account account, Map<String, String> params) throws JsonProcessingException {
+        Coin coin = Coin.ofMarketCode(String.valueOf(params.get("market")));
+        if (coin == null) return error(400, "market_does_not_exist", params.get("market"));
+        String side = params.get("side");
+        double price = currentPrice(coin);
+
+        Map<String, Object> order = new LinkedHashMap<>();
+        order.put("uuid", UUID.randomUUID().toString());
+        order.put("side", side);
+        order.put("ord_type", params.get("ord_type"));
+        order.put("market", coin.getMarketCode());
+        order.put("created_at", Instant.now().toString());
+
+        synchronized (account) {
+            if ("bid".equals(side) && "price".equals(params.get("ord_type"))) {
+                double funds = Double.parseDouble(params.get("price"));
+                double fee = funds * FEE;
+                if (account.balance("KRW") < funds + fee) return error(400, "insufficient_funds_bid", "주문가능한 금액(KRW)이 부족합니다.");
+                double volume = funds / price;
+                account.add("KRW", -(funds + fee));
+                account.buy(coin.name(), volume, price);
+                order.put("price", plain(funds));
+                order.put("volume", null);
+                order.put("locked", plain(funds + fee));
+                order.put("executed_volume", plain(volume));
+                order.put("executed_funds", plain(funds));
+                order.put("paid_fee", plain(fee));
+            } else if ("ask".equals(side) && "market".equals(params.get("ord_type"))) {
+                double volume = Double.parseDouble(params.get("volume"));
+                if (volume <= 0 || account.balance(coin.name()) < volume) return error(400, "insufficient_funds_ask", "주문가능한 금액(" + coin + ")이 부족합니다.");
+                double funds = volume * price;
+                double fee = funds * FEE;
+                account.add(coin.name(), -volume);
+                account.add("KRW", funds - fee);
+                order.put("price", null);
+                order.put("volume", plain(volume));
+                order.put("locked", plain(volume));
+                order.put("executed_volume", plain(volume));
+                order.put("executed_funds", plain(funds));
+                order.put("paid_fee", plain(fee));
+            } else {
+                return error(400, "invalid_ord_type", side + "/" + params.get("ord_type"));
+            }
+            order.put("state", "done");
+            account.orders.addFirst(order);
+            if (account.orders.size() > MAX_ORDERS_PER_ACCOUNT) account.orders.removeLast();
+        }
+        filled.incrementAndGet();
+        return json(201, order);
+    }
+
+    private MockResponse closedOrders(Account account, HttpUrl url) throws JsonProcessingException {
+        String market = url.queryParameter("market");
+        int limit = url.queryParameter("limit") != null ? Integer.parseInt(url.queryParameter("limit")) : 100;
+        List<Map<String, Object>> orders;
+        synchronized (account) {
+            orders = account.orders.stream()
+                    .filter(order -> market == null || market.equals(order.get("market")))
+                    .limit(limit)
+                    .toList();
+        }
+        return json(200, orders);
+    }
+
+    @FunctionalInterface
+    private interface AccountHandler {
+        MockResponse handle(Account account) throws JsonProcessingException;
+    }
+
+    /**
+     * JWT 서명과 query_hash 확인 후 처리, 실패 응답은 업비트와 같은 error.name 사용
+     */
+    private MockResponse authenticated(RecordedRequest request, String query, AccountHandler handler) throws JsonProcessingException {
+        String authorization = request.getHeader("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ")) return error(401, "jwt_verification", "Authorization 헤더 없음");
+
+        DecodedJWT jwt;
+        try {
+            jwt = JWT.decode(authorization.substring(7));
+        } catch (JWTVerificationException e) {
+            return error(401, "jwt_verification", e.getMessage());
+        }
+        String accessKey = jwt.getClaim("access_key").asString();
+        Account account = accessKey == null ? null : accounts.get(accessKey);
+        if (account == null && accessKey != null && !Double.isNaN(provisionKrw)) {
+            account = accounts.computeIfAbsent(accessKey, key -> new Account(null, provisionKrw));
+        }
+        if (account == null) return error(401, "invalid_access_key", "잘못된 엑세스 키입니다.");
+
+        if (account.verifier != null) {
+            try {
+                JWT.require(account.verifier).build().verify(jwt);
+            } catch (JWTVerificationException e) {
+                return error(401, "jwt_verification", e.getMessage());
+            }
+        }
+
+        if (query != null && !query.isEmpty()) {
+            String expected = sha512(decode(query));
+            if (!expected.equals(jwt.getClaim("query_hash").asString())
+                    || !"SHA512".equals(jwt.getClaim("query_hash_alg").asString())) {
+                return error(401, "invalid_query_payload", "query_hash 불일치");
+            }
+        }
+        return handler.handle(account);
+    }
+
+    private static String decode(String query) {
+        return URLDecoder.decode(query, StandardCharsets.UTF_8);
+    }
+
+    private static String sha512(String value) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-512");
+            return String.format("%0128x", new BigInteger(1, md.digest(value.getBytes(StandardCharsets.UTF_8))));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String plain(double value) {
+        return BigDecimal.valueOf(value).toPlainString();
+    }
+
+    private MockResponse json(int status, Object body) throws JsonProcessingException {
+        return new MockResponse()
+                .setResponseCode(status)
+                .setHeader("Content-Type", "application/json; charset=utf-8")
+                .setBody(objectMapper.writeValueAsString(body));
+    }
+
+    private MockResponse error(int status, String name, String message) {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("name", name);
+        error.put("message", message);
+        try {
+            return json(status, Map.of("error", error));
+        } catch (JsonProcessingException e) {
+            return new MockResponse().setResponseCode(status);
+        }
+    }
+
+    /**
+     * 계좌, 잔고 / 주문 내역은 계좌 단위로 동기화
+     */
+    private static final class Account {
+        private final Algorithm verifier; // null이면 서명 검증 생략
+        private final Map<String, Double> balances = new LinkedHashMap<>();
+        private final Map<String, Double> avgBuyPrices = new LinkedHashMap<>();
+        private final Deque<Map<String, Object>> orders = new ArrayDeque<>();
+
+        private Account(Algorithm verifier, double krw) {
+            this.verifier = verifier;
+            balances.put("KRW", krw);
+        }
+
+        private double balance(String currency) {
+            return balances.getOrDefault(currency, 0d);
+        }
+
+        private void add(String currency, double amount) {
+            balances.merge(currency, amount, Double::sum);
+        }
+
+        private void buy(String currency, double volume, double price) {
+            double held = balance(currency);
+            double avg = avgBuyPrices.getOrDefault(currency, 0d);
+            avgBuyPrices.put(currency, (held * avg + volume * price) / (held + volume));
+            add(currency, volume);
+        }
+    }
+
+    /**
+     * 단독 실행: 랜덤 워크 시세와 전일 일봉을 채우고, 처음 보는 access key는 100만원 계좌로 자동 개설
+     * 인자: [포트(기본 8090)] [지연 최소 ms] [지연 최대 ms] [429 비율]
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8090;
+        UpbitSimulator simulator = new UpbitSimulator().autoProvision(1_000_000);
+        if (args.length > 2) simulator.latency(Duration.ofMillis(Long.parseLong(args[1])), Duration.ofMillis(Long.parseLong(args[2])));
+        if (args.length > 3) simulator.throttle(Double.parseDouble(args[3]));
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        double[] starts = {150_000_000, 5_000_000, 3_000};
+        for (Coin coin : Coin.values()) {
+            double start = starts[coin.ordinal() % starts.length];
+            for (int day = 30; day >= 1; day--) {
+                simulator.dayCandle(coin, today.minusDays(day), start, start * 1.03, start * 0.97, start);
+            }
+            simulator.script(coin, PricePath.randomWalk(start, 0.002, coin.ordinal()));
+        }
+        simulator.start(port);
+        System.out.println("업비트 시뮬레이터 실행: " + simulator.url());
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,121 @@
+package coin.cointrading.simulator;
+
+import coin.cointrading.domain.Coin;
+import coin.cointrading.domain.User;
+import coin.cointrading.dto.AccountResponse;
+import coin.cointrading.dto.OrderResponse;
+import coin.cointrading.exception.UpbitApiException;
+import coin.cointrading.service.BalanceCache;
+import coin.cointrading.service.impl.UpbitServiceImpl;
+import coin.cointrading.util.JwtTokenProvider;
+import coin.cointrading.util.UpbitCredential;
+import coin.cointrading.util.UpbitCredentialCache;
+import coin.cointrading.util.UpbitHttpClient;
+import coin.cointrading.util.UpbitRateLimiter;
+import coin.cointrading.util.UpbitRequestSigner;
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static coin.cointrading.domain.Role.USER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UpbitSimulatorTest {
+
+    private UpbitSimulator simulator;
+    private UpbitRateLimiter rateLimiter;
+    private UpbitHttpClient upbitHttpClient;
+    private JwtTokenProvider jwtTokenProvider;
+    private UpbitServiceImpl upbitService;
+    private User user;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        simulator = new UpbitSimulator()
+                .account("accessKey", "secretKey", 1_000_000)
+                .price(Coin.BTC, 100_000)
+                .start();
+        rateLimiter = new UpbitRateLimiter(new SimpleMeterRegistry(), 10, 30, 8);
+        upbitHttpClient = new UpbitHttpClient(new OkHttpClient(), rateLimiter, new SimpleMeterRegistry(), simulator.url());
+
+        UpbitCredentialCache credentialCache = mock(UpbitCredentialCache.class);
+        when(credentialCache.get(any())).thenAnswer(invocation -> {
+            User requestUser = invocation.getArgument(0);
+            return UpbitCredential.of(requestUser.getUpbitAccessKey(), requestUser.getUpbitSecretKey().getBytes(StandardCharsets.UTF_8));
+        });
+        jwtTokenProvider = new JwtTokenProvider(credentialCache, new UpbitRequestSigner());
+        upbitService = new UpbitServiceImpl(jwtTokenProvider, upbitHttpClient, new BalanceCache(new SimpleMeterRegistry(), 30000));
+        user = new User("test1", "password", "nickName", "secretKey", "accessKey", USER);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        rateLimiter.shutdown();
+        simulator.close();
+    }
+
+    @Test
+    void orderCoins_buyThenSellSettlesBalancesAndClosedOrders() throws Exception {
+        // when - 매수 후 가격 10% 상승 시 매도
+        OrderResponse buy = upbitService.orderCoins("buy", user, Coin.BTC).get();
+        simulator.price(Coin.BTC, 110_000);
+        OrderResponse sell = upbitService.orderCoins("sell", user, Coin.BTC).get();
+        List<Map<String, Object>> orders = upbitService.getOrders(user, 2, Coin.BTC).get();
+
+        // then - 매수 금액은 잔고 * 0.9995 내림, 수수료 0.05%
+        double funds = Math.floor(1_000_000 * 0.9995);
+        assertThat(Double.parseDouble(buy.getExecutedVolume())).isCloseTo(funds / 100_000, within(1e-9));
+        assertThat(Double.parseDouble(buy.getLocked())).isCloseTo(funds * 1.0005, within(1e-6));
+        assertThat(sell.getSide()).isEqualTo("ask");
+        assertThat(simulator.balance("accessKey", "BTC")).isZero();
+        double expectedKrw = 1_000_000 - funds * 1.0005 + funds / 100_000 * 110_000 * 0.9995;
+        assertThat(simulator.balance("accessKey", "KRW")).isCloseTo(expectedKrw, within(1e-6));
+        assertThat(orders).extracting(order -> order.get("side")).containsExactly("ask", "bid");
+        assertThat(orders.get(1)).containsKeys("paid_fee", "executed_funds", "executed_volume");
+    }
+
+    @Test
+    void post_rejectsTamperedBodyUnknownKeyAndInjectedThrottle() throws Exception {
+        // given - 10만원 주문으로 서명한 토큰에 100만원 주문 본문
+        HashMap<String, String> params = new HashMap<>();
+        params.put("market", "KRW-BTC");
+        params.put("side", "bid");
+        params.put("ord_type", "price");
+        params.put("price", "100000");
+        String token = jwtTokenProvider.createOrderToken(params, user);
+        String tampered = "{\"market\":\"KRW-BTC\",\"side\":\"bid\",\"ord_type\":\"price\",\"price\":\"1000000\"}";
+        String unknownKey = jwtTokenProvider.createAccountToken("otherKey", "otherSecret");
+
+        // when & then
+        assertThatThrownBy(() -> UpbitHttpClient.await(upbitHttpClient.post("/v1/orders", tampered, token, "accessKey",
+                new TypeReference<OrderResponse>() {
+                })))
+                .isInstanceOfSatisfying(UpbitApiException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(401);
+                    assertThat(e.getResponseBody()).contains("invalid_query_payload");
+                });
+        assertThatThrownBy(() -> UpbitHttpClient.await(upbitHttpClient.get("/v1/accounts", unknownKey, "otherKey",
+                new TypeReference<List<AccountResponse>>() {
+                })))
+                .isInstanceOfSatisfying(UpbitApiException.class, e -> assertThat(e.getResponseBody()).contains("invalid_access_key"));
+
+        simulator.throttle(1);
+        assertThatThrownBy(() -> UpbitHttpClient.await(upbitHttpClient.quotation("/v1/ticker?markets=KRW-BTC")))
+                .isInstanceOfSatisfying(UpbitApiException.class, e -> assertThat(e.getStatusCode()).isEqualTo(429));
+        assertThat(simulator.balance("accessKey", "KRW")).isEqualTo(1_000_000);
+    }
+}
@@ -0,0 +1,169 @@
+package coin.cointrading.util;
+
+import coin.cointrading.config.UpbitApiConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 RestTemplate + 고정 스레드 풀과 공용 비동기 클라이언트의 서명된 계좌 조회 처리량 / 스레드 수 비교
+ * 업비트는 응답마다 고정 지연을 주는 로컬 스텁으로 대체 (./gradlew benchmark)
+ */
+@Tag("benchmark")
+class UpbitHttpClientLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UpbitHttpClientLoadTest.class);
+
+    private static final long UPBIT_LATENCY_MILLIS = 20;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final UpbitRateLimiter rateLimiter = new UpbitRateLimiter(new SimpleMeterRegistry(), 1_000_000, 1_000_000, 1_000_000); // 제한 없이 클라이언트 자체만 측정
+    private final UpbitRequestSigner signer = new UpbitRequestSigner();
+    private final UpbitCredential credential = UpbitCredential.of("accessKey", "secretKey".getBytes(StandardCharsets.UTF_8));
+    private MockWebServer server;
+    private String serverUrl;
+    private OkHttpClient okHttpClient;
+    private UpbitHttpClient client;
+    private int baseThreads; // 어느 클라이언트도 만들기 전 스레드 수
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) {
+                return new MockResponse()
+                        .setHeader("Content-Type", "application/json")
+                        .setHeadersDelay(UPBIT_LATENCY_MILLIS, TimeUnit.MILLISECONDS)
+                        .setBody("[{\"currency\":\"KRW\",\"balance\":\"1000000.0\"}]");
+            }
+        });
+        server.start();
+        serverUrl = server.url("").toString().replaceAll("/$", "");
+        baseThreads = clientThreads();
+        okHttpClient = new UpbitApiConfig().okHttpClient();
+        client = new UpbitHttpClient(okHttpClient, rateLimiter, new SimpleMeterRegistry(), serverUrl);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        okHttpClient.dispatcher().executorService().shutdown();
+        okHttpClient.connectionPool().evictAll();
+        rateLimiter.shutdown();
+        server.shutdown();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 1000})
+    void accountsThroughput(int requests) throws Exception {
+        // 방식별로 워밍업 후 측정, 비동기 클라이언트의 유휴 디스패처 스레드가 기존 방식 측정에 섞이지 않도록 순서대로
+        blocking(100);
+        Report blocking = report("restTemplate+pool(10)", requests, () -> blocking(requests));
+        async(100);
+        Report async = report("async okhttp", requests, () -> async(requests));
+
+        // 응답 대기 중 스레드를 잡지 않으므로 처리량은 2배 이상, 스레드는 디스패처 동시 요청 한도(128) 안에서만 늘어남
+        assertThat(async.throughput()).isGreaterThan(blocking.throughput() * 2);
+        assertThat(async.peakThreads()).isLessThanOrEqualTo(128);
+    }
+
+    private void blocking(int requests) throws Exception {
+        RestTemplate restTemplate = new RestTemplateBuilder().build(); // 이전 방식 비교용
+        try (ExecutorService executor = Executors.newFixedThreadPool(10)) {
+            List<Future<String>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    HttpHeaders headers = new HttpHeaders();
+                    headers.set(HttpHeaders.AUTHORIZATION, signer.sign(credential));
+                    return restTemplate.exchange(serverUrl + "/v1/accounts", HttpMethod.GET, new HttpEntity<>(headers), String.class)
+                            .getBody();
+                }));
+            }
+            for (Future<String> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private void async(int requests) throws Exception {
+        CompletableFuture<?>[] futures = new CompletableFuture[requests];
+        for (int i = 0; i < requests; i++) {
+            futures[i] = client.get("/v1/accounts", signer.sign(credential), credential.accessKey());
+        }
+        CompletableFuture.allOf(futures).get();
+    }
+
+    private Report report(String mode, int requests, Run run) throws Exception {
+        AtomicInteger peak = new AtomicInteger(clientThreads());
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+            while (running.get()) {
+                peak.accumulateAndGet(clientThreads(), Math::max);
+                LockSupport.parkNanos(2_000_000);
+            }
+        });
+
+        long start = System.nanoTime();
+        run.run();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        running.set(false);
+        sampler.join();
+        Report report = new Report(requests / seconds, peak.get() - baseThreads);
+        log.info("[upbit-http] {} requests={} elapsed={}ms throughput={} req/s peakClientThreads=+{}",
+                mode, requests, Math.round(seconds * 1000), Math.round(report.throughput()), report.peakThreads());
+        return report;
+    }
+
+    /**
+     * 스텁 서버 스레드를 제외한 살아있는 스레드 수
+     */
+    private int clientThreads() {
+        int count = 0;
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (info != null && !info.getThreadName().startsWith("MockWebServer")) count++;
+        }
+        return count;
+    }
+
+    private interface Run {
+        void run() throws Exception;
+    }
+
+    private record Report(double throughput, int peakThreads) {
+    }
+}
@@ -0,0 +1,71 @@
+package coin.cointrading.util;
+
+import coin.cointrading.domain.Coin;
+import coin.cointrading.dto.UpbitCandlePage;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpbitJsonReaderTest {
+
+    @Test
+    void tradePrices_skipsUnknownMarketsAndNestedFields() throws Exception {
+        // given
+        String json = """
+                [{"market":"KRW-BTC","trade_price":145800000.0,"extra":{"a":[1,2,{"trade_price":1}]}},\
+                {"market":"KRW-DOGE","trade_price":500},\
+                {"trade_price":3100.5,"market":"KRW-XRP"}]""";
+
+        // when
+        Map<Coin, Double> prices = UpbitJsonReader.tradePrices(json);
+        double first = UpbitJsonReader.tradePrice(json);
+
+        // then
+        assertThat(prices).containsExactly(Map.entry(Coin.BTC, 145800000.0), Map.entry(Coin.XRP, 3100.5));
+        assertThat(first).isEqualTo(145800000.0);
+    }
+
+    @Test
+    void readCandles_appendsPagesWithEpochSeconds() throws Exception {
+        // given
+        String newer = """
+                [{"market":"KRW-BTC","candle_date_time_utc":"2024-02-29T23:59:59","opening_price":1,\
+                "high_price":3,"low_price":0.5,"trade_price":2,"candle_acc_trade_volume":10.5}]""";
+        String older = """
+                [{"candle_date_time_utc":"1999-12-31T00:00:00","opening_price":4,"high_price":4,\
+                "low_price":4,"trade_price":4}]""";
+        UpbitCandlePage page = new UpbitCandlePage();
+
+        // when
+        int first = UpbitJsonReader.readCandles(newer, page);
+        int second = UpbitJsonReader.readCandles(older, page);
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(1);
+        assertThat(page.size()).isEqualTo(2);
+        assertThat(page.time(0)).isEqualTo(LocalDateTime.parse("2024-02-29T23:59:59").toEpochSecond(ZoneOffset.UTC));
+        assertThat(page.time(1)).isEqualTo(LocalDateTime.parse("1999-12-31T00:00:00").toEpochSecond(ZoneOffset.UTC));
+        assertThat(page.high(0)).isEqualTo(3);
+        assertThat(page.low(0)).isEqualTo(0.5);
+        assertThat(page.close(0)).isEqualTo(2);
+        assertThat(page.volume(0)).isEqualTo(10.5);
+        assertThat(page.volume(1)).isZero();
+    }
+
+    @Test
+    void tick_ignoresStatusMessages() throws Exception {
+        // when
+        UpbitJsonReader.Tick tick = UpbitJsonReader.tick(
+                "{\"type\":\"ticker\",\"code\":\"KRW-ETH\",\"trade_price\":5000000,\"trade_timestamp\":1735794754000}");
+        UpbitJsonReader.Tick status = UpbitJsonReader.tick("{\"status\":\"UP\"}");
+
+        // then
+        assertThat(tick).isEqualTo(new UpbitJsonReader.Tick(Coin.ETH, 5000000, 1735794754000L));
+        assertThat(status).isNull();
+    }
+}
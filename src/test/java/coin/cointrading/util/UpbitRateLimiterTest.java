@@ -0,0 +1,135 @@
+package coin.cointrading.util;
+
+import coin.cointrading.util.UpbitRateLimiter.Group;
+import coin.cointrading.util.UpbitRateLimiter.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpbitRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong();
+    private final List<Scheduled> scheduled = new ArrayList<>();
+    private final List<String> sent = new ArrayList<>();
+    private final UpbitRateLimiter rateLimiter = new UpbitRateLimiter(meterRegistry, 10, 2, 1, now::get,
+            (task, delayNanos) -> scheduled.add(new Scheduled(now.get() + delayNanos, task)));
+
+    @Test
+    void submit_pacesRequestsBeyondBurst() {
+        // given - 거래 그룹 초당 2회
+        for (int i = 0; i < 4; i++) {
+            send(Group.EXCHANGE, "key", Priority.READ, "read" + i);
+        }
+
+        // when & then
+        assertThat(sent).containsExactly("read0", "read1");
+        assertThat(rateLimiter.queueDepth(Group.EXCHANGE)).isEqualTo(2);
+
+        advance(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(sent).containsExactly("read0", "read1", "read2");
+
+        advance(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(sent).containsExactly("read0", "read1", "read2", "read3");
+        assertThat(rateLimiter.queueDepth(Group.EXCHANGE)).isZero();
+        assertThat(meterRegistry.get("upbit.ratelimit.wait")
+                .tag("group", "EXCHANGE").tag("priority", "READ").timer().max(TimeUnit.MILLISECONDS)).isEqualTo(1000);
+    }
+
+    @Test
+    void submit_sendsOrderPathReadBeforeQueuedReads() {
+        // given
+        send(Group.EXCHANGE, "key", Priority.READ, "read0");
+        send(Group.EXCHANGE, "key", Priority.READ, "read1");
+        send(Group.EXCHANGE, "key", Priority.READ, "read2");
+
+        // when - 주문 전 잔고 조회
+        send(Group.EXCHANGE, "key", Priority.ORDER, "account");
+        advance(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // then
+        assertThat(sent).containsExactly("read0", "read1", "account");
+    }
+
+    @Test
+    void submit_readsDoNotSpendOrderBudget() {
+        // given - 같은 키의 조회 대기열이 밀린 상태
+        for (int i = 0; i < 4; i++) {
+            send(Group.EXCHANGE, "key", Priority.READ, "read" + i);
+        }
+
+        // when
+        send(Group.ORDER, "key", Priority.ORDER, "order0");
+        send(Group.ORDER, "key", Priority.ORDER, "order1");
+
+        // then - 주문은 초당 1회 제한만 받음
+        assertThat(sent).containsExactly("read0", "read1", "order0");
+        assertThat(rateLimiter.queueDepth(Group.ORDER)).isEqualTo(1);
+    }
+
+    @Test
+    void evictIdleBuckets_removesOnlyIdleBuckets() {
+        // given
+        send(Group.EXCHANGE, "idle", Priority.READ, "idle");
+        advance(TimeUnit.MINUTES.toNanos(5));
+        for (int i = 0; i < 3; i++) {
+            send(Group.EXCHANGE, "busy", Priority.READ, "busy" + i);
+        }
+
+        // when
+        rateLimiter.evictIdleBuckets();
+
+        // then - 대기 중인 요청이 있는 버킷은 유지, 정리된 키도 다시 요청 가능
+        assertThat(rateLimiter.bucketCount()).isEqualTo(1);
+        send(Group.EXCHANGE, "idle", Priority.READ, "again");
+        assertThat(sent).containsExactly("idle", "busy0", "busy1", "again");
+    }
+
+    @Test
+    void submit_keepsSeparateBucketsPerKeyAndGroup() {
+        // when
+        send(Group.EXCHANGE, "keyA", Priority.READ, "a0");
+        send(Group.EXCHANGE, "keyA", Priority.READ, "a1");
+        send(Group.EXCHANGE, "keyA", Priority.READ, "a2");
+        send(Group.EXCHANGE, "keyB", Priority.ORDER, "b0");
+        send(Group.QUOTATION, "server", Priority.READ, "q0");
+
+        // then
+        assertThat(sent).containsExactly("a0", "a1", "b0", "q0");
+    }
+
+    @Test
+    void submit_completesWithCallResult() {
+        // when
+        CompletableFuture<String> result = rateLimiter.submit(Group.QUOTATION, "server", Priority.READ,
+                () -> CompletableFuture.completedFuture("ticker"));
+
+        // then
+        assertThat(result).isCompletedWithValue("ticker");
+    }
+
+    private void send(Group group, String key, Priority priority, String name) {
+        rateLimiter.submit(group, key, priority, () -> {
+            sent.add(name);
+            return CompletableFuture.completedFuture(name);
+        });
+    }
+
+    // 가상 시계를 옮기고 그 시점까지 예약된 작업 실행
+    private void advance(long nanos) {
+        now.addAndGet(nanos);
+        List<Scheduled> due = scheduled.stream().filter(task -> task.runAt() <= now.get()).toList();
+        scheduled.removeAll(due);
+        due.forEach(task -> task.task().run());
+    }
+
+    private record Scheduled(long runAt, Runnable task) {
+    }
+}
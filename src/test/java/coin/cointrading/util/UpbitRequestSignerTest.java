@@ -0,0 +1,66 @@
+package coin.cointrading.util;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpbitRequestSignerTest {
+
+    private final UpbitRequestSigner signer = new UpbitRequestSigner();
+
+    @Test
+    void sign_sortsParamsAndMatchesBodyOrder() throws Exception {
+        // given
+        UpbitCredential credential = UpbitCredential.of("accessKey", "secretKey".getBytes(StandardCharsets.UTF_8));
+        Map<String, String> params = new HashMap<>();
+        params.put("side", "bid");
+        params.put("market", "KRW-BTC");
+        params.put("price", "999500.0");
+        params.put("ord_type", "price");
+
+        // when
+        String first = signer.sign(credential, params);
+        String second = signer.sign(credential, params);
+        String body = UpbitRequestSigner.body(params);
+
+        // then - 표준 HS256 검증기로 서명 확인, query_hash는 본문 순서의 쿼리 문자열 해시
+        DecodedJWT jwt = JWT.require(Algorithm.HMAC256("secretKey")).build().verify(first.substring("Bearer ".length()));
+        assertThat(jwt.getClaim("access_key").asString()).isEqualTo("accessKey");
+        assertThat(jwt.getClaim("query_hash").asString()).isEqualTo(sha512("market=KRW-BTC&ord_type=price&price=999500.0&side=bid"));
+        assertThat(jwt.getClaim("query_hash_alg").asString()).isEqualTo("SHA512");
+        assertThat(body).isEqualTo("{\"market\":\"KRW-BTC\",\"ord_type\":\"price\",\"price\":\"999500.0\",\"side\":\"bid\"}");
+        assertThat(JWT.decode(second.substring(7)).getClaim("nonce").asString()).isNotEqualTo(jwt.getClaim("nonce").asString());
+    }
+
+    @Test
+    void sign_verifiesWithLongSecretAndRawQueryWithoutParams() throws Exception {
+        // given - SHA-256 블록(64바이트)보다 긴 키는 해시한 값을 키로 사용
+        String secret = "s".repeat(100);
+        UpbitCredential credential = UpbitCredential.of("accessKey", secret.getBytes(StandardCharsets.UTF_8));
+        String query = "market=KRW-ETH&states[]=done&states[]=cancel&limit=2";
+
+        // when
+        String withQuery = signer.sign(credential, query);
+        String withoutQuery = signer.sign(credential);
+
+        // then
+        DecodedJWT jwt = JWT.require(Algorithm.HMAC256(secret)).build().verify(withQuery.substring(7));
+        assertThat(jwt.getClaim("query_hash").asString()).isEqualTo(sha512(query));
+        DecodedJWT account = JWT.require(Algorithm.HMAC256(secret)).build().verify(withoutQuery.substring(7));
+        assertThat(account.getClaim("query_hash").isMissing()).isTrue();
+    }
+
+    private String sha512(String value) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-512").digest(value.getBytes(StandardCharsets.UTF_8));
+        return String.format("%0128x", new BigInteger(1, digest));
+    }
+}